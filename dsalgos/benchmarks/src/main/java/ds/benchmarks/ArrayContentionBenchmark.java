@@ -0,0 +1,81 @@
+package ds.benchmarks;
+
+import ds.IArray;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Readers calling {@code find} against writers calling {@code syncInsert}/{@code syncDelete} on
+ * one shared {@link IArray}.
+ *
+ * <p>Reports throughput and the sampled latency distribution (p0.99 among others) for each
+ * {@link ArrayKind}. The reader to writer ratio defaults to 3:1; change it with {@code -tg
+ * readers,writers} and the total thread count with {@code -t}, which must be a multiple of the
+ * group size, e.g. {@code -tg 7,1 -t 64}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+@SuppressWarnings("checkstyle:VisibilityModifier")
+public class ArrayContentionBenchmark {
+
+  /** Room for the element every writer thread may hold beyond the prefill. */
+  private static final int WRITER_HEADROOM = 1024;
+
+  @Param public ArrayKind kind;
+
+  @Param({"1000", "100000"})
+  public int prefill;
+
+  private IArray array;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    array = kind.create(prefill + WRITER_HEADROOM);
+    for (long i = 0; i < prefill; i++) array.insert(i << 1);
+  }
+
+  /** Writer state: alternates between inserting a key and deleting it again. */
+  @State(Scope.Thread)
+  public static class Writer {
+    long pending;
+    boolean inserted;
+  }
+
+  @Benchmark
+  @Group("readWrite")
+  @GroupThreads(3)
+  public boolean find() {
+    return array.find(ThreadLocalRandom.current().nextLong(prefill << 1));
+  }
+
+  @Benchmark
+  @Group("readWrite")
+  @GroupThreads(1)
+  public boolean write(Writer writer) {
+    if (writer.inserted) {
+      writer.inserted = false;
+      return array.syncDelete(writer.pending);
+    }
+    writer.pending = ThreadLocalRandom.current().nextLong(prefill << 1);
+    writer.inserted = true;
+    return array.syncInsert(writer.pending) >= 0;
+  }
+}
@@ -0,0 +1,45 @@
+package ds.benchmarks;
+
+import ds.IArray;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Cost of the defensive copy every sort benchmark pays; subtract it to get the sort alone. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"-Xms1g", "-Xmx4g"})
+@State(Scope.Benchmark)
+@SuppressWarnings("checkstyle:VisibilityModifier")
+public class ArrayCopyBenchmark {
+
+  @Param({"16", "256", "4096", "65536", "1048576", "16777216", "100000000"})
+  public int size;
+
+  private IArray array;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    array = Distribution.RANDOM.generateArray(size);
+  }
+
+  @Benchmark
+  public IArray copy(ElementCounter counter) {
+    counter.elements += size;
+    return array.copy();
+  }
+}
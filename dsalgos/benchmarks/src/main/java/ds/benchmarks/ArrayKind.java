@@ -0,0 +1,27 @@
+package ds.benchmarks;
+
+import ds.HighArray;
+import ds.IArray;
+import ds.OrdArray;
+import ds.OrdArrayLock;
+import java.util.function.IntFunction;
+
+/** The {@link IArray} synchronization strategies, by name for use as a JMH parameter. */
+public enum ArrayKind {
+  /** Monitor on {@code AbstractArray.lock}. */
+  ORD_ARRAY(OrdArray::new),
+  /** Fair {@code ReentrantReadWriteLock} write lock. */
+  ORD_ARRAY_LOCK(OrdArrayLock::new),
+  /** Monitor on {@code AbstractArray.lock}, unordered. */
+  HIGH_ARRAY(HighArray::new);
+
+  private final IntFunction<IArray> factory;
+
+  ArrayKind(IntFunction<IArray> factory) {
+    this.factory = factory;
+  }
+
+  public IArray create(int capacity) {
+    return factory.apply(capacity);
+  }
+}
@@ -0,0 +1,90 @@
+package ds.benchmarks;
+
+import ds.BaseCase;
+import ds.ExecutionContext;
+import ds.IArray;
+import ds.ISort;
+import ds.MergeSort;
+import ds.QuickSort;
+import ds.QuickSortParallel;
+import ds.ShellSort;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The recursive sorts with each {@link BaseCase} for their short ranges.
+ *
+ * <p>Sizes are kept small enough for the in-place merge sort, and {@code 16} is sorted by the base
+ * case alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("checkstyle:VisibilityModifier")
+public class BaseCaseBenchmark {
+
+  /** The sorts taking a base case. */
+  public enum Algorithm {
+    QUICK_SORT(QuickSort::new),
+    MERGE_SORT(MergeSort::new),
+    SHELL_SORT(ShellSort::new),
+    /** Its partition needs a base case, so {@code NONE} stands for the library sort it used. */
+    QUICK_SORT_PARALLEL(
+        baseCase ->
+            new QuickSortParallel(
+                ExecutionContext.common(),
+                baseCase == BaseCase.NONE ? BaseCase.LIBRARY : baseCase));
+
+    private final Function<BaseCase, ISort> factory;
+
+    Algorithm(Function<BaseCase, ISort> factory) {
+      this.factory = factory;
+    }
+
+    public ISort create(BaseCase baseCase) {
+      return factory.apply(baseCase);
+    }
+  }
+
+  @Param public Algorithm algorithm;
+
+  @Param({"NONE", "INSERTION", "NETWORK"})
+  public BaseCase baseCase;
+
+  @Param({"16", "256", "4096"})
+  public int size;
+
+  @Param({"RANDOM"})
+  public Distribution distribution;
+
+  private IArray array;
+
+  private ISort sort;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    array = distribution.generateArray(size);
+    sort = algorithm.create(baseCase);
+  }
+
+  @Benchmark
+  public IArray sort(ElementCounter counter) {
+    counter.elements += size;
+    return sort.sort(array);
+  }
+}
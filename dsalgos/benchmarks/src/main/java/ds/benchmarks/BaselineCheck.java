@@ -0,0 +1,156 @@
+package ds.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compares a JMH CSV result against a checked-in baseline.
+ *
+ * <p>Usage: {@code BaselineCheck baseline.csv current.csv [tolerancePercent]}. Reports every
+ * score that got worse by more than the tolerance (default {@value #DEFAULT_TOLERANCE}%): larger
+ * for time per operation, smaller for throughput. Other units, such as allocation rates in
+ * MB/sec or allocation per operation in B/op, are reported but never fail the check. A time or
+ * throughput score without a baseline row is listed as missing and fails the check too, so a new
+ * benchmark or parameter needs its rows recorded. Exits with status 1 on regression or missing
+ * row.
+ */
+@SuppressWarnings({"PMD.LawOfDemeter", "PMD.SystemPrintln"})
+public final class BaselineCheck {
+
+  static final double DEFAULT_TOLERANCE = 10.0;
+  private static final double PERCENT = 100.0;
+  private static final String BENCHMARK = "Benchmark";
+  private static final String SCORE = "Score";
+  private static final String UNIT = "Unit";
+  private static final String PARAM = "Param: ";
+  private static final String PER_OP = "/op";
+  // the time units JMH reports, which B/op from the gc profiler shares the suffix with
+  private static final Set<String> TIME_UNITS = Set.of("ns", "us", "ms", "s", "min", "hr", "day");
+
+  private BaselineCheck() throws InstantiationException {
+    throw new InstantiationException("Private constructor for: " + BaselineCheck.class.getName());
+  }
+
+  public static void main(String... args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Usage: BaselineCheck baseline.csv current.csv [tolerancePercent]");
+      System.exit(2);
+    }
+    double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE;
+    Map<String, Score> baseline = read(Paths.get(args[0]));
+    Map<String, Score> current = read(Paths.get(args[1]));
+    int regressions = 0;
+    int missing = 0;
+    for (Map.Entry<String, Score> entry : current.entrySet()) {
+      Score base = baseline.get(entry.getKey());
+      Score now = entry.getValue();
+      if (base == null) {
+        boolean gated = now.isGated();
+        if (gated) ++missing;
+        System.out.printf(
+            "%s %s: %.3f %s (no baseline)%n",
+            gated ? "MISSING  " : "new      ",
+            entry.getKey(),
+            now.value,
+            now.unit);
+        continue;
+      }
+      double change = (now.value - base.value) * PERCENT / base.value;
+      boolean regressed = now.isWorseThan(base, tolerance);
+      if (regressed) ++regressions;
+      System.out.printf(
+          "%s %s: %.3f -> %.3f %s (%+.1f%%)%n",
+          regressed ? "REGRESSED" : "ok       ",
+          entry.getKey(),
+          base.value,
+          now.value,
+          now.unit,
+          change);
+    }
+    System.out.printf(
+        "%d regression(s) beyond %.1f%%, %d missing baseline row(s)%n",
+        regressions, tolerance, missing);
+    if (regressions > 0 || missing > 0) System.exit(1);
+  }
+
+  static Map<String, Score> read(Path path) throws IOException {
+    List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+    Map<String, Score> scores = new LinkedHashMap<>();
+    if (lines.isEmpty()) return scores;
+    List<String> header = split(lines.get(0));
+    int benchmark = header.indexOf(BENCHMARK);
+    int score = header.indexOf(SCORE);
+    int unit = header.indexOf(UNIT);
+    if (benchmark < 0 || score < 0 || unit < 0)
+      throw new IllegalArgumentException("Not a JMH CSV result: " + path);
+    for (String line : lines.subList(1, lines.size())) {
+      if (line.isBlank()) continue;
+      List<String> fields = split(line);
+      StringBuilder key = new StringBuilder(fields.get(benchmark));
+      for (int i = 0; i < header.size(); i++)
+        if (header.get(i).startsWith(PARAM) && i < fields.size() && !fields.get(i).isEmpty())
+          key.append(' ')
+              .append(header.get(i).substring(PARAM.length()))
+              .append('=')
+              .append(fields.get(i));
+      scores.put(
+          key.toString(), new Score(Double.parseDouble(fields.get(score)), fields.get(unit)));
+    }
+    return scores;
+  }
+
+  /** Splits one CSV line as written by JMH: comma separated, strings in double quotes. */
+  static List<String> split(String line) {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (c == '"') quoted = !quoted;
+      else if (c == ',' && !quoted) {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else field.append(c);
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  static final class Score {
+    final double value;
+    final String unit;
+
+    Score(double value, String unit) {
+      this.value = value;
+      this.unit = unit;
+    }
+
+    boolean isWorseThan(Score base, double tolerance) {
+      double limit = base.value * tolerance / PERCENT;
+      if (isTimePerOp()) return value - base.value > limit;
+      if (isThroughput()) return base.value - value > limit;
+      return false;
+    }
+
+    boolean isGated() {
+      return isTimePerOp() || isThroughput();
+    }
+
+    private boolean isThroughput() {
+      return unit.startsWith("ops/");
+    }
+
+    private boolean isTimePerOp() {
+      return unit.endsWith(PER_OP)
+          && TIME_UNITS.contains(unit.substring(0, unit.length() - PER_OP.length()));
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package ds.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ *
+ * <p>Accepts the usual JMH command line and, unless told otherwise, adds the GC profiler for
+ * allocation rates and writes CSV results to {@value #DEFAULT_RESULT}.
+ */
+public final class BenchmarkRunner {
+
+  static final String DEFAULT_RESULT = "jmh-result.csv";
+
+  private BenchmarkRunner() throws InstantiationException {
+    throw new InstantiationException("Private constructor for: " + BenchmarkRunner.class.getName());
+  }
+
+  @SuppressWarnings("PMD.LawOfDemeter")
+  public static void main(String... args) throws CommandLineOptionException, RunnerException {
+    CommandLineOptions cmdOptions = new CommandLineOptions(args);
+    ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmdOptions);
+    if (cmdOptions.getProfilers().isEmpty()) builder.addProfiler(GCProfiler.class);
+    if (!cmdOptions.getResultFormat().hasValue()) builder.resultFormat(ResultFormatType.CSV);
+    if (!cmdOptions.getResult().hasValue()) builder.result(DEFAULT_RESULT);
+    new Runner(builder.build()).run();
+  }
+}
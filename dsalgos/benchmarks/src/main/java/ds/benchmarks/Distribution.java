@@ -0,0 +1,77 @@
+package ds.benchmarks;
+
+import ds.HighArray;
+import ds.IArray;
+import java.util.Random;
+
+/** Input distributions used to drive the sort benchmarks. */
+public enum Distribution {
+  RANDOM {
+    @Override
+    void fill(long[] a, Random random) {
+      for (int i = 0; i < a.length; i++) a[i] = random.nextLong();
+    }
+  },
+  SORTED {
+    @Override
+    void fill(long[] a, Random random) {
+      for (int i = 0; i < a.length; i++) a[i] = i;
+    }
+  },
+  REVERSED {
+    @Override
+    void fill(long[] a, Random random) {
+      for (int i = 0; i < a.length; i++) a[i] = a.length - i;
+    }
+  },
+  FEW_UNIQUE {
+    @Override
+    void fill(long[] a, Random random) {
+      for (int i = 0; i < a.length; i++) a[i] = random.nextInt(FEW);
+    }
+  },
+  SAWTOOTH {
+    @Override
+    void fill(long[] a, Random random) {
+      int tooth = Math.max(1, a.length / TEETH);
+      for (int i = 0; i < a.length; i++) a[i] = i % tooth;
+    }
+  },
+  ORGAN_PIPE {
+    @Override
+    void fill(long[] a, Random random) {
+      int half = a.length >> 1;
+      for (int i = 0; i < a.length; i++) a[i] = i < half ? i : a.length - i;
+    }
+  };
+
+  private static final int FEW = 16;
+  private static final int TEETH = 8;
+  private static final long SEED = 0x5EED_D5A1_605L;
+
+  abstract void fill(long[] a, Random random);
+
+  /**
+   * Generates an array of the given size following this distribution.
+   *
+   * @param size number of elements
+   * @return freshly generated array; same seed, same content.
+   */
+  public long[] generate(int size) {
+    long[] a = new long[size];
+    fill(a, new Random(SEED));
+    return a;
+  }
+
+  /**
+   * Generates an unordered array of the given size following this distribution.
+   *
+   * @param size number of elements
+   * @return array holding the generated elements in generation order.
+   */
+  public IArray generateArray(int size) {
+    IArray array = new HighArray(size);
+    for (long val : generate(size)) array.insert(val);
+    return array;
+  }
+}
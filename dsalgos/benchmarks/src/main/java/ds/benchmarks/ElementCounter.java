@@ -0,0 +1,24 @@
+package ds.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Counts the elements processed by a benchmark so that JMH reports a secondary, per-element
+ * score ({@code elements}) next to the per-invocation one.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+@SuppressWarnings("checkstyle:VisibilityModifier")
+public class ElementCounter {
+
+  public long elements;
+
+  @Setup(Level.Iteration)
+  public void reset() {
+    elements = 0;
+  }
+}
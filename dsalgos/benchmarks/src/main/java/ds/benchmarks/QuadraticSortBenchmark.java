@@ -0,0 +1,71 @@
+package ds.benchmarks;
+
+import ds.IArray;
+import ds.ISort;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Quadratic sorts, including the in-place merge sort, capped at sizes they finish in reasonable
+ * time.
+ *
+ * <p>Each invocation sorts a fresh copy of the input, as {@link ISort#sort(IArray)} does; the
+ * {@code elements} secondary score is the time per element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("checkstyle:VisibilityModifier")
+public class QuadraticSortBenchmark {
+
+  @Param({
+    "BRICK_SORT",
+    "BRICK_SORT_MAX_MIN",
+    "BRICK_SORT_MAX_MIN_PARALLEL",
+    "BRICK_SORT_PARALLEL",
+    "BRICK_SORT_UNROLLED",
+    "BUBBLE_SORT",
+    "COCKTAIL_SHAKER_SORT",
+    "CYCLE_SORT",
+    "GNOME_SORT",
+    "INSERTION_SORT",
+    "MERGE_SORT",
+    "SELECTION_SORT"
+  })
+  public Sorter sorter;
+
+  @Param({"16", "256", "4096", "65536"})
+  public int size;
+
+  @Param public Distribution distribution;
+
+  private IArray array;
+
+  private ISort sort;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    array = distribution.generateArray(size);
+    sort = sorter.create();
+  }
+
+  @Benchmark
+  public IArray sort(ElementCounter counter) {
+    counter.elements += size;
+    return sort.sort(array);
+  }
+}
@@ -0,0 +1,75 @@
+package ds.benchmarks;
+
+import ds.IArray;
+import ds.ISort;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sub-quadratic sorts over sizes from 16 to 100M elements.
+ *
+ * <p>Each invocation sorts a fresh copy of the input, as {@link ISort#sort(IArray)} does; the
+ * {@code elements} secondary score is the time per element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"-Xms1g", "-Xmx4g"})
+@State(Scope.Benchmark)
+@SuppressWarnings("checkstyle:VisibilityModifier")
+public class SortBenchmark {
+
+  @Param({
+    "QUICK_SORT",
+    "QUICK_SORT_PARALLEL",
+    "QUICK_SORT_DUAL_PIVOT_PARALLEL",
+    "MERGE_SORT_PARALLEL",
+    "MERGE_SORT_PARALLEL_BUFFERED",
+    "HEAP_SORT",
+    "INTRO_SORT",
+    "INTRO_SORT_PARALLEL",
+    "SAMPLE_SORT",
+    "TIM_SORT",
+    "SHELL_SORT",
+    "SHELL_SORT_BY_THREE",
+    "COMB_SORT",
+    "RADIX_SORT_LONG",
+    "RADIX_SORT_LONG_8"
+  })
+  public Sorter sorter;
+
+  @Param({"16", "256", "4096", "65536", "1048576", "16777216", "100000000"})
+  public int size;
+
+  @Param public Distribution distribution;
+
+  private IArray array;
+
+  private ISort sort;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    array = distribution.generateArray(size);
+    sort = sorter.create();
+  }
+
+  @Benchmark
+  public IArray sort(ElementCounter counter) {
+    counter.elements += size;
+    return sort.sort(array);
+  }
+}
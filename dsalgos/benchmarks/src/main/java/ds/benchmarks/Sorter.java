@@ -0,0 +1,72 @@
+package ds.benchmarks;
+
+import ds.BrickSort;
+import ds.BrickSortMaxMin;
+import ds.BrickSortMaxMinParallel;
+import ds.BrickSortParallel;
+import ds.BrickSortUnrolled;
+import ds.BubbleSort;
+import ds.CocktailShakerSort;
+import ds.CombSort;
+import ds.CycleSort;
+import ds.ExecutionContext;
+import ds.GnomeSort;
+import ds.HeapSort;
+import ds.ISort;
+import ds.InsertionSort;
+import ds.IntroSort;
+import ds.IntroSortParallel;
+import ds.MergeSort;
+import ds.MergeSortParallel;
+import ds.MergeSortParallel.Mode;
+import ds.QuickSort;
+import ds.QuickSortDualPivotParallel;
+import ds.QuickSortParallel;
+import ds.RadixSortLong;
+import ds.SampleSort;
+import ds.SelectionSort;
+import ds.ShellSort;
+import ds.ShellSortByThree;
+import ds.TimSort;
+import java.util.function.Supplier;
+
+/** Every {@link ISort} implementation in ds, by name for use as a JMH parameter. */
+public enum Sorter {
+  BRICK_SORT(BrickSort::new),
+  BRICK_SORT_MAX_MIN(BrickSortMaxMin::new),
+  BRICK_SORT_MAX_MIN_PARALLEL(BrickSortMaxMinParallel::new),
+  BRICK_SORT_PARALLEL(BrickSortParallel::new),
+  BRICK_SORT_UNROLLED(BrickSortUnrolled::new),
+  BUBBLE_SORT(BubbleSort::new),
+  COCKTAIL_SHAKER_SORT(CocktailShakerSort::new),
+  COMB_SORT(CombSort::new),
+  CYCLE_SORT(CycleSort::new),
+  GNOME_SORT(GnomeSort::new),
+  HEAP_SORT(HeapSort::new),
+  INSERTION_SORT(InsertionSort::new),
+  INTRO_SORT(IntroSort::new),
+  INTRO_SORT_PARALLEL(IntroSortParallel::new),
+  MERGE_SORT(MergeSort::new),
+  MERGE_SORT_PARALLEL(MergeSortParallel::new),
+  MERGE_SORT_PARALLEL_BUFFERED(() -> new MergeSortParallel(ExecutionContext.common(), Mode.BUFFERED)),
+  QUICK_SORT(QuickSort::new),
+  QUICK_SORT_PARALLEL(QuickSortParallel::new),
+  QUICK_SORT_DUAL_PIVOT_PARALLEL(QuickSortDualPivotParallel::new),
+  RADIX_SORT_LONG(RadixSortLong::new),
+  RADIX_SORT_LONG_8(() -> new RadixSortLong(8)),
+  SAMPLE_SORT(SampleSort::new),
+  SELECTION_SORT(SelectionSort::new),
+  SHELL_SORT(ShellSort::new),
+  SHELL_SORT_BY_THREE(ShellSortByThree::new),
+  TIM_SORT(TimSort::new);
+
+  private final Supplier<ISort> factory;
+
+  Sorter(Supplier<ISort> factory) {
+    this.factory = factory;
+  }
+
+  public ISort create() {
+    return factory.get();
+  }
+}
@@ -0,0 +1,2 @@
+/** JMH benchmarks for the ds sorts and arrays. */
+package ds.benchmarks;
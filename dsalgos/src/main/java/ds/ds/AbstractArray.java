@@ -1,21 +1,39 @@
 package ds;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongPredicate;
 
 public abstract class AbstractArray implements IArray {
-  protected final long[] a;
+  // replaced only when a growable variant resizes, under the lock of its writes
+  protected long[] a;
   protected final AtomicInteger nElems;
   protected final Object lock = new Object();
   protected boolean strict;
   protected AtomicInteger modCount;
+  // null for a fixed size
+  protected final GrowthPolicy policy;
 
   public AbstractArray(int max, boolean strict) {
+    this(max, strict, null);
+  }
+
+  /**
+   * An array that resizes by {@code policy}, or keeps its size if it is null.
+   *
+   * @throws IllegalArgumentException if {@code max} is not positive or above the maximum capacity
+   *     of {@code policy}
+   */
+  protected AbstractArray(int max, boolean strict, GrowthPolicy policy) {
     if (max <= 0) throw new IllegalArgumentException("Invalid size: " + max);
+    if (policy != null) policy.checkInitial(max);
     a = new long[max];
     nElems = new AtomicInteger();
     modCount = new AtomicInteger();
     this.strict = strict;
+    this.policy = policy;
   }
 
   /*** Constructs an array of default size 100. */
@@ -28,11 +46,50 @@ public abstract class AbstractArray implements IArray {
     this.nElems = new AtomicInteger(arr.nElems.intValue());
     this.strict = arr.strict;
     this.modCount = new AtomicInteger();
+    this.policy = arr.policy;
   }
 
   @Override
   public abstract IArray copy();
 
+  /** The policy the array resizes by, or null if its size is fixed. */
+  public GrowthPolicy getGrowthPolicy() {
+    return policy;
+  }
+
+  /** Elements the array holds before it has to grow. */
+  public int getCapacity() {
+    return a.length;
+  }
+
+  /**
+   * Makes room for at least {@code minCapacity} elements; fixed-size arrays have none to make.
+   *
+   * @throws ArrayIndexOutOfBoundsException if the array cannot grow
+   */
+  protected void grow(int minCapacity) {
+    if (policy == null) throw new ArrayIndexOutOfBoundsException(a.length);
+    resize(policy.grow(a.length, minCapacity));
+  }
+
+  /** Gives back room after a delete if the policy says so; fixed-size arrays keep theirs. */
+  protected void shrink() {
+    if (policy == null) return;
+    int capacity = policy.shrink(a.length, nElems.intValue());
+    if (capacity < a.length) resize(capacity);
+  }
+
+  /** Shrinks the capacity to the count, or to one element if empty; callers hold the write lock. */
+  protected void shrinkToSize() {
+    int length = Math.max(nElems.intValue(), 1);
+    if (length < a.length) resize(length);
+  }
+
+  /** Replaces the backing array by one of {@code capacity}, keeping the elements. */
+  protected void resize(int capacity) {
+    a = Arrays.copyOf(a, capacity);
+  }
+
   @SuppressWarnings("PMD.MethodReturnsInternalArray")
   @Override
   public long[] get() {
@@ -63,6 +120,66 @@ public abstract class AbstractArray implements IArray {
     }
   }
 
+  /**
+   * Removes every element matching {@code filter} in one pass, keeping the rest in order.
+   *
+   * @return the number of elements removed
+   */
+  public int removeIf(LongPredicate filter) {
+    requireNonNull(filter, "filter");
+    int length = nElems.intValue();
+    int kept = 0;
+    int i = 0;
+    try {
+      for (; i < length; i++) {
+        long value = a[i];
+        if (!filter.test(value)) a[kept++] = value;
+      }
+    } finally {
+      // a throwing filter leaves the elements not yet tested where the kept ones end
+      if (i < length) {
+        System.arraycopy(a, i, a, kept, length - i);
+        kept += length - i;
+      }
+      truncate(kept, length);
+    }
+    return length - kept;
+  }
+
+  /**
+   * Removes every occurrence of each of {@code values} in one pass, keeping the rest in order.
+   *
+   * @return the number of elements removed
+   */
+  public int removeAll(long... values) {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    return removeIf(value -> Arrays.binarySearch(sorted, value) >= 0);
+  }
+
+  /** As {@link #removeIf(LongPredicate)}, holding the lock of {@link #syncDelete}. */
+  public int syncRemoveIf(LongPredicate filter) {
+    synchronized (lock) {
+      return removeIf(filter);
+    }
+  }
+
+  /** As {@link #removeAll(long...)}, holding the lock of {@link #syncDelete}. */
+  public int syncRemoveAll(long... values) {
+    synchronized (lock) {
+      return removeAll(values);
+    }
+  }
+
+  /** Drops the elements from {@code kept} on, which were compacted out of {@code length}. */
+  protected void truncate(int kept, int length) {
+    if (kept == length) return;
+    modCount.incrementAndGet();
+    Arrays.fill(a, kept, length, 0L);
+    nElems.set(kept);
+    shrink();
+  }
+
   @Override
   public IArray sort(ISort sorter) {
     return sorter.sort(this);
@@ -74,4 +74,28 @@ public abstract class AbstractHeap implements IQueue {
     heapifyDown(0);
     return root;
   }
+
+  /**
+   * Removes the element at position {@code i}: the last element takes its place and is sifted up or
+   * down, through {@link #swap} so that subclasses can follow the moves.
+   */
+  protected long removeAt(int i) {
+    if (i < 0 || i >= nElems) throw new IndexOutOfBoundsException("Invalid position: " + i);
+    long removed = a[i];
+    if (i != --nElems) {
+      swap(i, nElems);
+      heapifyUp(i);
+      heapifyDown(i);
+    }
+    return removed;
+  }
+
+  /** Replaces the root by {@code element}, one sift down instead of a poll and an insert. */
+  public long replaceTop(long element) {
+    if (isEmpty()) throw new IllegalStateException("Queue empty: " + nElems + " elements.");
+    long root = a[0];
+    a[0] = element;
+    heapifyDown(0);
+    return root;
+  }
 }
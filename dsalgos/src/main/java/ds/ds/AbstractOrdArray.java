@@ -1,5 +1,8 @@
 package ds;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 
 /** Demonstrates array class with high-level interface. */
@@ -13,6 +16,10 @@ public abstract class AbstractOrdArray extends AbstractArray {
     super(max, strict);
   }
 
+  protected AbstractOrdArray(int max, boolean strict, GrowthPolicy policy) {
+    super(max, strict, policy);
+  }
+
   public AbstractOrdArray(AbstractOrdArray array) {
     super(array);
   }
@@ -54,7 +61,7 @@ public abstract class AbstractOrdArray extends AbstractArray {
   @Override
   public int insert(long value) {
     int length = nElems.intValue();
-    if (length == a.length) throw new ArrayIndexOutOfBoundsException(length);
+    if (length == a.length) grow(length + 1);
     return insert(value, length);
   }
 
@@ -75,6 +82,113 @@ public abstract class AbstractOrdArray extends AbstractArray {
     a[j] = value;
   }
 
+  /**
+   * Inserts all of {@code values}: the batch is sorted by an {@link IntroSort} and merged in, in
+   * {@code O(n + m log m)} instead of the {@code O(m n)} moves of one insert per value.
+   *
+   * @return the number of values inserted
+   * @throws ArrayIndexOutOfBoundsException if the batch does not fit, leaving the array as is
+   */
+  public int insertAll(long... values) {
+    return mergeSorted(sortBatch(values, values.length, null));
+  }
+
+  /** Inserts all elements of {@code values}, as by {@link #insertAll(long...)}. */
+  public int insertAll(IArray values) {
+    return mergeSorted(sortBatch(values.get(), values.count(), null));
+  }
+
+  /** Inserts all of {@code values}, sorted by {@code sorter}, as by {@link #insertAll(long...)}. */
+  public int insertAll(ISort sorter, long... values) {
+    return mergeSorted(sortBatch(values, values.length, requireNonNull(sorter, "sorter")));
+  }
+
+  /**
+   * Inserts all of {@code values} as {@link #insertAll(long...)} does, sorting the batch first and
+   * then taking the lock once for the merge.
+   */
+  public int syncInsertAll(long... values) {
+    long[] sorted = sortBatch(values, values.length, null);
+    synchronized (lock) {
+      return mergeSorted(sorted);
+    }
+  }
+
+  /** Inserts all elements of {@code values}, as by {@link #syncInsertAll(long...)}. */
+  public int syncInsertAll(IArray values) {
+    long[] sorted = sortBatch(values.get(), values.count(), null);
+    synchronized (lock) {
+      return mergeSorted(sorted);
+    }
+  }
+
+  /** A sorted copy of {@code values[0, length)}, by {@code sorter} or else an introsort. */
+  @SuppressWarnings("PMD.LawOfDemeter")
+  protected long[] sortBatch(long[] values, int length, ISort sorter) {
+    if (length < 0 || length > values.length)
+      throw new IllegalArgumentException("Illegal length: " + length);
+    if (length == 0) return new long[0];
+    long[] batch = Arrays.copyOf(values, length);
+    if (sorter != null && !(sorter instanceof AbstractSort)) {
+      HighArray array = new HighArray(length);
+      for (long value : batch) array.insert(value);
+      return sorter.sort(array).getExtentArray();
+    }
+    AbstractSort sort = (AbstractSort) sorter;
+    if (sort == null) {
+      sort = new IntroSort();
+      sort.setMetrics(SortMetrics.disabled());
+    }
+    // sorts in place, where sort(IArray) would copy the batch once more
+    sort.sort(batch, length);
+    return batch;
+  }
+
+  /**
+   * Merges {@code sorted} into the elements in one backward pass, after growing once if needed.
+   *
+   * @return the number of values merged
+   */
+  protected int mergeSorted(long[] sorted) {
+    int m = sorted.length;
+    if (m == 0) return 0;
+    int expectedCount = modCount.intValue();
+    int length = nElems.intValue();
+    if (m > a.length - length) grow(length + m);
+    if (strict) checkInsertConcurrent(expectedCount, sorted[0]);
+    modCount.incrementAndGet();
+    long[] target = a;
+    int i = length - 1;
+    int j = m - 1;
+    // fill from the back, so no element is overwritten before it moved
+    for (int k = length + m - 1; j >= 0; k--)
+      target[k] = i >= 0 && target[i] > sorted[j] ? target[i--] : sorted[j--];
+    nElems.addAndGet(m);
+    return m;
+  }
+
+  /**
+   * Removes every occurrence of each of {@code values}: the sorted values are walked along with the
+   * elements in one pass, in {@code O(n + m log m)}.
+   *
+   * @return the number of elements removed
+   */
+  @Override
+  public int removeAll(long... values) {
+    long[] sorted = sortBatch(values, values.length, null);
+    int m = sorted.length;
+    int length = nElems.intValue();
+    int kept = 0;
+    int j = 0;
+    for (int i = 0; i < length; i++) {
+      long value = a[i];
+      while (j < m && sorted[j] < value) ++j;
+      if (j == m || sorted[j] != value) a[kept++] = value;
+    }
+    truncate(kept, length);
+    return length - kept;
+  }
+
   protected void checkInsertConcurrent(int expectedCount, long value) {
     if (expectedCount < modCount.intValue()) {
       throw new ConcurrentModificationException("Error inserting value: " + value);
@@ -107,6 +221,7 @@ public abstract class AbstractOrdArray extends AbstractArray {
     if (j < 0) return false;
     if (strict) checkDeleteConcurrent(expectedCount, value);
     fastDelete(j, length);
+    shrink();
     return true;
   }
 
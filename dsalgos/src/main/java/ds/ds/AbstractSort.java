@@ -1,11 +1,16 @@
 package ds;
 
+import static java.util.Objects.requireNonNull;
+
 public abstract class AbstractSort implements ISort {
-  protected int comparisonCount;
-  protected int swapCount;
-  protected int copyCount;
-  protected int innerLoopCount;
-  protected int outerLoopCount;
+  protected static final String SORT_PHASE = "sort";
+  protected long comparisonCount;
+  protected long swapCount;
+  protected long copyCount;
+  protected long innerLoopCount;
+  protected long outerLoopCount;
+  protected SortMetrics metrics = SortMetrics.local();
+  protected boolean counting = true;
 
   protected boolean shouldSort(int length) {
     if (length < 0) throw new IllegalArgumentException("Illegal value for length: " + length);
@@ -13,13 +18,17 @@ public abstract class AbstractSort implements ISort {
     return length <= 1 ? false : true;
   }
 
-  protected abstract void sort(long[] array, int length);
+  protected abstract void sort(long[] a, int length);
 
   @SuppressWarnings("PMD.LawOfDemeter")
   @Override
   public IArray sort(IArray array) {
     IArray copy = array.copy();
+    long start = metrics.startPhase();
     sort(copy.get(), copy.count());
+    metrics.endPhase(SORT_PHASE, start);
+    if (counting)
+      metrics.add(comparisonCount, swapCount, copyCount, innerLoopCount, outerLoopCount);
     return copy;
   }
 
@@ -29,26 +38,53 @@ public abstract class AbstractSort implements ISort {
 
   protected void reset() {
     copyCount = swapCount = comparisonCount = innerLoopCount = outerLoopCount = 0;
+    metrics.reset();
+  }
+
+  /**
+   * Metrics gathered by the last call to {@link #sort(IArray)}, with 64 bit counts.
+   *
+   * @return the metrics strategy of this sort.
+   */
+  public SortMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Sets how this sort counts and times its operations.
+   *
+   * @param metrics one of {@link SortMetrics#disabled()}, {@link SortMetrics#local()} or {@link
+   *     SortMetrics#full()}
+   */
+  @SuppressWarnings("PMD.LawOfDemeter")
+  public void setMetrics(SortMetrics metrics) {
+    this.metrics = requireNonNull(metrics);
+    counting = metrics.isEnabled();
+  }
+
+  /** Narrows a 64 bit count for the int getters of {@link ISort}, saturating on overflow. */
+  protected static int saturatedCount(long count) {
+    return count > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) count;
   }
 
   @Override
   public int getCopyCount() {
-    return copyCount;
+    return saturatedCount(copyCount);
   }
 
   @Override
   public int getSwapCount() {
-    return swapCount;
+    return saturatedCount(swapCount);
   }
 
   @Override
   public int getComparisonCount() {
-    return comparisonCount;
+    return saturatedCount(comparisonCount);
   }
 
   @Override
   public int getTimeComplexity() {
-    return innerLoopCount == 0 ? outerLoopCount : innerLoopCount;
+    return saturatedCount(innerLoopCount == 0 ? outerLoopCount : innerLoopCount);
   }
 
   @SuppressWarnings("PMD.LawOfDemeter")
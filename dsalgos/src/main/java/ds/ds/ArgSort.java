@@ -0,0 +1,113 @@
+package ds;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Array;
+
+/**
+ * Sorts by a long key column and reports where every row went, so payload columns kept in parallel
+ * arrays can follow the keys without being boxed into records.
+ *
+ * <p>The sort is the stable {@link MergeSortParallel.Mode#BUFFERED} merge sort over the keys with
+ * their row indices carried alongside, ping-ponging between the columns and one buffer each,
+ * forking both halves and splitting large merges by binary search. The keys are compared where they
+ * are rather than looked up through the indices, and the payloads are moved once afterwards by a
+ * sequential gather, {@link #permute(int[], long[])}.
+ */
+public final class ArgSort {
+
+  private final ExecutionContext context;
+  private final MergeSortParallel mergeSort;
+
+  public ArgSort() {
+    this(ExecutionContext.common());
+  }
+
+  public ArgSort(ExecutionContext context) {
+    this.context = requireNonNull(context, "context");
+    this.mergeSort = new MergeSortParallel(context, MergeSortParallel.Mode.BUFFERED);
+  }
+
+  public ExecutionContext getExecutionContext() {
+    return context;
+  }
+
+  /**
+   * The stable sorting permutation of the elements of {@code array}, which is left as is.
+   *
+   * @return the index of the smallest element first; equal elements keep their order
+   */
+  public int[] argsort(IArray array) {
+    return argsort(array.get(), array.count());
+  }
+
+  /** The stable sorting permutation of {@code keys[0, length)}, which are left as is. */
+  public int[] argsort(long[] keys, int length) {
+    long[] sorted = new long[length];
+    System.arraycopy(keys, 0, sorted, 0, length);
+    return sortIndexed(sorted, length);
+  }
+
+  /**
+   * Sorts {@code keys[0, length)} stably and reorders the first {@code length} elements of every
+   * column the same way.
+   *
+   * @return the permutation applied: row {@code i} now holds what was row {@code permutation[i]}
+   * @throws IllegalArgumentException if a column is shorter than {@code length}
+   */
+  public int[] sort(long[] keys, int length, long[]... columns) {
+    for (long[] column : columns)
+      if (column.length < length)
+        throw new IllegalArgumentException("Column shorter than the keys: " + column.length);
+    int[] permutation = sortIndexed(keys, length);
+    long[] buffer = new long[length];
+    for (long[] column : columns) {
+      for (int i = 0; i < length; i++) buffer[i] = column[permutation[i]];
+      System.arraycopy(buffer, 0, column, 0, length);
+    }
+    return permutation;
+  }
+
+  /** Gathers {@code column[permutation[i]]} into a new array, as long as the permutation. */
+  public static long[] permute(int[] permutation, long[] column) {
+    long[] permuted = new long[permutation.length];
+    for (int i = 0; i < permutation.length; i++) permuted[i] = column[permutation[i]];
+    return permuted;
+  }
+
+  /** Gathers {@code column[permutation[i]]} into a new array, as long as the permutation. */
+  public static int[] permute(int[] permutation, int[] column) {
+    int[] permuted = new int[permutation.length];
+    for (int i = 0; i < permutation.length; i++) permuted[i] = column[permutation[i]];
+    return permuted;
+  }
+
+  /** Gathers {@code column[permutation[i]]} into a new array, as long as the permutation. */
+  public static double[] permute(int[] permutation, double[] column) {
+    double[] permuted = new double[permutation.length];
+    for (int i = 0; i < permutation.length; i++) permuted[i] = column[permutation[i]];
+    return permuted;
+  }
+
+  /** Gathers {@code column[permutation[i]]} into a new array, as long as the permutation. */
+  public static <T> T[] permute(int[] permutation, T[] column) {
+    @SuppressWarnings("unchecked")
+    T[] permuted =
+        (T[]) Array.newInstance(column.getClass().getComponentType(), permutation.length);
+    for (int i = 0; i < permutation.length; i++) permuted[i] = column[permutation[i]];
+    return permuted;
+  }
+
+  /** Sorts {@code keys[0, length)} in place and returns the row each key came from. */
+  private int[] sortIndexed(long[] keys, int length) {
+    int[] indices = new int[length];
+    for (int i = 0; i < length; i++) indices[i] = i;
+    sortPairs(keys, indices, length);
+    return indices;
+  }
+
+  /** Sorts {@code keys[0, length)} stably in place, moving {@code indices} along. */
+  void sortPairs(long[] keys, int[] indices, int length) {
+    mergeSort.sortPairs(keys, indices, length);
+  }
+}
@@ -0,0 +1,78 @@
+package ds;
+
+import java.util.Arrays;
+
+/** How a recursive sort finishes the short ranges left at the bottom of its recursion. */
+public enum BaseCase {
+  /**
+   * No base case; the sort recurses all the way down. It handles no length, and sorts a range
+   * handed to it anyway by insertion sort.
+   */
+  NONE(0) {
+    @Override
+    public long sort(long[] a, int from, int to) {
+      return INSERTION.sort(a, from, to);
+    }
+  },
+  /** {@link Arrays#sort(long[], int, int)}, uncounted. */
+  LIBRARY(8) {
+    @Override
+    public long sort(long[] a, int from, int to) {
+      Arrays.sort(a, from, to);
+      return 0;
+    }
+  },
+  /** Straight insertion sort. */
+  INSERTION(16) {
+    @Override
+    public long sort(long[] a, int from, int to) {
+      long comparisons = 0;
+      for (int i = from + 1; i < to; i++) {
+        long value = a[i];
+        int j = i - 1;
+        while (j >= from && a[j] > value) {
+          ++comparisons;
+          a[j + 1] = a[j];
+          --j;
+        }
+        if (j >= from) ++comparisons;
+        a[j + 1] = value;
+      }
+      return comparisons;
+    }
+  },
+  /** Branch-free {@link SortingNetwork}. */
+  NETWORK(16) {
+    @Override
+    public long sort(long[] a, int from, int to) {
+      return SortingNetwork.sort(a, from, to);
+    }
+  };
+
+  private final int threshold;
+
+  BaseCase(int threshold) {
+    this.threshold = threshold;
+  }
+
+  /**
+   * Longest range handed to the base case.
+   *
+   * @return the threshold, zero for {@link #NONE}
+   */
+  public int getThreshold() {
+    return threshold;
+  }
+
+  /** Whether a range of {@code length} elements is unsorted and short enough for the base case. */
+  public boolean handles(int length) {
+    return length > 1 && length <= threshold;
+  }
+
+  /**
+   * Sorts {@code a[from, to)}, at most {@link #getThreshold()} long.
+   *
+   * @return the number of comparisons made
+   */
+  public abstract long sort(long[] a, int from, int to);
+}
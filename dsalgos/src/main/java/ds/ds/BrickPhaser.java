@@ -0,0 +1,143 @@
+package ds;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Phaser;
+
+/**
+ * Odd-even transposition sort over contiguous blocks of pairs, one block per worker.
+ *
+ * <p>Inner block bounds are even, so no pair of a phase reaches into another block's pairs of the
+ * same phase and the blocks need no locking. Workers meet on the phaser after every phase and the
+ * last one to arrive reduces the swaps of the phase in {@link #onAdvance}, ending the sort once a
+ * whole round swapped nothing or every possible inversion has been undone.
+ */
+final class BrickPhaser extends Phaser {
+
+  static final int MIN_BLOCK_LENGTH = 1 << 12;
+
+  private final long[] a;
+  private final int[] bounds;
+  private final boolean oddFirst;
+  private final long maxSwaps;
+  // one slot per block, written by its worker only and read once the phase advanced
+  private final long[] swaps;
+  private final long[] comparisons;
+  // only touched in onAdvance
+  private long totalSwaps;
+  private long roundSwaps;
+  private long rounds;
+
+  /**
+   * Creates the blocks for {@code a[0, length)}.
+   *
+   * @param parallelism the most workers to use, the calling thread included
+   * @param oddFirst whether a round starts with the pairs at odd indices
+   */
+  @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+  BrickPhaser(long[] a, int length, int parallelism, boolean oddFirst) {
+    super(blockCount(length, parallelism));
+    this.a = a;
+    this.oddFirst = oddFirst;
+    this.maxSwaps = (long) length * (length - 1) >> 1;
+    int blocks = getRegisteredParties();
+    int pairs = length - 1;
+    bounds = new int[blocks + 1];
+    for (int b = 1; b < blocks; b++) bounds[b] = (int) ((long) pairs * b / blocks) & ~1;
+    bounds[blocks] = pairs;
+    swaps = new long[blocks];
+    comparisons = new long[blocks];
+  }
+
+  static int blockCount(int length, int parallelism) {
+    return Math.max(1, Math.min(parallelism, length / MIN_BLOCK_LENGTH));
+  }
+
+  /**
+   * Sorts the first block on the calling thread and the others on {@code service}.
+   *
+   * @throws ExecutionException if any block failed, the first block included, once every block
+   *     stopped
+   */
+  void sort(ExecutorService service) throws InterruptedException, ExecutionException {
+    int blocks = bounds.length - 1;
+    List<Future<?>> futures = new ArrayList<>(blocks - 1);
+    for (int b = 1; b < blocks; b++) {
+      int block = b;
+      futures.add(service.submit(() -> sweep(block)));
+    }
+    Throwable failure = null;
+    try {
+      sweep(0);
+    } catch (RuntimeException | Error e) {
+      failure = e;
+    }
+    // a failed block terminated the phaser, so the others stop at their next phase
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        if (failure == null) failure = e.getCause();
+        else failure.addSuppressed(e.getCause());
+      }
+    }
+    if (failure != null) throw new ExecutionException(failure);
+  }
+
+  private void sweep(int block) {
+    int from = bounds[block];
+    int to = bounds[block + 1];
+    long blockSwaps = 0;
+    long blockComparisons = 0;
+    try {
+      // the last party to arrive gets the next phase even when onAdvance ended the sort
+      for (int phase = 0; !isTerminated(); phase = arriveAndAwaitAdvance()) {
+        boolean odd = (phase & 1) == 0 == oddFirst;
+        for (int i = odd ? from + 1 : from; i < to; i += 2) {
+          ++blockComparisons;
+          long ai = a[i];
+          if (ai > a[i + 1]) {
+            a[i] = a[i + 1];
+            a[i + 1] = ai;
+            ++blockSwaps;
+          }
+        }
+        swaps[block] = blockSwaps;
+      }
+    } catch (RuntimeException | Error e) {
+      forceTermination();
+      throw e;
+    }
+    comparisons[block] = blockComparisons;
+  }
+
+  @Override
+  protected boolean onAdvance(int phase, int registeredParties) {
+    long phaseSwaps = -totalSwaps;
+    for (long blockSwaps : swaps) phaseSwaps += blockSwaps;
+    totalSwaps += phaseSwaps;
+    boolean firstOfRound = (phase & 1) == 0;
+    if (firstOfRound) {
+      ++rounds;
+      roundSwaps = phaseSwaps;
+    } else roundSwaps += phaseSwaps;
+    return totalSwaps >= maxSwaps || !firstOfRound && roundSwaps == 0;
+  }
+
+  long getSwaps() {
+    return totalSwaps;
+  }
+
+  long getComparisons() {
+    long sum = 0;
+    for (long blockComparisons : comparisons) sum += blockComparisons;
+    return sum;
+  }
+
+  long getRounds() {
+    return rounds;
+  }
+}
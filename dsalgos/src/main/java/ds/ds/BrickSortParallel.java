@@ -1,132 +1,66 @@
 package ds;
 
-import static ds.ArrayUtils.swapIfGreaterThan;
-import static ds.AssertionUtils.*;
-import static ds.ExecutorUtils.terminateExecutor;
-import static ds.MathUtils.*;
+import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 
-/** Not thread-safe with state variables. */
+/**
+ * Odd-even transposition sort, odd pairs first, splitting every phase into one contiguous block of
+ * pairs per worker of its {@link ExecutionContext}. Arrays up to {@code THRESHOLD} long are sorted
+ * sequentially. Not thread-safe with state variables.
+ */
 @Generated
 public class BrickSortParallel extends BrickSort {
 
   private static final int THRESHOLD = 40;
-  private final AtomicBoolean sorted = new AtomicBoolean();
-  private final AtomicInteger swapCount = new AtomicInteger();
+  private final ExecutionContext context;
 
-  @Override
-  protected void reset() {
-    super.reset();
-    sorted.getAndSet(false);
-    swapCount.set(0);
+  public BrickSortParallel() {
+    this(ExecutionContext.common());
+  }
+
+  public BrickSortParallel(ExecutionContext context) {
+    super();
+    this.context = requireNonNull(context, "context");
   }
 
-  private void sequentialSort(long[] a, int length) {
-    super.sort(a, length);
-    sorted.getAndSet(super.sorted);
-    swapCount.set(super.swapCount);
+  public ExecutionContext getExecutionContext() {
+    return context;
   }
 
   @SuppressWarnings("PMD.LawOfDemeter")
   @Override
   protected void sort(long[] a, int length) {
     if (!shouldSort(length)) {
-      sorted.getAndSet(true);
+      sorted = true;
       return;
     }
     if (length <= THRESHOLD) {
-      sequentialSort(a, length);
+      super.sort(a, length);
       return;
     }
-    ExecutorService service = Executors.newSingleThreadExecutor();
     try {
-      sortInterruptibly(a, length, service);
+      sortInterruptibly(a, length, context.getPool());
     } catch (ExecutionException | InterruptedException ee) {
       throw new CompletionException(ee);
-    } finally {
-      terminateExecutor(service, length, TimeUnit.MILLISECONDS);
     }
-    assertServiceTerminated(service);
   }
 
+  @SuppressWarnings("PMD.LawOfDemeter")
   protected void sortInterruptibly(long[] a, int length, ExecutorService service)
       throws InterruptedException, ExecutionException {
-    final int maxComparisons = computeMaxComparisons(length);
-    final int oddTaskCount = computeOddPairCount(length);
-    final int evenTaskCount = computeEvenPairCount(length);
-    while (!sorted.get()) {
-      ++outerLoopCount;
-      sorted.set(true);
-      oddSort(a, length, service, oddTaskCount);
-      if (swapCount.intValue() == maxComparisons) {
-        sorted.set(true);
-        break;
-      }
-      evenSort(a, length, service, evenTaskCount);
-      if (swapCount.intValue() == maxComparisons) sorted.set(true);
-    }
-  }
-
-  @SuppressWarnings({"PMD.LawOfDemeter", "PMD.SystemPrintln"})
-  protected void oddSort(long[] a, int length, ExecutorService service, int oddTaskCount)
-      throws InterruptedException, ExecutionException {
-    List<Future<Void>> futures = new ArrayList<>(oddTaskCount);
-    BubbleTask bt = new BubbleTask(this, a, 0);
-    for (int i = 1; i < length - 1; i += 2) {
-      ++innerLoopCount;
-      ++comparisonCount;
-      BubbleTask task = BubbleTask.createCopy(bt);
-      task.i = i;
-      futures.add(service.submit(task));
-    }
-    assertEquality(futures.size(), oddTaskCount);
-    for (Future future : futures) future.get();
-  }
-
-  @SuppressWarnings({"PMD.LawOfDemeter", "PMD.SystemPrintln"})
-  protected void evenSort(long[] a, int length, ExecutorService service, int evenTaskCount)
-      throws InterruptedException, ExecutionException {
-    List<Future<Void>> futures = new ArrayList<>(evenTaskCount);
-    BubbleTask bt = new BubbleTask(this, a, 0);
-    for (int i = 0; i < length - 1; i += 2) {
-      ++innerLoopCount;
-      ++comparisonCount;
-      BubbleTask task = BubbleTask.createCopy(bt);
-      task.i = i;
-      futures.add(service.submit(task));
-    }
-    assertEquality(futures.size(), evenTaskCount);
-    for (Future future : futures) future.get();
-  }
-
-  @Override
-  protected void bubble(long[] a, int i) {
-    if (swapIfGreaterThan(a, i, i + 1)) {
-      swapCount.incrementAndGet();
-      sorted.set(false);
+    BrickPhaser phaser = new BrickPhaser(a, length, context.getParallelism(), true);
+    phaser.sort(service);
+    sorted = true;
+    if (counting) {
+      outerLoopCount = phaser.getRounds();
+      innerLoopCount = comparisonCount = phaser.getComparisons();
+      swapCount = phaser.getSwaps();
     }
   }
 
-  @Override
-  public int getSwapCount() {
-    return swapCount.intValue();
-  }
-
-  @Override
-  public boolean isSorted() {
-    return sorted.get();
-  }
-
   @SuppressWarnings("PMD.LawOfDemeter")
   @Override
   public String toString() {
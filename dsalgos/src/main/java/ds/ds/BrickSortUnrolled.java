@@ -2,18 +2,16 @@ package ds;
 
 import static ds.ArrayUtils.swapIfGreaterThan;
 import static ds.AssertionUtils.*;
-import static ds.ExecutorUtils.terminateExecutor;
 import static ds.MathUtils.isOdd;
 import static java.lang.Math.abs;
+import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -29,6 +27,20 @@ public class BrickSortUnrolled extends BrickSort {
   private int partitionSize;
   private int partitionCount;
   private int length;
+  private final ExecutionContext context;
+
+  public BrickSortUnrolled() {
+    this(ExecutionContext.common());
+  }
+
+  public BrickSortUnrolled(ExecutionContext context) {
+    super();
+    this.context = requireNonNull(context, "context");
+  }
+
+  public ExecutionContext getExecutionContext() {
+    return context;
+  }
 
   @Override
   protected void reset() {
@@ -42,9 +54,9 @@ public class BrickSortUnrolled extends BrickSort {
   private void sequentialSort(long[] a, int length) {
     super.sort(a, length);
     sorted.getAndSet(super.sorted);
-    swapCount.set(super.swapCount);
-    comparisonCount.set(super.comparisonCount);
-    innerLoopCount.set(super.innerLoopCount);
+    swapCount.set(saturatedCount(super.swapCount));
+    comparisonCount.set(saturatedCount(super.comparisonCount));
+    innerLoopCount.set(saturatedCount(super.innerLoopCount));
   }
 
   @SuppressWarnings("PMD.LawOfDemeter")
@@ -59,15 +71,11 @@ public class BrickSortUnrolled extends BrickSort {
       sequentialSort(a, length);
       return;
     }
-    ExecutorService service = Executors.newSingleThreadExecutor();
     try {
-      sortInterruptibly(a, length, service);
+      sortInterruptibly(a, length, context.getPool());
     } catch (ExecutionException | InterruptedException ee) {
       throw new CompletionException(ee);
-    } finally {
-      terminateExecutor(service, length, TimeUnit.MILLISECONDS);
     }
-    assertServiceTerminated(service);
   }
 
   protected void sortInterruptibly(long[] a, int length, ExecutorService service)
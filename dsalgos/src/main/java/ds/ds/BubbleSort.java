@@ -7,15 +7,17 @@ public class BubbleSort extends AbstractSort {
     if (!shouldSort(length)) return;
     int n = length;
     while (n > 1) {
-      ++outerLoopCount;
+      if (counting) ++outerLoopCount;
       int newn = 0;
       for (int i = 1; i < n; ++i) {
-        ++innerLoopCount;
-        ++comparisonCount;
+        if (counting) {
+          ++innerLoopCount;
+          ++comparisonCount;
+        }
         if (a[i - 1] > a[i]) {
           swap(a, i - 1, i);
           newn = i;
-          ++swapCount;
+          if (counting) ++swapCount;
         }
       }
       n = newn;
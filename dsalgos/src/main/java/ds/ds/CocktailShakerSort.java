@@ -8,25 +8,29 @@ public class CocktailShakerSort extends AbstractSort {
     int start = 0;
     int end = length - 2;
     while (start <= end) {
-      ++outerLoopCount;
+      if (counting) ++outerLoopCount;
       int newStart = end;
       int newEnd = start;
       for (int i = start; i <= end; ++i) {
-        ++innerLoopCount;
-        ++comparisonCount;
+        if (counting) {
+          ++innerLoopCount;
+          ++comparisonCount;
+        }
         if (a[i] > a[i + 1]) {
           swap(a, i, i + 1);
-          ++swapCount;
+          if (counting) ++swapCount;
           newEnd = i;
         }
       }
       end = newEnd - 1;
       for (int i = end; i >= start; --i) {
-        ++innerLoopCount;
-        ++comparisonCount;
+        if (counting) {
+          ++innerLoopCount;
+          ++comparisonCount;
+        }
         if (a[i] > a[i + 1]) {
           swap(a, i, i + 1);
-          ++swapCount;
+          if (counting) ++swapCount;
           newStart = i;
         }
       }
@@ -0,0 +1,267 @@
+package ds;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A table stored column by column: one primitive array per column and no object per row.
+ *
+ * <p>The table keeps the arrays it is given, so sorting it with {@link TableSort} reorders them in
+ * place. Every column holds at least {@link #rows()} values; any beyond are left alone.
+ */
+public final class ColumnTable {
+
+  private final int rows;
+  private final List<Column> columns = new ArrayList<>();
+
+  public ColumnTable(int rows) {
+    if (rows < 0) throw new IllegalArgumentException("Illegal number of rows: " + rows);
+    this.rows = rows;
+  }
+
+  public int rows() {
+    return rows;
+  }
+
+  public int columnCount() {
+    return columns.size();
+  }
+
+  /** Adds a long column, returning its index. */
+  public int addColumn(long[] values) {
+    return add(new LongColumn(checkLength(values.length, values)));
+  }
+
+  /** Adds an int column, returning its index. */
+  public int addColumn(int[] values) {
+    return add(new IntColumn(checkLength(values.length, values)));
+  }
+
+  /** Adds a double column, returning its index; it sorts like {@link Double#compare}. */
+  public int addColumn(double[] values) {
+    return add(new DoubleColumn(checkLength(values.length, values)));
+  }
+
+  public long[] getLongColumn(int column) {
+    return ((LongColumn) column(column, LongColumn.class)).values;
+  }
+
+  public int[] getIntColumn(int column) {
+    return ((IntColumn) column(column, IntColumn.class)).values;
+  }
+
+  public double[] getDoubleColumn(int column) {
+    return ((DoubleColumn) column(column, DoubleColumn.class)).values;
+  }
+
+  private <T> T checkLength(int length, T values) {
+    if (length < rows)
+      throw new IllegalArgumentException("Column shorter than the table: " + length);
+    return values;
+  }
+
+  private int add(Column column) {
+    columns.add(column);
+    return columns.size() - 1;
+  }
+
+  private Column column(int column, Class<? extends Column> type) {
+    Column found = column(column);
+    if (!type.isInstance(found))
+      throw new IllegalArgumentException("Column " + column + " is not a " + found.name());
+    return found;
+  }
+
+  Column column(int column) {
+    if (column < 0 || column >= columns.size())
+      throw new IndexOutOfBoundsException("No such column: " + column);
+    return columns.get(column);
+  }
+
+  /**
+   * Reorders every column so row {@code i} holds what was row {@code permutation[i]}, one column at
+   * a time through a scratch array, gathering in chunks on {@code context}.
+   */
+  void permute(int[] permutation, ExecutionContext context, int chunks) {
+    for (Column column : columns) {
+      column.allocate(rows);
+      forEachChunk(context, chunks, (from, to) -> column.gather(permutation, from, to));
+      forEachChunk(context, chunks, column::commit);
+      column.release();
+    }
+  }
+
+  /** Splits {@code [0, rows)} into {@code chunks} ranges, run on {@code context} when several. */
+  void forEachChunk(ExecutionContext context, int chunks, RangeConsumer work) {
+    if (chunks == 1) work.accept(0, rows);
+    else
+      context.invoke(
+          new RadixSortLong.ChunkAction(
+              chunk ->
+                  work.accept(
+                      (int) ((long) rows * chunk / chunks),
+                      (int) ((long) rows * (chunk + 1) / chunks)),
+              0,
+              chunks));
+  }
+
+  /** Work on the rows {@code [from, to)}. */
+  @FunctionalInterface
+  interface RangeConsumer {
+    void accept(int from, int to);
+  }
+
+  /** A column as sort keys: unsigned longs of {@link #keyBits()} bits, in the column's order. */
+  abstract static class Column {
+    abstract String name();
+
+    abstract int keyBits();
+
+    abstract long key(int row);
+
+    abstract void allocate(int rows);
+
+    abstract void gather(int[] permutation, int from, int to);
+
+    abstract void commit(int from, int to);
+
+    abstract void release();
+  }
+
+  private static final class LongColumn extends Column {
+    final long[] values;
+    long[] scratch;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    LongColumn(long[] values) {
+      this.values = values;
+    }
+
+    @Override
+    String name() {
+      return "long column";
+    }
+
+    @Override
+    int keyBits() {
+      return Long.SIZE;
+    }
+
+    @Override
+    long key(int row) {
+      return values[row] ^ Long.MIN_VALUE;
+    }
+
+    @Override
+    void allocate(int rows) {
+      scratch = new long[rows];
+    }
+
+    @Override
+    void gather(int[] permutation, int from, int to) {
+      for (int i = from; i < to; i++) scratch[i] = values[permutation[i]];
+    }
+
+    @Override
+    void commit(int from, int to) {
+      System.arraycopy(scratch, from, values, from, to - from);
+    }
+
+    @Override
+    void release() {
+      scratch = null;
+    }
+  }
+
+  private static final class IntColumn extends Column {
+    final int[] values;
+    int[] scratch;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    IntColumn(int[] values) {
+      this.values = values;
+    }
+
+    @Override
+    String name() {
+      return "int column";
+    }
+
+    @Override
+    int keyBits() {
+      return Integer.SIZE;
+    }
+
+    @Override
+    long key(int row) {
+      return (values[row] ^ Integer.MIN_VALUE) & 0xFFFF_FFFFL;
+    }
+
+    @Override
+    void allocate(int rows) {
+      scratch = new int[rows];
+    }
+
+    @Override
+    void gather(int[] permutation, int from, int to) {
+      for (int i = from; i < to; i++) scratch[i] = values[permutation[i]];
+    }
+
+    @Override
+    void commit(int from, int to) {
+      System.arraycopy(scratch, from, values, from, to - from);
+    }
+
+    @Override
+    void release() {
+      scratch = null;
+    }
+  }
+
+  private static final class DoubleColumn extends Column {
+    final double[] values;
+    double[] scratch;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    DoubleColumn(double[] values) {
+      this.values = values;
+    }
+
+    @Override
+    String name() {
+      return "double column";
+    }
+
+    @Override
+    int keyBits() {
+      return Long.SIZE;
+    }
+
+    @Override
+    long key(int row) {
+      // negatives have every bit flipped, the rest only the sign bit; NaN is one value, last
+      long bits = Double.doubleToLongBits(values[row]);
+      return bits ^ (bits >> (Long.SIZE - 1) | Long.MIN_VALUE);
+    }
+
+    @Override
+    void allocate(int rows) {
+      scratch = new double[rows];
+    }
+
+    @Override
+    void gather(int[] permutation, int from, int to) {
+      for (int i = from; i < to; i++) scratch[i] = values[permutation[i]];
+    }
+
+    @Override
+    void commit(int from, int to) {
+      System.arraycopy(scratch, from, values, from, to - from);
+    }
+
+    @Override
+    void release() {
+      scratch = null;
+    }
+  }
+}
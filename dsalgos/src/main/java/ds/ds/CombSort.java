@@ -16,16 +16,18 @@ public class CombSort extends AbstractSort {
     boolean swapped = true;
     reset();
     while (gap > 1 || swapped) {
-      ++outerLoopCount;
+      if (counting) ++outerLoopCount;
       gap = getNextGap(gap);
       swapped = false;
       for (int i = 0; i < length - gap; i++) {
-        ++innerLoopCount;
-        ++comparisonCount;
+        if (counting) {
+          ++innerLoopCount;
+          ++comparisonCount;
+        }
         if (a[i] > a[i + gap]) {
           swap(a, i, i + gap);
           swapped = true;
-          ++swapCount;
+          if (counting) ++swapCount;
         }
       }
     }
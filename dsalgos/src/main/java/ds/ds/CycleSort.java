@@ -5,8 +5,10 @@ public class CycleSort extends AbstractSort {
   private int iterateTillPositioned(int cycleStart, int length, long item, long... a) {
     int pos = cycleStart;
     for (int i = cycleStart + 1; i < length; ++i) {
-      ++innerLoopCount;
-      ++comparisonCount;
+      if (counting) {
+        ++innerLoopCount;
+        ++comparisonCount;
+      }
       if (a[i] < item) ++pos;
     }
     return pos;
@@ -15,8 +17,10 @@ public class CycleSort extends AbstractSort {
   private int iterateDuplicates(int startPos, long item, long... a) {
     int pos = startPos;
     while (item == a[pos]) {
-      ++innerLoopCount;
-      ++comparisonCount;
+      if (counting) {
+        ++innerLoopCount;
+        ++comparisonCount;
+      }
       ++pos;
     }
     return pos;
@@ -26,7 +30,7 @@ public class CycleSort extends AbstractSort {
     //    if (item == a[pos]) return item;
     long temp = a[pos];
     a[pos] = item;
-    ++copyCount;
+    if (counting) ++copyCount;
     return temp;
   }
 
@@ -34,7 +38,7 @@ public class CycleSort extends AbstractSort {
   protected void sort(long[] a, int length) {
     if (!shouldSort(length)) return;
     for (int cycleStart = 0; cycleStart <= length - 2; ++cycleStart) {
-      ++outerLoopCount;
+      if (counting) ++outerLoopCount;
       // initialize item as starting point
       long item = a[cycleStart];
       // Find position where we put the item. We basically
@@ -44,7 +48,7 @@ public class CycleSort extends AbstractSort {
       if (pos == cycleStart) continue;
       // ignore all duplicate elements
       pos = iterateDuplicates(pos, item, a);
-      ++comparisonCount;
+      if (counting) ++comparisonCount;
       // put the item to its right position
       item = swapOutItem(item, pos, a);
       // Rotate rest of the cycle
@@ -52,7 +56,7 @@ public class CycleSort extends AbstractSort {
         pos = iterateTillPositioned(cycleStart, length, item, a);
         // ignore all duplicate elements
         pos = iterateDuplicates(pos, item, a);
-        ++comparisonCount;
+        if (counting) ++comparisonCount;
         // put the item to its right position
         item = swapOutItem(item, pos, a);
       }
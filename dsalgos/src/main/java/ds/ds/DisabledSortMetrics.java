@@ -0,0 +1,79 @@
+package ds;
+
+import java.util.Collections;
+import java.util.Map;
+
+/** Metrics that count nothing. */
+final class DisabledSortMetrics implements SortMetrics {
+
+  static final SortMetrics INSTANCE = new DisabledSortMetrics();
+
+  private DisabledSortMetrics() {
+    // singleton
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return false;
+  }
+
+  @Override
+  public boolean isTimed() {
+    return false;
+  }
+
+  @Override
+  public void add(long comparisons, long swaps, long copies, long innerLoops, long outerLoops) {
+    // nothing to count
+  }
+
+  @Override
+  public long startPhase() {
+    return 0L;
+  }
+
+  @Override
+  public void endPhase(String phase, long start) {
+    // nothing to time
+  }
+
+  @Override
+  public long getComparisonCount() {
+    return 0L;
+  }
+
+  @Override
+  public long getSwapCount() {
+    return 0L;
+  }
+
+  @Override
+  public long getCopyCount() {
+    return 0L;
+  }
+
+  @Override
+  public long getInnerLoopCount() {
+    return 0L;
+  }
+
+  @Override
+  public long getOuterLoopCount() {
+    return 0L;
+  }
+
+  @Override
+  public Map<String, Long> getPhaseTimes() {
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public void reset() {
+    // nothing to reset
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getName();
+  }
+}
@@ -0,0 +1,84 @@
+package ds;
+
+import static ds.ExecutorUtils.terminateExecutor;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The pool the parallel sorts run their tasks on.
+ *
+ * <p>A context outlives the sorts using it, so sorting no longer creates and tears down a pool per
+ * call. Only a context created by {@link #withParallelism(int)} owns its pool and shuts it down on
+ * {@link #close()}; the common pool and caller-supplied pools are left alone.
+ */
+public final class ExecutionContext implements AutoCloseable {
+
+  private static final long TERMINATION_MILLIS = 1000L;
+  private static final ExecutionContext COMMON =
+      new ExecutionContext(ForkJoinPool.commonPool(), false);
+
+  private final ForkJoinPool pool;
+  private final boolean owned;
+
+  private ExecutionContext(ForkJoinPool pool, boolean owned) {
+    this.pool = pool;
+    this.owned = owned;
+  }
+
+  /** The JVM-wide {@link ForkJoinPool#commonPool()}, the default of every parallel sort. */
+  public static ExecutionContext common() {
+    return COMMON;
+  }
+
+  /** A pool managed by the caller, who remains responsible for shutting it down. */
+  public static ExecutionContext of(ForkJoinPool pool) {
+    return new ExecutionContext(requireNonNull(pool, "pool"), false);
+  }
+
+  /** A dedicated pool of at most {@code parallelism} workers, shut down by {@link #close()}. */
+  public static ExecutionContext withParallelism(int parallelism) {
+    if (parallelism <= 0)
+      throw new IllegalArgumentException("Illegal value for parallelism: " + parallelism);
+    return new ExecutionContext(new ForkJoinPool(parallelism), true);
+  }
+
+  public ForkJoinPool getPool() {
+    return pool;
+  }
+
+  public int getParallelism() {
+    return pool.getParallelism();
+  }
+
+  public boolean isOwned() {
+    return owned;
+  }
+
+  public <T> T invoke(ForkJoinTask<T> task) {
+    return pool.invoke(task);
+  }
+
+  @Override
+  public void close() {
+    if (owned) terminateExecutor(pool, TERMINATION_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  @SuppressWarnings("PMD.LawOfDemeter")
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder(64);
+    String lineSeparator = System.lineSeparator();
+    sb.append(getClass().getName())
+        .append(lineSeparator)
+        .append("parallelism: ")
+        .append(pool.getParallelism())
+        .append(lineSeparator)
+        .append("owned: ")
+        .append(owned)
+        .append(lineSeparator);
+    return sb.toString();
+  }
+}
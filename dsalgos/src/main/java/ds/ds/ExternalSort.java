@@ -0,0 +1,342 @@
+package ds;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+/**
+ * Sorts a binary file of big-endian 64-bit keys that need not fit in the heap.
+ *
+ * <ol>
+ *   <li>The input is memory-mapped one chunk at a time and each chunk is sorted in place by a fresh
+ *       sort from the supplier; chunks are sorted concurrently on the pool of the {@link
+ *       ExecutionContext}, so at most its parallelism of chunks are in memory at once.
+ *   <li>Every sorted chunk is spilled to a memory-mapped run file in the temp directory.
+ *   <li>The runs are merged with a binary heap over buffered channels, at most {@code MAX_FAN_IN}
+ *       runs at a time, into the output.
+ * </ol>
+ *
+ * <p>The time spent reading, writing, sorting and merging is reported per phase in a {@link
+ * Report}.
+ */
+public final class ExternalSort {
+
+  public static final int DEFAULT_CHUNK_LENGTH = 1 << 23;
+  public static final int MAX_CHUNK_LENGTH = Integer.MAX_VALUE >> 3;
+  public static final String READ_PHASE = "read";
+  public static final String WRITE_PHASE = "write";
+  public static final String SORT_PHASE = "sort";
+  public static final String MERGE_PHASE = "merge";
+
+  static final int MAX_FAN_IN = 128;
+  private static final int MIN_BUFFER_BYTES = 1 << 13;
+  private static final int MAX_BUFFER_BYTES = 1 << 23;
+
+  private final Supplier<? extends AbstractSort> sorter;
+  private final ExecutionContext context;
+  private final int chunkLength;
+  private final Path tempDirectory;
+
+  /**
+   * Sorts chunks of {@code DEFAULT_CHUNK_LENGTH} keys with {@link IntroSort} on the common pool.
+   */
+  public ExternalSort() {
+    this(IntroSort::new, ExecutionContext.common(), DEFAULT_CHUNK_LENGTH, null);
+  }
+
+  public ExternalSort(ExecutionContext context, int chunkLength) {
+    this(IntroSort::new, context, chunkLength, null);
+  }
+
+  /**
+   * Creates the sort.
+   *
+   * @param sorter supplies one in-memory sort per chunk, which sorts the chunk in place
+   * @param chunkLength keys per chunk and run, at most {@code MAX_CHUNK_LENGTH}
+   * @param tempDirectory where runs are spilled, the default temp directory if null
+   */
+  public ExternalSort(
+      Supplier<? extends AbstractSort> sorter,
+      ExecutionContext context,
+      int chunkLength,
+      Path tempDirectory) {
+    if (chunkLength <= 0 || chunkLength > MAX_CHUNK_LENGTH)
+      throw new IllegalArgumentException("Illegal chunk length: " + chunkLength);
+    this.sorter = requireNonNull(sorter, "sorter");
+    this.context = requireNonNull(context, "context");
+    this.chunkLength = chunkLength;
+    this.tempDirectory = tempDirectory;
+  }
+
+  public ExecutionContext getExecutionContext() {
+    return context;
+  }
+
+  public int getChunkLength() {
+    return chunkLength;
+  }
+
+  /**
+   * Sorts the keys of {@code input} into {@code output}, replacing it.
+   *
+   * @return the bytes, runs and phase times of the sort
+   * @throws IllegalArgumentException if the input length is not a multiple of eight
+   * @throws IOException if reading, spilling or writing fails
+   */
+  public Report sort(Path input, Path output) throws IOException {
+    SortMetrics metrics = SortMetrics.full();
+    long bytes = Files.size(input);
+    if ((bytes & (Long.BYTES - 1)) != 0)
+      throw new IllegalArgumentException("Input length is not a multiple of 8: " + bytes);
+    long keys = bytes / Long.BYTES;
+    int chunks = (int) ((keys + chunkLength - 1) / chunkLength);
+    List<Path> runs = new ArrayList<>(chunks);
+    try {
+      if (chunks == 0) Files.write(output, new byte[0]);
+      else {
+        for (int i = 0; i < chunks; i++) runs.add(createRun());
+        sortChunks(input, keys, runs, metrics);
+        long start = metrics.startPhase();
+        mergeAll(runs, output, metrics);
+        metrics.endPhase(MERGE_PHASE, start);
+      }
+    } finally {
+      for (Path run : runs) Files.deleteIfExists(run);
+    }
+    return new Report(bytes, chunks, metrics.getPhaseTimes());
+  }
+
+  private Path createRun() throws IOException {
+    return tempDirectory == null
+        ? Files.createTempFile("run", ".bin")
+        : Files.createTempFile(tempDirectory, "run", ".bin");
+  }
+
+  private void sortChunks(Path input, long keys, List<Path> runs, SortMetrics metrics)
+      throws IOException {
+    try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+      List<ForkJoinTask<?>> tasks = new ArrayList<>(runs.size());
+      for (int i = 0; i < runs.size(); i++) {
+        long first = (long) i * chunkLength;
+        int length = (int) Math.min(chunkLength, keys - first);
+        Path run = runs.get(i);
+        tasks.add(context.getPool().submit(() -> sortChunk(channel, first, length, run, metrics)));
+      }
+      for (ForkJoinTask<?> task : tasks) task.join();
+    } catch (UncheckedIOException uioe) {
+      throw uioe.getCause();
+    }
+  }
+
+  private void sortChunk(
+      FileChannel channel, long first, int length, Path run, SortMetrics metrics) {
+    try {
+      long bytes = (long) length * Long.BYTES;
+      long start = metrics.startPhase();
+      long[] a = new long[length];
+      channel.map(MapMode.READ_ONLY, first * Long.BYTES, bytes).asLongBuffer().get(a);
+      metrics.endPhase(READ_PHASE, start);
+
+      start = metrics.startPhase();
+      AbstractSort sort = sorter.get();
+      sort.setMetrics(SortMetrics.disabled());
+      sort.sort(a, length);
+      metrics.endPhase(SORT_PHASE, start);
+
+      start = metrics.startPhase();
+      try (FileChannel out =
+          FileChannel.open(run, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        MappedByteBuffer buffer = out.map(MapMode.READ_WRITE, 0, bytes);
+        buffer.asLongBuffer().put(a);
+        buffer.force();
+      }
+      metrics.endPhase(WRITE_PHASE, start);
+    } catch (IOException ioe) {
+      throw new UncheckedIOException(ioe);
+    }
+  }
+
+  /** Merges the runs in passes of at most {@code MAX_FAN_IN}, the last one into the output. */
+  private void mergeAll(List<Path> runs, Path output, SortMetrics metrics) throws IOException {
+    List<Path> pass = new ArrayList<>(runs);
+    while (pass.size() > MAX_FAN_IN) {
+      List<Path> next = new ArrayList<>();
+      for (int from = 0; from < pass.size(); from += MAX_FAN_IN) {
+        List<Path> group = pass.subList(from, Math.min(pass.size(), from + MAX_FAN_IN));
+        Path merged = createRun();
+        runs.add(merged);
+        merge(group, merged, metrics);
+        next.add(merged);
+      }
+      pass = next;
+    }
+    if (pass.size() == 1) Files.copy(pass.get(0), output, StandardCopyOption.REPLACE_EXISTING);
+    else merge(pass, output, metrics);
+  }
+
+  private void merge(List<Path> runs, Path output, SortMetrics metrics) throws IOException {
+    int k = runs.size();
+    int bufferBytes = bufferBytes(k + 1);
+    RunReader[] readers = new RunReader[k];
+    try (FileChannel out =
+        FileChannel.open(
+            output,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      for (int i = 0; i < k; i++)
+        readers[i] = new RunReader(FileChannel.open(runs.get(i)), bufferBytes, metrics);
+      ByteBuffer buffer = ByteBuffer.allocateDirect(bufferBytes);
+      // min-heap of the readers with keys left, by their current key
+      int[] heap = new int[k];
+      int size = 0;
+      for (int i = 0; i < k; i++) if (readers[i].advance()) heap[size++] = i;
+      for (int i = (size >> 1) - 1; i >= 0; i--) siftDown(heap, i, size, readers);
+      while (size > 0) {
+        RunReader top = readers[heap[0]];
+        if (!buffer.hasRemaining()) flush(out, buffer, metrics);
+        buffer.putLong(top.key);
+        if (!top.advance()) heap[0] = heap[--size];
+        if (size > 1) siftDown(heap, 0, size, readers);
+      }
+      flush(out, buffer, metrics);
+    } finally {
+      for (RunReader reader : readers) if (reader != null) reader.channel.close();
+    }
+  }
+
+  private static void siftDown(int[] heap, int index, int size, RunReader[] readers) {
+    int i = index;
+    int run = heap[i];
+    long key = readers[run].key;
+    while (true) {
+      int child = (i << 1) + 1;
+      if (child >= size) break;
+      if (child + 1 < size && readers[heap[child + 1]].key < readers[heap[child]].key) child++;
+      if (key <= readers[heap[child]].key) break;
+      heap[i] = heap[child];
+      i = child;
+    }
+    heap[i] = run;
+  }
+
+  private static void flush(FileChannel out, ByteBuffer buffer, SortMetrics metrics)
+      throws IOException {
+    long start = metrics.startPhase();
+    buffer.flip();
+    while (buffer.hasRemaining()) out.write(buffer);
+    buffer.clear();
+    metrics.endPhase(WRITE_PHASE, start);
+  }
+
+  /** Splits the memory of one chunk over the buffers of a merge, whole keys each. */
+  private int bufferBytes(int buffers) {
+    long share = (long) chunkLength * Long.BYTES / buffers;
+    long bytes = Math.max(MIN_BUFFER_BYTES, Math.min(MAX_BUFFER_BYTES, share));
+    return (int) bytes & -Long.BYTES;
+  }
+
+  /** Buffered reader of the keys of one run. */
+  private static final class RunReader {
+    final FileChannel channel;
+    final ByteBuffer buffer;
+    final SortMetrics metrics;
+    long key;
+
+    RunReader(FileChannel channel, int bufferBytes, SortMetrics metrics) {
+      this.channel = channel;
+      this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+      this.metrics = metrics;
+      buffer.flip();
+    }
+
+    /** Moves to the next key, returning false once the run is exhausted. */
+    boolean advance() throws IOException {
+      if (!buffer.hasRemaining() && !fill()) return false;
+      key = buffer.getLong();
+      return true;
+    }
+
+    private boolean fill() throws IOException {
+      long start = metrics.startPhase();
+      buffer.clear();
+      int read = 0;
+      while (buffer.hasRemaining() && read >= 0) read = channel.read(buffer);
+      buffer.flip();
+      metrics.endPhase(READ_PHASE, start);
+      return buffer.hasRemaining();
+    }
+  }
+
+  /**
+   * What a sort moved and where the time went.
+   *
+   * <p>Read, write and sort times are summed over the concurrent chunk tasks, so they add up to
+   * more than the elapsed time when chunks overlap; merge is the elapsed time of the merge passes,
+   * its reads and writes included.
+   */
+  public static final class Report {
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final long bytes;
+    private final int runs;
+    private final Map<String, Long> phaseTimes;
+
+    Report(long bytes, int runs, Map<String, Long> phaseTimes) {
+      this.bytes = bytes;
+      this.runs = runs;
+      this.phaseTimes = phaseTimes;
+    }
+
+    public long getBytes() {
+      return bytes;
+    }
+
+    public int getRuns() {
+      return runs;
+    }
+
+    /** Nanoseconds per phase: {@code read}, {@code write}, {@code sort} and {@code merge}. */
+    public Map<String, Long> getPhaseTimes() {
+      return phaseTimes;
+    }
+
+    public long getPhaseTime(String phase) {
+      return phaseTimes.getOrDefault(phase, 0L);
+    }
+
+    /** Bytes read and written per second of I/O. */
+    public double getIoThroughput() {
+      // every byte is read and written once per pass; a single run is copied to the output
+      long ioNanos = getPhaseTime(READ_PHASE) + getPhaseTime(WRITE_PHASE);
+      return ioNanos == 0 ? 0 : (bytes << 1) * NANOS_PER_SECOND / ioNanos;
+    }
+
+    /** Bytes sorted in memory per second of sorting. */
+    public double getSortThroughput() {
+      long sortNanos = getPhaseTime(SORT_PHASE);
+      return sortNanos == 0 ? 0 : bytes * NANOS_PER_SECOND / sortNanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "%d bytes in %d runs, I/O %.1f MB/s, sort %.1f MB/s, phase times (ns): %s",
+          bytes, runs, getIoThroughput() / 1e6, getSortThroughput() / 1e6, phaseTimes);
+    }
+  }
+}
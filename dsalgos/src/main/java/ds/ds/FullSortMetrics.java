@@ -0,0 +1,50 @@
+package ds;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Metrics with task-local counts plus per-phase timings. */
+final class FullSortMetrics extends LocalSortMetrics {
+
+  private final ConcurrentMap<String, LongAdder> phaseTimes = new ConcurrentHashMap<>();
+
+  @Override
+  public boolean isTimed() {
+    return true;
+  }
+
+  @Override
+  public long startPhase() {
+    return System.nanoTime();
+  }
+
+  @SuppressWarnings("PMD.LawOfDemeter")
+  @Override
+  public void endPhase(String phase, long start) {
+    long elapsed = System.nanoTime() - start;
+    phaseTimes.computeIfAbsent(phase, key -> new LongAdder()).add(elapsed);
+  }
+
+  @SuppressWarnings("PMD.LawOfDemeter")
+  @Override
+  public Map<String, Long> getPhaseTimes() {
+    Map<String, Long> times = new TreeMap<>();
+    phaseTimes.forEach((phase, time) -> times.put(phase, time.sum()));
+    return times;
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    phaseTimes.clear();
+  }
+
+  @SuppressWarnings("PMD.LawOfDemeter")
+  @Override
+  public String toString() {
+    return super.toString() + System.lineSeparator() + "phase times (ns): " + getPhaseTimes();
+  }
+}
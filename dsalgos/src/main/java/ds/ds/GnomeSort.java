@@ -6,17 +6,19 @@ public class GnomeSort extends AbstractSort {
   protected void sort(long[] a, int length) {
     if (!shouldSort(length)) return;
     for (int pos = 1; pos < length; ++pos) gnomeSort(a, pos);
-    outerLoopCount = length - 1;
+    if (counting) outerLoopCount = length - 1;
   }
 
   private void gnomeSort(long[] a, int upper) {
     int pos = upper;
     while (pos > 0 && a[pos - 1] > a[pos]) {
-      ++comparisonCount;
-      ++innerLoopCount;
+      if (counting) {
+        ++comparisonCount;
+        ++innerLoopCount;
+        ++swapCount;
+      }
       swap(a, pos - 1, pos--);
-      ++swapCount;
     }
-    if (pos != 0) ++comparisonCount;
+    if (counting && pos != 0) ++comparisonCount;
   }
 }
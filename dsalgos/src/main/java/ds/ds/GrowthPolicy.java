@@ -0,0 +1,143 @@
+package ds;
+
+/**
+ * How a growable array resizes: by what factor it grows when full, below what load it shrinks, and
+ * the capacities it stays between.
+ *
+ * <p>Growing by a constant factor makes inserts amortized {@code O(1)} however large the array
+ * gets. Shrinking leaves the array {@code 1/factor} full, and the shrink load has to be below that,
+ * so that inserts and deletes around a resize cannot resize every time. The maximum capacity is a
+ * ceiling on memory at eight bytes an element; past it inserts fail as they do on a fixed array.
+ */
+public final class GrowthPolicy {
+
+  /** Largest array the VM reliably allocates. */
+  public static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+  private static final int DEFAULT_MIN_CAPACITY = 16;
+
+  private final double factor;
+  private final double shrinkLoad;
+  private final int minCapacity;
+  private final int maxCapacity;
+
+  private GrowthPolicy(double factor, double shrinkLoad, int minCapacity, int maxCapacity) {
+    this.factor = factor;
+    this.shrinkLoad = shrinkLoad;
+    this.minCapacity = minCapacity;
+    this.maxCapacity = maxCapacity;
+  }
+
+  /** Doubles when full and never shrinks. */
+  public static GrowthPolicy doubling() {
+    return factor(2);
+  }
+
+  /**
+   * Grows by {@code factor} when full and never shrinks.
+   *
+   * @throws IllegalArgumentException if {@code factor} is not more than 1
+   */
+  public static GrowthPolicy factor(double factor) {
+    if (!(factor > 1 && factor <= 16))
+      throw new IllegalArgumentException("Illegal growth factor: " + factor);
+    return new GrowthPolicy(factor, 0, DEFAULT_MIN_CAPACITY, MAX_CAPACITY);
+  }
+
+  /**
+   * This policy, shrinking once a delete leaves fewer than {@code load} of the capacity used.
+   *
+   * @throws IllegalArgumentException if {@code load} is not in {@code [0, 1/factor)}; 0 turns
+   *     shrinking off
+   */
+  public GrowthPolicy withShrinkBelow(double load) {
+    if (!(load >= 0 && load * factor < 1))
+      throw new IllegalArgumentException("Illegal shrink load: " + load + " for factor " + factor);
+    return new GrowthPolicy(factor, load, minCapacity, maxCapacity);
+  }
+
+  /**
+   * This policy, never shrinking below {@code capacity}.
+   *
+   * @throws IllegalArgumentException if {@code capacity} is not positive or above the maximum
+   */
+  public GrowthPolicy withMinCapacity(int capacity) {
+    if (capacity < 1 || capacity > maxCapacity)
+      throw new IllegalArgumentException("Illegal minimum capacity: " + capacity);
+    return new GrowthPolicy(factor, shrinkLoad, capacity, maxCapacity);
+  }
+
+  /**
+   * This policy, never growing above {@code capacity} elements.
+   *
+   * @throws IllegalArgumentException if {@code capacity} is below the minimum or above {@code
+   *     MAX_CAPACITY}
+   */
+  public GrowthPolicy withMaxCapacity(int capacity) {
+    if (capacity < minCapacity || capacity > MAX_CAPACITY)
+      throw new IllegalArgumentException("Illegal maximum capacity: " + capacity);
+    return new GrowthPolicy(factor, shrinkLoad, minCapacity, capacity);
+  }
+
+  public double getFactor() {
+    return factor;
+  }
+
+  public double getShrinkLoad() {
+    return shrinkLoad;
+  }
+
+  public int getMinCapacity() {
+    return minCapacity;
+  }
+
+  public int getMaxCapacity() {
+    return maxCapacity;
+  }
+
+  /**
+   * The capacity to grow {@code capacity} to so that it holds {@code required} elements.
+   *
+   * @throws ArrayIndexOutOfBoundsException if {@code required} is above the maximum capacity
+   */
+  int grow(int capacity, int required) {
+    if (required > maxCapacity)
+      throw new ArrayIndexOutOfBoundsException(
+          "Capacity ceiling " + maxCapacity + " reached: " + capacity);
+    long grown = Math.max((long) Math.ceil(capacity * factor), capacity + 1L);
+    return (int) Math.min(Math.max(grown, required), maxCapacity);
+  }
+
+  /**
+   * {@code capacity} if it is a legal initial capacity under this policy.
+   *
+   * @throws IllegalArgumentException if {@code capacity} is above the maximum capacity
+   */
+  int checkInitial(int capacity) {
+    if (capacity > maxCapacity)
+      throw new IllegalArgumentException(
+          "Invalid size: " + capacity + " above maximum capacity " + maxCapacity);
+    return capacity;
+  }
+
+  /**
+   * The capacity to shrink {@code capacity} to while holding {@code count}, or {@code capacity}.
+   */
+  int shrink(int capacity, int count) {
+    if (count >= capacity * shrinkLoad || capacity <= minCapacity) return capacity;
+    return (int) Math.max(Math.ceil(count * factor), minCapacity);
+  }
+
+  @Override
+  public String toString() {
+    return "GrowthPolicy[factor="
+        + factor
+        + ", shrinkLoad="
+        + shrinkLoad
+        + ", minCapacity="
+        + minCapacity
+        + ", maxCapacity="
+        + maxCapacity
+        + "]";
+  }
+}
@@ -10,53 +10,63 @@ public class HeapSort extends AbstractSort {
   }
 
   void heapSort(long[] a, int length) {
+    heapSort(a, 0, length);
+  }
+
+  /** Sorts {@code a[low, high)}, the heap rooted at {@code a[low]}. */
+  void heapSort(long[] a, int low, int high) {
+    int length = high - low;
     // Build heap (rearrange array)
     for (int i = (length >> 1) - 1; i >= 0; --i) {
-      ++outerLoopCount;
-      heapify(a, length, i);
+      if (counting) ++outerLoopCount;
+      heapify(a, low, length, i);
     }
 
     // One by one extract an element from heap
     for (int i = length - 1; i > 0; --i) {
-      ++outerLoopCount;
+      if (counting) {
+        ++outerLoopCount;
+        ++comparisonCount;
+      }
       // Move current root to end
-      ++comparisonCount;
-      if (a[i] != a[0]) {
-        swap(a, i, 0);
-        ++swapCount;
+      if (a[low + i] != a[low]) {
+        swap(a, low + i, low);
+        if (counting) ++swapCount;
       }
       // call max heapify on the reduced heap
-      heapify(a, i, 0);
+      heapify(a, low, i, 0);
     }
   }
 
   // To heapify a subtree rooted with node i which is
-  // an index in a[]. n is size of heap
-  void heapify(long[] a, int n, int i) {
+  // an index in a[low, low + n). n is size of heap
+  void heapify(long[] a, int low, int n, int i) {
     int largest = i;
     // Initialize largest as root
     int left = 2 * i + 1;
     int right = 2 * i + 2;
 
     // If left child is larger than root
-    if (left < n && a[left] > a[largest]) {
+    if (left < n && a[low + left] > a[low + largest]) {
       largest = left;
-      ++comparisonCount;
+      if (counting) ++comparisonCount;
     }
 
     // If right child is larger than largest so far
-    if (right < n && a[right] > a[largest]) {
+    if (right < n && a[low + right] > a[low + largest]) {
       largest = right;
-      ++comparisonCount;
+      if (counting) ++comparisonCount;
     }
 
     // If largest is not root
     if (largest != i) {
-      swap(a, i, largest);
-      ++swapCount;
-      ++comparisonCount;
+      swap(a, low + i, low + largest);
+      if (counting) {
+        ++swapCount;
+        ++comparisonCount;
+      }
       // Recursively heapify the affected sub-tree
-      heapify(a, n, largest);
+      heapify(a, low, n, largest);
     }
   }
 }
@@ -25,6 +25,10 @@ public class HighArray extends AbstractArray {
     super(max, strict);
   }
 
+  protected HighArray(int max, boolean strict, GrowthPolicy policy) {
+    super(max, strict, policy);
+  }
+
   public HighArray(HighArray array) {
     super(array);
   }
@@ -52,7 +56,7 @@ public class HighArray extends AbstractArray {
   @Override
   public int insert(long value) {
     int length = nElems.intValue();
-    if (length == a.length) throw new ArrayIndexOutOfBoundsException(length);
+    if (length == a.length) grow(length + 1);
     modCount.incrementAndGet();
     a[nElems.getAndIncrement()] = value;
     return length;
@@ -81,6 +85,7 @@ public class HighArray extends AbstractArray {
       if (strict) checkDeleteConcurrent(expectedCount, value);
       if (a[j] == value) {
         fastDelete(j, length);
+        shrink();
         return true;
       }
     }
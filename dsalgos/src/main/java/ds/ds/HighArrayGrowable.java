@@ -0,0 +1,74 @@
+package ds;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link HighArray} that grows when full, and shrinks after deletes if its {@link GrowthPolicy}
+ * says so, instead of throwing {@link ArrayIndexOutOfBoundsException}.
+ *
+ * <p>The backing array is replaced when it resizes, so an array from {@link #get()} is only good
+ * until the next insert or delete. Resizes happen inside {@link #insert} and {@link #delete}, so
+ * {@link #syncInsert} and {@link #syncDelete} resize under their lock, as does {@link
+ * #trimToSize()}.
+ */
+public class HighArrayGrowable extends HighArray {
+
+  public HighArrayGrowable() {
+    this(GrowthPolicy.doubling());
+  }
+
+  public HighArrayGrowable(GrowthPolicy policy) {
+    this(policy.getMinCapacity(), false, policy);
+  }
+
+  public HighArrayGrowable(int max, GrowthPolicy policy) {
+    this(max, false, policy);
+  }
+
+  /**
+   * @throws IllegalArgumentException if {@code max} is not positive or above the maximum capacity
+   *     of {@code policy}
+   */
+  public HighArrayGrowable(int max, boolean strict, GrowthPolicy policy) {
+    super(max, strict, requireNonNull(policy, "policy"));
+  }
+
+  public HighArrayGrowable(HighArrayGrowable array) {
+    super(array);
+  }
+
+  @Override
+  public IArray copy() {
+    return new HighArrayGrowable(this);
+  }
+
+  /** Shrinks the capacity to the count, or to one element if empty. */
+  public void trimToSize() {
+    synchronized (lock) {
+      shrinkToSize();
+    }
+  }
+
+  @Override
+  @SuppressWarnings("all")
+  public boolean equals(final Object o) {
+    if (o == this) return true;
+    if (!(o instanceof HighArrayGrowable)) return false;
+    final HighArrayGrowable other = (HighArrayGrowable) o;
+    if (!other.canEqual((Object) this)) return false;
+    if (!super.equals(o)) return false;
+    return true;
+  }
+
+  @SuppressWarnings("all")
+  protected boolean canEqual(final Object other) {
+    return other instanceof HighArrayGrowable;
+  }
+
+  @Override
+  @SuppressWarnings("all")
+  public int hashCode() {
+    final int result = super.hashCode();
+    return result;
+  }
+}
@@ -0,0 +1,182 @@
+package ds;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * A {@link HighArray} that does not keep insertion order, so that find and delete take {@code O(1)}
+ * expected instead of a scan and a shift.
+ *
+ * <p>A delete moves the last element into the freed slot. A companion hash index, open addressing
+ * with linear probing over slot numbers, finds the slot of a value: every slot has one entry, at or
+ * after the home position of its value, so duplicates have an entry each and {@link #findIndex}
+ * returns one of their slots, not necessarily the first. Deleted entries are removed by shifting
+ * later entries back rather than by tombstones, so probes stay short however many deletes there
+ * are. The index is kept at most half full, at two to four {@code int}s a slot of capacity.
+ */
+public class HighArrayUnordered extends HighArray {
+  private static final int EMPTY = -1;
+
+  private int[] table;
+  private int mask;
+
+  public HighArrayUnordered() {
+    this(100);
+  }
+
+  public HighArrayUnordered(int max) {
+    this(max, false);
+  }
+
+  public HighArrayUnordered(int max, boolean strict) {
+    super(max, strict);
+    allocateIndex(max);
+  }
+
+  public HighArrayUnordered(HighArrayUnordered array) {
+    super(array);
+    table = array.table.clone();
+    mask = array.mask;
+  }
+
+  @Override
+  public IArray copy() {
+    return new HighArrayUnordered(this);
+  }
+
+  /** A slot holding {@code searchKey}, or -1. */
+  @Override
+  public int findIndex(long searchKey) {
+    int position = position(searchKey);
+    return position == EMPTY ? -1 : table[position];
+  }
+
+  @Override
+  public int insert(long value) {
+    int slot = super.insert(value);
+    add(slot);
+    return slot;
+  }
+
+  /** Deletes one occurrence of {@code value}, moving the last element into its slot. */
+  @Override
+  public boolean delete(long value) {
+    int expectedCount = modCount.intValue();
+    int position = position(value);
+    if (position == EMPTY) return false;
+    if (strict) checkDeleteConcurrent(expectedCount, value);
+    int slot = table[position];
+    remove(position);
+    int last = nElems.intValue() - 1;
+    if (slot != last) {
+      table[positionOf(last)] = slot;
+      a[slot] = a[last];
+    }
+    modCount.incrementAndGet();
+    a[last] = 0;
+    nElems.decrementAndGet();
+    return true;
+  }
+
+  @Override
+  public int removeIf(LongPredicate filter) {
+    int removed = super.removeIf(filter);
+    if (removed > 0) rebuild();
+    return removed;
+  }
+
+  /** The sorted array, with its index rebuilt for the slots the sort moved the elements to. */
+  @Override
+  public IArray sort(ISort sorter) {
+    IArray sorted = super.sort(sorter);
+    if (sorted instanceof HighArrayUnordered) ((HighArrayUnordered) sorted).rebuild();
+    return sorted;
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    Arrays.fill(table, EMPTY);
+  }
+
+  @Override
+  protected void resize(int capacity) {
+    super.resize(capacity);
+    allocateIndex(capacity);
+    rebuild();
+  }
+
+  private void allocateIndex(int capacity) {
+    int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 2;
+    table = new int[size];
+    mask = size - 1;
+    Arrays.fill(table, EMPTY);
+  }
+
+  private void rebuild() {
+    Arrays.fill(table, EMPTY);
+    int length = nElems.intValue();
+    for (int slot = 0; slot < length; slot++) add(slot);
+  }
+
+  private int home(long value) {
+    long h = value * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32)) & mask;
+  }
+
+  private void add(int slot) {
+    int i = home(a[slot]);
+    while (table[i] != EMPTY) i = (i + 1) & mask;
+    table[i] = slot;
+  }
+
+  /** The index position of an entry for {@code value}, or {@code EMPTY}. */
+  private int position(long value) {
+    for (int i = home(value); table[i] != EMPTY; i = (i + 1) & mask)
+      if (a[table[i]] == value) return i;
+    return EMPTY;
+  }
+
+  /** The index position of the entry for {@code slot}, which must be indexed. */
+  private int positionOf(int slot) {
+    int i = home(a[slot]);
+    while (table[i] != slot) i = (i + 1) & mask;
+    return i;
+  }
+
+  /** Empties {@code position}, shifting back later entries of the run that may fill it. */
+  private void remove(int position) {
+    int hole = position;
+    for (int i = (hole + 1) & mask; table[i] != EMPTY; i = (i + 1) & mask) {
+      // an entry may move to the hole unless its home lies after the hole, up to it
+      if (((i - home(a[table[i]])) & mask) >= ((i - hole) & mask)) {
+        table[hole] = table[i];
+        hole = i;
+      }
+    }
+    table[hole] = EMPTY;
+  }
+
+  @Override
+  @SuppressWarnings("all")
+  public boolean equals(final Object o) {
+    if (o == this) return true;
+    if (!(o instanceof HighArrayUnordered)) return false;
+    final HighArrayUnordered other = (HighArrayUnordered) o;
+    if (!other.canEqual((Object) this)) return false;
+    if (!super.equals(o)) return false;
+    return true;
+  }
+
+  @SuppressWarnings("all")
+  protected boolean canEqual(final Object other) {
+    return other instanceof HighArrayUnordered;
+  }
+
+  @Override
+  @SuppressWarnings("all")
+  public int hashCode() {
+    final int result = super.hashCode();
+    return result;
+  }
+}
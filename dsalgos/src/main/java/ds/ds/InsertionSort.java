@@ -9,15 +9,17 @@ public class InsertionSort extends AbstractSort {
     for (int out = 1; out < length; ++out) {
       long temp = a[out];
       int in = out;
-      ++outerLoopCount;
+      if (counting) ++outerLoopCount;
       while (in > 0 && a[in - 1] > temp) {
         --in;
-        ++comparisonCount;
-        ++innerLoopCount;
-        ++copyCount;
+        if (counting) {
+          ++comparisonCount;
+          ++innerLoopCount;
+          ++copyCount;
+        }
       }
       System.arraycopy(a, in, a, in + 1, out - in);
-      if (in > 0) ++comparisonCount;
+      if (counting && in > 0) ++comparisonCount;
       if (in != out) a[in] = temp;
     }
   }
@@ -0,0 +1,364 @@
+package ds;
+
+import static ds.ArrayUtils.swap;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Selection of order statistics without sorting.
+ *
+ * <p>{@link #select} is Floyd and Rivest's algorithm, iterative but for the selection in a small
+ * sample that places a pivot close to the wanted rank. Should a range fail to halve within two
+ * partitions, pivots switch to the median of medians, so the worst case stays linear the way an
+ * introspective sort's stays {@code O(n log n)}. {@link #multiSelect} places several ranks in one
+ * recursive partitioning pass, splitting on the middle rank and carrying the other ranks to their
+ * sides.
+ *
+ * <p>{@link #values} and {@link #quantiles} leave the input alone. Up to {@code PARALLEL_THRESHOLD}
+ * elements they select in a copy; on larger arrays every rank gets a band between two keys of a
+ * sorted random sample, one parallel pass on the {@link ExecutionContext} counts the keys below
+ * each band and gathers those inside, and the ranks are selected within the bands, falling back to
+ * a copy should a band miss its rank.
+ */
+public final class IntroSelect {
+
+  static final int PARALLEL_THRESHOLD = 1 << 20;
+  private static final int FLOYD_RIVEST_BARRIER = 600;
+  private static final int INSERTION_SORT_BARRIER = 16;
+  private static final int GROUP = 5;
+  private static final int CHUNKS_PER_WORKER = 2;
+
+  private final ExecutionContext context;
+
+  public IntroSelect() {
+    this(ExecutionContext.common());
+  }
+
+  public IntroSelect(ExecutionContext context) {
+    this.context = requireNonNull(context, "context");
+  }
+
+  public ExecutionContext getExecutionContext() {
+    return context;
+  }
+
+  /**
+   * Rearranges {@code a[from, to)} so that {@code a[rank]} holds the element a sort would put
+   * there, with none greater before it and none less after it.
+   *
+   * @return {@code a[rank]}
+   * @throws IndexOutOfBoundsException if {@code rank} is not in {@code [from, to)}
+   */
+  public static long select(long[] a, int from, int to, int rank) {
+    if (rank < from || rank >= to)
+      throw new IndexOutOfBoundsException("Rank " + rank + " out of [" + from + ", " + to + ")");
+    select(a, from, to - 1, rank, false);
+    return a[rank];
+  }
+
+  /**
+   * Rearranges {@code a[from, to)} so that every one of {@code ranks} holds the element a sort
+   * would put there, in one pass of partitions shared by all ranks.
+   *
+   * @param ranks in any order, repeats allowed
+   * @throws IndexOutOfBoundsException if a rank is not in {@code [from, to)}
+   */
+  public static void multiSelect(long[] a, int from, int to, int... ranks) {
+    int[] sorted = distinct(ranks, from, to);
+    // explicit stack of (low, high, first rank, end of ranks), at most log2 deep per rank
+    int[] stack =
+        new int[Math.max(4, (Integer.SIZE - Integer.numberOfLeadingZeros(sorted.length)) << 3)];
+    int top = 0;
+    stack[top++] = from;
+    stack[top++] = to - 1;
+    stack[top++] = 0;
+    stack[top++] = sorted.length;
+    while (top > 0) {
+      int rankEnd = stack[--top];
+      int rankStart = stack[--top];
+      int high = stack[--top];
+      int low = stack[--top];
+      if (rankStart >= rankEnd) continue;
+      int middle = (rankStart + rankEnd) >>> 1;
+      int rank = sorted[middle];
+      select(a, low, high, rank, false);
+      if (top + 8 > stack.length) stack = Arrays.copyOf(stack, stack.length << 1);
+      stack[top++] = low;
+      stack[top++] = rank - 1;
+      stack[top++] = rankStart;
+      stack[top++] = middle;
+      stack[top++] = rank + 1;
+      stack[top++] = high;
+      stack[top++] = middle + 1;
+      stack[top++] = rankEnd;
+    }
+  }
+
+  /** The order statistics of {@code array} at {@code ranks}, which is left as is. */
+  public long[] values(IArray array, int... ranks) {
+    return values(array.get(), array.count(), ranks);
+  }
+
+  /**
+   * The order statistics of {@code a[0, length)} at {@code ranks}, which is left as is.
+   *
+   * @return the element a sort would put at each rank, in the order of {@code ranks}
+   * @throws IndexOutOfBoundsException if a rank is not in {@code [0, length)}
+   */
+  public long[] values(long[] a, int length, int... ranks) {
+    int[] sorted = distinct(ranks, 0, length);
+    long[] found =
+        length >= PARALLEL_THRESHOLD && context.getParallelism() > 1 && sorted.length > 0
+            ? bandValues(a, length, sorted)
+            : copyValues(a, length, sorted);
+    long[] values = new long[ranks.length];
+    for (int i = 0; i < ranks.length; i++) values[i] = found[Arrays.binarySearch(sorted, ranks[i])];
+    return values;
+  }
+
+  /** The {@code quantiles} of {@code array}, which is left as is. */
+  public long[] quantiles(IArray array, double... quantiles) {
+    return quantiles(array.get(), array.count(), quantiles);
+  }
+
+  /**
+   * The nearest rank quantiles of {@code a[0, length)}, the element at rank {@code ceil(q n) - 1}
+   * or the minimum for 0, in one selection pass.
+   *
+   * @throws IllegalArgumentException if {@code a} is empty or a quantile not in {@code [0, 1]}
+   */
+  public long[] quantiles(long[] a, int length, double... quantiles) {
+    if (length == 0) throw new IllegalArgumentException("No quantiles of no elements.");
+    int[] ranks = new int[quantiles.length];
+    for (int i = 0; i < quantiles.length; i++) ranks[i] = rank(quantiles[i], length);
+    return values(a, length, ranks);
+  }
+
+  /** The nearest rank of quantile {@code q} among {@code length} elements. */
+  static int rank(double q, int length) {
+    if (!(q >= 0 && q <= 1)) throw new IllegalArgumentException("Illegal quantile: " + q);
+    return Math.max(0, (int) Math.ceil(q * length) - 1);
+  }
+
+  private static int[] distinct(int[] ranks, int from, int to) {
+    int[] sorted = ranks.clone();
+    Arrays.sort(sorted);
+    int count = 0;
+    for (int rank : sorted) {
+      if (rank < from || rank >= to)
+        throw new IndexOutOfBoundsException("Rank " + rank + " out of [" + from + ", " + to + ")");
+      if (count == 0 || sorted[count - 1] != rank) sorted[count++] = rank;
+    }
+    return Arrays.copyOf(sorted, count);
+  }
+
+  private static long[] copyValues(long[] a, int length, int[] ranks) {
+    long[] copy = Arrays.copyOf(a, length);
+    multiSelect(copy, 0, length, ranks);
+    long[] values = new long[ranks.length];
+    for (int i = 0; i < ranks.length; i++) values[i] = copy[ranks[i]];
+    return values;
+  }
+
+  /**
+   * Selects {@code rank} in {@code a[left, right]}, inclusive; only median pivots if guaranteed.
+   */
+  private static void select(long[] a, int left, int right, int rank, boolean guaranteed) {
+    int low = left;
+    int high = right;
+    boolean fallback = guaranteed;
+    int checkedSize = high - low + 1;
+    int partitions = 0;
+    while (high > low) {
+      if (high - low < INSERTION_SORT_BARRIER) {
+        insertionSort(a, low, high);
+        return;
+      }
+      // the range has to halve every other partition, or pivots turn to the median of medians
+      if (!fallback && partitions++ == 2) {
+        partitions = 1;
+        int size = high - low + 1;
+        fallback = size > checkedSize >> 1;
+        checkedSize = size;
+      }
+      if (fallback) swap(a, medianOfMedians(a, low, high), rank);
+      else if (high - low > FLOYD_RIVEST_BARRIER) sampleSelect(a, low, high, rank);
+      int j = partitionAt(a, low, high, rank);
+      if (j <= rank) low = j + 1;
+      if (rank <= j) high = j - 1;
+    }
+  }
+
+  /** Floyd and Rivest's sampling step: a key of about the wanted rank ends up at {@code rank}. */
+  private static void sampleSelect(long[] a, int low, int high, int rank) {
+    double n = high - low + 1;
+    double i = rank - low + 1;
+    double z = Math.log(n);
+    double s = 0.5 * Math.exp(2 * z / 3);
+    double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * Math.signum(i - n / 2);
+    int sampleLow = (int) Math.max(low, rank - i * s / n + sd);
+    int sampleHigh = (int) Math.min(high, rank + (n - i) * s / n + sd);
+    select(a, sampleLow, sampleHigh, rank, false);
+  }
+
+  /**
+   * Partitions {@code a[low, high]} around {@code a[rank]} as Floyd and Rivest do, keys equal to it
+   * stopping both scans.
+   *
+   * @return the final index of the pivot
+   */
+  private static int partitionAt(long[] a, int low, int high, int rank) {
+    long pivot = a[rank];
+    swap(a, low, rank);
+    if (a[high] > pivot) swap(a, high, low);
+    int i = low;
+    int j = high;
+    while (i < j) {
+      swap(a, i, j);
+      ++i;
+      --j;
+      while (a[i] < pivot) ++i;
+      while (a[j] > pivot) --j;
+    }
+    if (a[low] == pivot) swap(a, low, j);
+    else {
+      ++j;
+      swap(a, j, high);
+    }
+    return j;
+  }
+
+  /** Index of the median of the medians of groups of five, which splits at least 3/10 off. */
+  private static int medianOfMedians(long[] a, int low, int high) {
+    if (high - low < GROUP) {
+      insertionSort(a, low, high);
+      return (low + high) >>> 1;
+    }
+    int medians = low;
+    for (int group = low; group + GROUP - 1 <= high; group += GROUP) {
+      insertionSort(a, group, group + GROUP - 1);
+      swap(a, medians++, group + (GROUP >> 1));
+    }
+    int middle = (low + medians - 1) >>> 1;
+    select(a, low, medians - 1, middle, true);
+    return middle;
+  }
+
+  private static void insertionSort(long[] a, int low, int high) {
+    for (int i = low + 1; i <= high; i++) {
+      long value = a[i];
+      int j = i - 1;
+      while (j >= low && a[j] > value) {
+        a[j + 1] = a[j];
+        --j;
+      }
+      a[j + 1] = value;
+    }
+  }
+
+  /**
+   * Finds the ranks of {@code a[0, length)} in bands of keys around them, gathered in one parallel
+   * pass, with {@code ranks} sorted and distinct.
+   */
+  private long[] bandValues(long[] a, int length, int[] ranks) {
+    // a sample of n^(2/3) puts each rank within sqrt(s ln n) sample keys with high probability
+    int s = (int) Math.min(length >> 2, Math.pow(length, 2.0 / 3));
+    int delta = (int) Math.ceil(Math.sqrt(s * Math.log(length)));
+    long[] sample = new long[s];
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = 0; i < s; i++) sample[i] = a[random.nextInt(length)];
+    Arrays.sort(sample);
+
+    // bands of inclusive key bounds, overlapping ones merged; band[r] is the band of rank r
+    long[] lows = new long[ranks.length];
+    long[] highs = new long[ranks.length];
+    int[] band = new int[ranks.length];
+    int bands = 0;
+    for (int r = 0; r < ranks.length; r++) {
+      long position = (long) ranks[r] * s / length;
+      long low = position - delta < 0 ? Long.MIN_VALUE : sample[(int) (position - delta)];
+      long high = position + delta >= s ? Long.MAX_VALUE : sample[(int) (position + delta)];
+      if (bands > 0 && low <= highs[bands - 1]) highs[bands - 1] = Math.max(highs[bands - 1], high);
+      else {
+        lows[bands] = low;
+        highs[bands++] = high;
+      }
+      band[r] = bands - 1;
+    }
+
+    int chunks = context.getParallelism() * CHUNKS_PER_WORKER;
+    Gather[] gathers = new Gather[chunks];
+    int bandCount = bands;
+    context.invoke(
+        new RadixSortLong.ChunkAction(
+            chunk -> {
+              int from = (int) ((long) length * chunk / chunks);
+              int to = (int) ((long) length * (chunk + 1) / chunks);
+              gathers[chunk] = new Gather(a, from, to, lows, highs, bandCount);
+            },
+            0,
+            chunks));
+
+    long[] values = new long[ranks.length];
+    long below = 0;
+    int r = 0;
+    for (int b = 0; b < bands; b++) {
+      int size = 0;
+      for (Gather gather : gathers) {
+        below += gather.below[b];
+        size += gather.counts[b];
+      }
+      long[] members = new long[size];
+      int offset = 0;
+      for (Gather gather : gathers) {
+        System.arraycopy(gather.members[b], 0, members, offset, gather.counts[b]);
+        offset += gather.counts[b];
+      }
+      int first = r;
+      while (r < ranks.length && band[r] == b) ++r;
+      int[] local = new int[r - first];
+      for (int i = first; i < r; i++) {
+        long rank = ranks[i] - below;
+        if (rank < 0 || rank >= size) return copyValues(a, length, ranks);
+        local[i - first] = (int) rank;
+      }
+      multiSelect(members, 0, size, local);
+      for (int i = first; i < r; i++) values[i] = members[local[i - first]];
+      below += size;
+    }
+    return values;
+  }
+
+  /** One chunk's keys below each band, not counting earlier bands, and its keys inside. */
+  private static final class Gather {
+    final long[] below;
+    final int[] counts;
+    final long[][] members;
+
+    Gather(long[] a, int from, int to, long[] lows, long[] highs, int bands) {
+      below = new long[bands];
+      counts = new int[bands];
+      members = new long[bands][16];
+      for (int i = from; i < to; i++) {
+        long key = a[i];
+        // first band not entirely below the key
+        int low = 0;
+        int high = bands;
+        while (low < high) {
+          int middle = (low + high) >>> 1;
+          if (highs[middle] < key) low = middle + 1;
+          else high = middle;
+        }
+        if (low == bands) continue;
+        if (key < lows[low]) ++below[low];
+        else {
+          if (counts[low] == members[low].length)
+            members[low] = Arrays.copyOf(members[low], counts[low] << 1);
+          members[low][counts[low]++] = key;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,315 @@
+package ds;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Introspective sort in the pattern-defeating (pdqsort) style.
+ *
+ * <p>Quick sort with a median of three, or a ninther on large ranges, that never goes quadratic:
+ * every highly unbalanced partition shuffles a few elements around the pivot to break patterns and
+ * uses up one of {@code log2(n)} allowances, after which the range goes to {@link HeapSort}. Ranges
+ * below {@code INSERTION_SORT_BARRIER} are insertion sorted. A partition that needed no swaps is
+ * tried with a bounded insertion sort, so sorted and nearly sorted ranges finish in linear time,
+ * and keys equal to the pivot of the previous partition are swept left in one pass.
+ */
+public class IntroSort extends AbstractSort {
+
+  protected static final int INSERTION_SORT_BARRIER = 24;
+  protected static final int NINTHER_BARRIER = 128;
+  protected static final int PARTIAL_INSERTION_SORT_LIMIT = 8;
+  protected static final int SEQ_SORT_BARRIER = 1 << 13;
+  protected static final String PARTITION_PHASE = "partition";
+
+  @Override
+  protected void sort(long[] a, int length) {
+    if (!shouldSort(length)) return;
+    new IntroSortAction(a, 0, length, log2(length), true, false).compute();
+  }
+
+  protected static int log2(int length) {
+    return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(length);
+  }
+
+  @Override
+  public int getSwapCount() {
+    return saturatedCount(metrics.getSwapCount());
+  }
+
+  @Override
+  public int getComparisonCount() {
+    return saturatedCount(metrics.getComparisonCount());
+  }
+
+  @Override
+  public int getCopyCount() {
+    return saturatedCount(metrics.getCopyCount());
+  }
+
+  @Override
+  public int getTimeComplexity() {
+    long count = metrics.getInnerLoopCount();
+    return saturatedCount(count > 0 ? count : metrics.getOuterLoopCount());
+  }
+
+  @SuppressWarnings("PMD.LawOfDemeter")
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder(80);
+    String lineSeparator = System.lineSeparator();
+    sb.append(getClass().getName())
+        .append(lineSeparator)
+        .append("Comparison count: ")
+        .append(metrics.getComparisonCount())
+        .append(lineSeparator)
+        .append("Swap count: ")
+        .append(metrics.getSwapCount())
+        .append(lineSeparator)
+        .append("Copy count: ")
+        .append(metrics.getCopyCount())
+        .append(lineSeparator)
+        .append("inner loop count: ")
+        .append(metrics.getInnerLoopCount())
+        .append(lineSeparator)
+        .append("outer loop count: ")
+        .append(metrics.getOuterLoopCount())
+        .append(lineSeparator);
+    return sb.toString();
+  }
+
+  /**
+   * Sorts {@code a[begin, end)}. Sequential unless {@code parallel}, in which case both sides of a
+   * partition at least {@code SEQ_SORT_BARRIER} long are forked.
+   */
+  final class IntroSortAction extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    final long[] a;
+    final int begin;
+    final int end;
+    final int badAllowed;
+    final boolean leftmost;
+    final boolean parallel;
+    // task-local counts, added to the metrics once the task is done
+    long comparisons;
+    long swaps;
+    long copies;
+    long innerLoops;
+    long outerLoops;
+
+    @SuppressWarnings({"PMD.ArrayIsStoredDirectly", "checkstyle:ParameterNumber"})
+    IntroSortAction(
+        long[] a, int begin, int end, int badAllowed, boolean leftmost, boolean parallel) {
+      this.a = a;
+      this.begin = begin;
+      this.end = end;
+      this.badAllowed = badAllowed;
+      this.leftmost = leftmost;
+      this.parallel = parallel;
+    }
+
+    @Override
+    protected void compute() {
+      sortRange(begin, end, badAllowed, leftmost);
+      if (counting) metrics.add(comparisons, swaps, copies, innerLoops, outerLoops);
+    }
+
+    @SuppressWarnings("PMD.AvoidReassigningParameters")
+    private void sortRange(int begin, int end, int badAllowed, boolean leftmost) {
+      while (true) {
+        int size = end - begin;
+        if (size < INSERTION_SORT_BARRIER) {
+          insertionSort(begin, end);
+          return;
+        }
+        if (counting) ++outerLoops;
+        int half = size >>> 1;
+        if (size > NINTHER_BARRIER) {
+          sort3(begin, begin + half, end - 1);
+          sort3(begin + 1, begin + half - 1, end - 2);
+          sort3(begin + 2, begin + half + 1, end - 3);
+          sort3(begin + half - 1, begin + half, begin + half + 1);
+          exchange(begin, begin + half);
+        } else sort3(begin + half, begin, end - 1);
+
+        // the previous pivot is not less than this one: sweep all keys equal to it left
+        if (!leftmost && !less(a[begin - 1], a[begin])) {
+          begin = partitionLeft(begin, end) + 1;
+          continue;
+        }
+
+        long start = metrics.startPhase();
+        int pivot = partitionRight(begin, end);
+        metrics.endPhase(PARTITION_PHASE, start);
+        boolean alreadyPartitioned = pivot < 0;
+        if (alreadyPartitioned) pivot = ~pivot;
+        int leftSize = pivot - begin;
+        int rightSize = end - pivot - 1;
+
+        if (leftSize < size >>> 3 || rightSize < size >>> 3) {
+          if (--badAllowed == 0) {
+            heapSort(begin, end);
+            return;
+          }
+          shuffle(begin, pivot, leftSize, rightSize, end);
+        } else if (alreadyPartitioned
+            && partialInsertionSort(begin, pivot)
+            && partialInsertionSort(pivot + 1, end)) return;
+
+        if (parallel && leftSize >= SEQ_SORT_BARRIER && rightSize >= SEQ_SORT_BARRIER) {
+          invokeAll(
+              new IntroSortAction(a, begin, pivot, badAllowed, leftmost, true),
+              new IntroSortAction(a, pivot + 1, end, badAllowed, false, true));
+          return;
+        }
+        sortRange(begin, pivot, badAllowed, leftmost);
+        begin = pivot + 1;
+        leftmost = false;
+      }
+    }
+
+    /** Swaps a few elements on both sides of the pivot to break up a pattern. */
+    private void shuffle(int begin, int pivot, int leftSize, int rightSize, int end) {
+      if (leftSize >= INSERTION_SORT_BARRIER) {
+        int quarter = leftSize >>> 2;
+        exchange(begin, begin + quarter);
+        exchange(pivot - 1, pivot - quarter);
+        if (leftSize > NINTHER_BARRIER) {
+          exchange(begin + 1, begin + quarter + 1);
+          exchange(begin + 2, begin + quarter + 2);
+          exchange(pivot - 2, pivot - quarter - 1);
+          exchange(pivot - 3, pivot - quarter - 2);
+        }
+      }
+      if (rightSize >= INSERTION_SORT_BARRIER) {
+        int quarter = rightSize >>> 2;
+        exchange(pivot + 1, pivot + 1 + quarter);
+        exchange(end - 1, end - quarter);
+        if (rightSize > NINTHER_BARRIER) {
+          exchange(pivot + 2, pivot + 2 + quarter);
+          exchange(pivot + 3, pivot + 3 + quarter);
+          exchange(end - 2, end - 1 - quarter);
+          exchange(end - 3, end - 2 - quarter);
+        }
+      }
+    }
+
+    /**
+     * Partitions around {@code a[begin]} into {@code < pivot | pivot | >= pivot}.
+     *
+     * @return the final pivot index, or its complement when no element had to be swapped
+     */
+    private int partitionRight(int begin, int end) {
+      long pivot = a[begin];
+      int first = begin;
+      int last = end;
+      // a[end - 1] >= pivot after the median selection, so this stops
+      while (less(a[++first], pivot)) if (counting) ++innerLoops;
+      if (first - 1 == begin) {
+        while (first < last && !less(a[--last], pivot)) if (counting) ++innerLoops;
+      } else while (!less(a[--last], pivot)) if (counting) ++innerLoops;
+      boolean alreadyPartitioned = first >= last;
+      while (first < last) {
+        exchange(first, last);
+        while (less(a[++first], pivot)) if (counting) ++innerLoops;
+        while (!less(a[--last], pivot)) if (counting) ++innerLoops;
+      }
+      int pivotIndex = first - 1;
+      a[begin] = a[pivotIndex];
+      a[pivotIndex] = pivot;
+      if (counting) copies += 2;
+      return alreadyPartitioned ? ~pivotIndex : pivotIndex;
+    }
+
+    /**
+     * Partitions around {@code a[begin]} into {@code <= pivot | pivot | > pivot}.
+     *
+     * @return the final pivot index
+     */
+    private int partitionLeft(int begin, int end) {
+      long pivot = a[begin];
+      int first = begin;
+      int last = end;
+      while (less(pivot, a[--last])) if (counting) ++innerLoops;
+      if (last + 1 == end) {
+        while (first < last && !less(pivot, a[++first])) if (counting) ++innerLoops;
+      } else while (!less(pivot, a[++first])) if (counting) ++innerLoops;
+      while (first < last) {
+        exchange(first, last);
+        while (less(pivot, a[--last])) if (counting) ++innerLoops;
+        while (!less(pivot, a[++first])) if (counting) ++innerLoops;
+      }
+      a[begin] = a[last];
+      a[last] = pivot;
+      if (counting) copies += 2;
+      return last;
+    }
+
+    /**
+     * Insertion sort giving up after moving {@code PARTIAL_INSERTION_SORT_LIMIT} elements.
+     *
+     * @return whether {@code a[begin, end)} got sorted
+     */
+    private boolean partialInsertionSort(int begin, int end) {
+      int moved = 0;
+      for (int i = begin + 1; i < end; i++) {
+        if (!less(a[i], a[i - 1])) continue;
+        long value = a[i];
+        int j = i - 1;
+        do {
+          a[j + 1] = a[j];
+          if (counting) ++copies;
+          --j;
+        } while (j >= begin && less(value, a[j]));
+        a[j + 1] = value;
+        moved += i - j - 1;
+        if (moved > PARTIAL_INSERTION_SORT_LIMIT) return false;
+      }
+      return true;
+    }
+
+    private void insertionSort(int begin, int end) {
+      for (int i = begin + 1; i < end; i++) {
+        long value = a[i];
+        int j = i - 1;
+        while (j >= begin && less(value, a[j])) {
+          a[j + 1] = a[j];
+          if (counting) {
+            ++innerLoops;
+            ++copies;
+          }
+          --j;
+        }
+        a[j + 1] = value;
+      }
+    }
+
+    private void heapSort(int begin, int end) {
+      HeapSort heap = new HeapSort();
+      heap.counting = counting;
+      heap.heapSort(a, begin, end);
+      comparisons += heap.comparisonCount;
+      swaps += heap.swapCount;
+      outerLoops += heap.outerLoopCount;
+    }
+
+    private void sort3(int i, int j, int k) {
+      sort2(i, j);
+      sort2(j, k);
+      sort2(i, j);
+    }
+
+    private void sort2(int i, int j) {
+      if (less(a[j], a[i])) exchange(i, j);
+    }
+
+    private void exchange(int i, int j) {
+      swap(a, i, j);
+      if (counting) ++swaps;
+    }
+
+    private boolean less(long v, long w) {
+      if (counting) ++comparisons;
+      return v < w;
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package ds;
+
+import static java.util.Objects.requireNonNull;
+
+/** {@link IntroSort} forking both sides of every large enough partition. */
+public class IntroSortParallel extends IntroSort {
+
+  private final ExecutionContext context;
+
+  public IntroSortParallel() {
+    this(ExecutionContext.common());
+  }
+
+  public IntroSortParallel(ExecutionContext context) {
+    super();
+    this.context = requireNonNull(context, "context");
+  }
+
+  public ExecutionContext getExecutionContext() {
+    return context;
+  }
+
+  @Override
+  protected void sort(long[] a, int length) {
+    if (!shouldSort(length)) return;
+    IntroSortAction action = new IntroSortAction(a, 0, length, log2(length), true, true);
+    if (length <= SEQ_SORT_BARRIER) action.compute();
+    else context.invoke(action);
+  }
+}
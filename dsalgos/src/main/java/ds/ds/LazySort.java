@@ -0,0 +1,152 @@
+package ds;
+
+import static ds.ArrayUtils.swap;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Incremental quick sort: yields the elements of an array in ascending order, sorting only as far
+ * as they are pulled.
+ *
+ * <p>A stack holds the final positions of the pivots partitioned so far, the nearest on top. To
+ * yield the next element the leftmost unsorted range, up to that pivot, is partitioned again and
+ * again until its first element is in place, and the pivots pushed on the way are kept for later
+ * elements. Ranges of up to {@code INSERTION_SORT_BARRIER} elements are insertion sorted and then
+ * yielded without further work. The first {@code m} elements cost {@code O(n + m log m)} expected,
+ * all of them what a quick sort would. The iterator works on its own copy of the input.
+ */
+public final class LazySort implements PrimitiveIterator.OfLong {
+
+  private static final int INSERTION_SORT_BARRIER = 16;
+  private static final int NINTHER_BARRIER = 128;
+  private static final int INITIAL_STACK = 64;
+
+  private final long[] a;
+  private final int length;
+  private int[] pivots = new int[INITIAL_STACK];
+  private int top;
+  private int next;
+  private int sortedEnd;
+
+  /** Iterates over the elements of {@code array} in order, which is left as is. */
+  public LazySort(IArray array) {
+    this(array.get(), array.count());
+  }
+
+  /** Iterates over {@code a[0, length)} in order, which is left as is. */
+  public LazySort(long[] a, int length) {
+    if (length < 0 || length > a.length)
+      throw new IllegalArgumentException("Illegal length: " + length);
+    this.a = Arrays.copyOf(a, length);
+    this.length = length;
+    // the end of the array acts as a pivot past the last element
+    pivots[0] = length;
+  }
+
+  /** The elements of {@code array} as an ordered stream, sorted as far as it is consumed. */
+  public static LongStream stream(IArray array) {
+    return new LazySort(array).stream();
+  }
+
+  /** The elements of {@code a[0, length)} as an ordered stream, sorted as far as it is consumed. */
+  public static LongStream stream(long[] a, int length) {
+    return new LazySort(a, length).stream();
+  }
+
+  private LongStream stream() {
+    return StreamSupport.longStream(
+        Spliterators.spliterator(
+            this,
+            length,
+            Spliterator.ORDERED | Spliterator.SORTED | Spliterator.SIZED | Spliterator.IMMUTABLE),
+        false);
+  }
+
+  /** Elements not yielded yet. */
+  public int remaining() {
+    return length - next;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return next < length;
+  }
+
+  @Override
+  public long nextLong() {
+    if (next >= length) throw new NoSuchElementException("No more elements: " + length);
+    while (true) {
+      int end = pivots[top];
+      if (end == next) {
+        // a pivot in its final place, or the range before it all yielded
+        --top;
+        return a[next++];
+      }
+      if (next < sortedEnd) return a[next++];
+      if (end - next <= INSERTION_SORT_BARRIER) {
+        insertionSort(next, end);
+        sortedEnd = end;
+        return a[next++];
+      }
+      push(partition(next, end - 1, pivotIndex(next, end - 1)));
+    }
+  }
+
+  private void push(int pivot) {
+    if (++top == pivots.length) pivots = Arrays.copyOf(pivots, pivots.length << 1);
+    pivots[top] = pivot;
+  }
+
+  private int pivotIndex(int low, int high) {
+    int middle = (low + high) >>> 1;
+    if (high - low < NINTHER_BARRIER) return median3(low, middle, high);
+    int s = (high - low) >>> 3;
+    return median3(
+        median3(low, low + s, low + (s << 1)),
+        median3(middle - s, middle, middle + s),
+        median3(high - (s << 1), high - s, high));
+  }
+
+  private int median3(int i, int j, int k) {
+    return a[i] < a[j]
+        ? a[j] < a[k] ? j : a[i] < a[k] ? k : i
+        : a[k] < a[j] ? j : a[k] < a[i] ? k : i;
+  }
+
+  /**
+   * Hoare partition around {@code a[pivot]}, which ends up at the returned index; keys equal to it
+   * stop both scans, so runs of duplicates split evenly.
+   */
+  private int partition(int low, int high, int pivot) {
+    swap(a, low, pivot);
+    long value = a[low];
+    int i = low;
+    int j = high + 1;
+    while (true) {
+      while (a[++i] < value) if (i == high) break;
+      while (value < a[--j]) if (j == low) break;
+      if (i >= j) break;
+      swap(a, i, j);
+    }
+    swap(a, low, j);
+    return j;
+  }
+
+  private void insertionSort(int from, int to) {
+    for (int i = from + 1; i < to; i++) {
+      long value = a[i];
+      int j = i - 1;
+      while (j >= from && a[j] > value) {
+        a[j + 1] = a[j];
+        --j;
+      }
+      a[j + 1] = value;
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package ds;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics aggregated from task-local counts.
+ *
+ * <p>Tasks count in local variables and call {@link #add} once when done, so concurrent tasks never
+ * contend on a counter per comparison.
+ */
+class LocalSortMetrics implements SortMetrics {
+
+  private final LongAdder comparisonCount = new LongAdder();
+  private final LongAdder swapCount = new LongAdder();
+  private final LongAdder copyCount = new LongAdder();
+  private final LongAdder innerLoopCount = new LongAdder();
+  private final LongAdder outerLoopCount = new LongAdder();
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public boolean isTimed() {
+    return false;
+  }
+
+  @Override
+  public void add(long comparisons, long swaps, long copies, long innerLoops, long outerLoops) {
+    if (comparisons != 0) comparisonCount.add(comparisons);
+    if (swaps != 0) swapCount.add(swaps);
+    if (copies != 0) copyCount.add(copies);
+    if (innerLoops != 0) innerLoopCount.add(innerLoops);
+    if (outerLoops != 0) outerLoopCount.add(outerLoops);
+  }
+
+  @Override
+  public long startPhase() {
+    return 0L;
+  }
+
+  @Override
+  public void endPhase(String phase, long start) {
+    // not timed
+  }
+
+  @Override
+  public long getComparisonCount() {
+    return comparisonCount.sum();
+  }
+
+  @Override
+  public long getSwapCount() {
+    return swapCount.sum();
+  }
+
+  @Override
+  public long getCopyCount() {
+    return copyCount.sum();
+  }
+
+  @Override
+  public long getInnerLoopCount() {
+    return innerLoopCount.sum();
+  }
+
+  @Override
+  public long getOuterLoopCount() {
+    return outerLoopCount.sum();
+  }
+
+  @Override
+  public Map<String, Long> getPhaseTimes() {
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public void reset() {
+    comparisonCount.reset();
+    swapCount.reset();
+    copyCount.reset();
+    innerLoopCount.reset();
+    outerLoopCount.reset();
+  }
+
+  @SuppressWarnings("PMD.LawOfDemeter")
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder(80);
+    String lineSeparator = System.lineSeparator();
+    sb.append(getClass().getName())
+        .append(lineSeparator)
+        .append("Comparison count: ")
+        .append(comparisonCount)
+        .append(lineSeparator)
+        .append("Swap count: ")
+        .append(swapCount)
+        .append(lineSeparator)
+        .append("Copy count: ")
+        .append(copyCount)
+        .append(lineSeparator)
+        .append("inner loop count: ")
+        .append(innerLoopCount)
+        .append(lineSeparator)
+        .append("outer loop count: ")
+        .append(outerLoopCount);
+    return sb.toString();
+  }
+}
@@ -25,6 +25,12 @@ public final class MathUtils {
     return (num & 1) == 1;
   }
 
+  /** The mean of {@code a} and {@code b} in double, without overflowing a long sum. */
+  public static double midpoint(long a, long b) {
+    // a sum of opposite signs cannot overflow, nor can a difference of equal signs
+    return (a ^ b) < 0 ? (a + b) / 2.0 : a + (b - a) / 2.0;
+  }
+
   public static boolean isInRangeInclusive(int min, int max, int val) {
     return Math.max(min, val) == Math.min(val, max);
   }
@@ -1,10 +1,27 @@
 package ds;
 
+import static java.util.Objects.requireNonNull;
+
 /***
- * <p>Merge sort in place.</p>
+ * <p>Merge sort in place, down to an optional {@link BaseCase}.</p>
  ***/
 public class MergeSort extends AbstractSort {
 
+  private final BaseCase baseCase;
+
+  public MergeSort() {
+    this(BaseCase.NONE);
+  }
+
+  public MergeSort(BaseCase baseCase) {
+    super();
+    this.baseCase = requireNonNull(baseCase, "baseCase");
+  }
+
+  public BaseCase getBaseCase() {
+    return baseCase;
+  }
+
   @Override
   protected void sort(long[] a, int length) {
     if (!shouldSort(length)) return;
@@ -12,7 +29,10 @@ public class MergeSort extends AbstractSort {
   }
 
   private void mergeSort(long[] a, int l, int r) {
-    if (l < r) {
+    if (baseCase.handles(r - l + 1)) {
+      long comparisons = baseCase.sort(a, l, r + 1);
+      if (counting) comparisonCount += comparisons;
+    } else if (l < r) {
       int m = l + ((r - l) >> 1);
       mergeSort(a, l, m);
       mergeSort(a, m + 1, r);
@@ -24,7 +44,7 @@ public class MergeSort extends AbstractSort {
     int mid = middle;
     int start2 = mid + 1;
     // If the direct merge is already sorted
-    ++comparisonCount;
+    if (counting) ++comparisonCount;
     if (a[mid] <= a[start2]) {
       return;
     }
@@ -33,8 +53,10 @@ public class MergeSort extends AbstractSort {
     // of both arrays to merge
     while (start <= mid && start2 <= end) {
       // If element 1 is in right place
-      ++outerLoopCount;
-      ++comparisonCount;
+      if (counting) {
+        ++outerLoopCount;
+        ++comparisonCount;
+      }
       if (a[start] <= a[start2]) {
         ++start;
       } else {
@@ -43,13 +65,15 @@ public class MergeSort extends AbstractSort {
         // Shift all the elements between element 1
         // element 2, right by 1.
         while (index != start) {
-          ++innerLoopCount;
+          if (counting) {
+            ++innerLoopCount;
+            ++copyCount;
+          }
           System.arraycopy(a, index - 1, a, index, 1);
           --index;
-          ++copyCount;
         }
         a[start] = value;
-        ++copyCount;
+        if (counting) ++copyCount;
         // Update all the pointers
         ++start;
         ++mid;
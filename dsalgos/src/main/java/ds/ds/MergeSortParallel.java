@@ -1,104 +1,110 @@
 package ds;
 
-import static ds.ExecutorUtils.*;
+import static java.util.Objects.requireNonNull;
 
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RecursiveAction;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /***
- * <p>Merge sort using parallelism in-place.</p>
+ * <p>Merge sort using parallelism, either in-place or with one auxiliary buffer.</p>
  ***/
 public class MergeSortParallel extends MergeSort {
 
   private static final int SEQ_SORT_BARRIER = 8192;
-  private final AtomicInteger copyCount = new AtomicInteger();
-  private final AtomicInteger comparisonCount = new AtomicInteger();
-  private final AtomicInteger innerLoopCount = new AtomicInteger();
-  private final AtomicInteger outerLoopCount = new AtomicInteger();
+  private static final int INSERTION_SORT_BARRIER = 32;
+  private static final int SEQ_MERGE_BARRIER = 1 << 14;
+  private static final String MERGE_PHASE = "merge";
+
+  /** How the sorted halves are merged. */
+  public enum Mode {
+    /** Shifts elements within the array, O(n^2) per merge in the worst case. */
+    IN_PLACE,
+    /**
+     * Ping-pongs between the array and one buffer of the same length, with insertion sort for short
+     * runs and a parallel merge splitting both runs by binary search.
+     */
+    BUFFERED
+  }
+
+  private final ExecutionContext context;
+  private final Mode mode;
+
+  public MergeSortParallel() {
+    this(ExecutionContext.common());
+  }
+
+  public MergeSortParallel(ExecutionContext context) {
+    this(context, Mode.IN_PLACE);
+  }
+
+  public MergeSortParallel(ExecutionContext context, Mode mode) {
+    super();
+    this.context = requireNonNull(context, "context");
+    this.mode = requireNonNull(mode, "mode");
+  }
+
+  public ExecutionContext getExecutionContext() {
+    return context;
+  }
+
+  public Mode getMode() {
+    return mode;
+  }
 
   @Override
   public int getCopyCount() {
-    return copyCount.intValue();
+    return saturatedCount(metrics.getCopyCount());
   }
 
   @Override
   public int getComparisonCount() {
-    return comparisonCount.intValue();
+    return saturatedCount(metrics.getComparisonCount());
   }
 
   @Override
   public int getTimeComplexity() {
-    int count = innerLoopCount.intValue();
-    return count > 0 ? count : outerLoopCount.intValue();
-  }
-
-  @Override
-  public void reset() {
-    copyCount.set(0);
-    innerLoopCount.set(0);
-    outerLoopCount.set(0);
-    comparisonCount.set(0);
+    long count = metrics.getInnerLoopCount();
+    return saturatedCount(count > 0 ? count : metrics.getOuterLoopCount());
   }
 
   @Override
   protected void sort(long[] a, int length) {
     if (!shouldSort(length)) return;
+    if (mode == Mode.BUFFERED) {
+      sortPairs(a, null, length);
+      if (counting) metrics.add(0, 0, length, 0, 0);
+      return;
+    }
     if (length <= SEQ_SORT_BARRIER) {
-      super.sort(a, length);
       sequentialSort(a, length);
       return;
     }
-    ForkJoinPool pool = new ForkJoinPool();
-    pool.invoke(new MergeSortAction(a, 0, length - 1));
-    terminateExecutor(pool, length, TimeUnit.MILLISECONDS);
+    context.invoke(new MergeSortAction(a, 0, length - 1));
+  }
+
+  /**
+   * Sorts {@code keys[0, length)} stably in place the {@link Mode#BUFFERED} way, moving the first
+   * {@code length} elements of {@code payload} along when it is not null.
+   */
+  void sortPairs(long[] keys, int[] payload, int length) {
+    if (length < 2) return;
+    long[] buffer = new long[length];
+    System.arraycopy(keys, 0, buffer, 0, length);
+    int[] payloadBuffer = null;
+    if (payload != null) {
+      payloadBuffer = new int[length];
+      System.arraycopy(payload, 0, payloadBuffer, 0, length);
+    }
+    BufferedSortAction action =
+        new BufferedSortAction(buffer, payloadBuffer, keys, payload, 0, length);
+    if (length <= SEQ_SORT_BARRIER) action.compute();
+    else context.invoke(action);
   }
 
   private void sequentialSort(long[] a, int length) {
     super.sort(a, length);
-    copyCount.set(super.copyCount);
-    innerLoopCount.set(super.innerLoopCount);
-    outerLoopCount.set(super.outerLoopCount);
-    comparisonCount.set(super.comparisonCount);
-  }
-
-  private void merge(long[] a, int begin, int middle, int end) {
-    int mid = middle;
-    int start2 = mid + 1;
-    // If the direct merge is already sorted
-    comparisonCount.incrementAndGet();
-    if (a[mid] <= a[start2]) {
-      return;
-    }
-    int start = begin;
-    // Two pointers to maintain start
-    // of both arrays to merge
-    while (start <= mid && start2 <= end) {
-      // If element 1 is in right place
-      outerLoopCount.incrementAndGet();
-      comparisonCount.incrementAndGet();
-      if (a[start] <= a[start2]) {
-        ++start;
-      } else {
-        long value = a[start2];
-        int index = start2;
-        // Shift all the elements between element 1
-        // element 2, right by 1.
-        while (index != start) {
-          innerLoopCount.incrementAndGet();
-          System.arraycopy(a, index - 1, a, index, 1);
-          --index;
-          copyCount.incrementAndGet();
-        }
-        a[start] = value;
-        copyCount.incrementAndGet();
-        // Update all the pointers
-        ++start;
-        ++mid;
-        ++start2;
-      }
-    }
+    // hand the counts of the single sequential task over to the metrics
+    if (counting) metrics.add(comparisonCount, 0, copyCount, innerLoopCount, outerLoopCount);
+    copyCount = comparisonCount = innerLoopCount = outerLoopCount = 0;
   }
 
   @SuppressWarnings("PMD.LawOfDemeter")
@@ -109,16 +115,16 @@ public class MergeSortParallel extends MergeSort {
     sb.append(getClass().getName())
         .append(lineSeparator)
         .append("Comparison count: ")
-        .append(comparisonCount)
+        .append(metrics.getComparisonCount())
         .append(lineSeparator)
         .append("Copy count: ")
-        .append(copyCount)
+        .append(metrics.getCopyCount())
         .append(lineSeparator)
         .append("inner loop count: ")
-        .append(innerLoopCount)
+        .append(metrics.getInnerLoopCount())
         .append(lineSeparator)
         .append("outer loop count: ")
-        .append(outerLoopCount)
+        .append(metrics.getOuterLoopCount())
         .append(lineSeparator);
     return sb.toString();
   }
@@ -129,6 +135,11 @@ public class MergeSortParallel extends MergeSort {
     final long[] a;
     int low;
     int high;
+    // task-local counts, added to the metrics once the task is done
+    long comparisons;
+    long copies;
+    long innerLoops;
+    long outerLoops;
 
     @SuppressWarnings("PMD.ArrayIsStoredDirectly")
     MergeSortAction(long[] a, int low, int high) {
@@ -143,8 +154,266 @@ public class MergeSortParallel extends MergeSort {
         int m = low + ((high - low) >> 1);
         invokeAll(new MergeSortAction(a, low, m));
         invokeAll(new MergeSortAction(a, m + 1, high));
+        long start = metrics.startPhase();
         merge(a, low, m, high);
+        metrics.endPhase(MERGE_PHASE, start);
+        if (counting) metrics.add(comparisons, 0, copies, innerLoops, outerLoops);
+      }
+    }
+
+    private void merge(long[] a, int begin, int middle, int end) {
+      int mid = middle;
+      int start2 = mid + 1;
+      // If the direct merge is already sorted
+      if (counting) ++comparisons;
+      if (a[mid] <= a[start2]) {
+        return;
+      }
+      int start = begin;
+      // Two pointers to maintain start
+      // of both arrays to merge
+      while (start <= mid && start2 <= end) {
+        // If element 1 is in right place
+        if (counting) {
+          ++outerLoops;
+          ++comparisons;
+        }
+        if (a[start] <= a[start2]) {
+          ++start;
+        } else {
+          long value = a[start2];
+          int index = start2;
+          // Shift all the elements between element 1
+          // element 2, right by 1.
+          while (index != start) {
+            if (counting) {
+              ++innerLoops;
+              ++copies;
+            }
+            System.arraycopy(a, index - 1, a, index, 1);
+            --index;
+          }
+          a[start] = value;
+          if (counting) ++copies;
+          // Update all the pointers
+          ++start;
+          ++mid;
+          ++start2;
+        }
+      }
+    }
+  }
+
+  /**
+   * Sorts {@code dst[low, high)}, with {@code src} holding the same elements as scratch. The
+   * payloads, when not null, hold an {@code int} per element that moves along with it.
+   */
+  class BufferedSortAction extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    final long[] src;
+    final int[] srcPayload;
+    final long[] dst;
+    final int[] dstPayload;
+    final int low;
+    final int high;
+    long comparisons;
+    long copies;
+    long innerLoops;
+    long outerLoops;
+
+    @SuppressWarnings({"PMD.ArrayIsStoredDirectly", "checkstyle:ParameterNumber"})
+    BufferedSortAction(
+        long[] src, int[] srcPayload, long[] dst, int[] dstPayload, int low, int high) {
+      this.src = src;
+      this.srcPayload = srcPayload;
+      this.dst = dst;
+      this.dstPayload = dstPayload;
+      this.low = low;
+      this.high = high;
+    }
+
+    @Override
+    protected void compute() {
+      if (high - low > SEQ_SORT_BARRIER) {
+        int middle = (low + high) >>> 1;
+        invokeAll(
+            new BufferedSortAction(dst, dstPayload, src, srcPayload, low, middle),
+            new BufferedSortAction(dst, dstPayload, src, srcPayload, middle, high));
+        long start = metrics.startPhase();
+        new BufferedMergeAction(src, srcPayload, low, middle, middle, high, dst, dstPayload, low)
+            .invoke();
+        metrics.endPhase(MERGE_PHASE, start);
+      } else sortRange(src, srcPayload, dst, dstPayload, low, high);
+      if (counting) metrics.add(comparisons, 0, copies, innerLoops, outerLoops);
+    }
+
+    private void sortRange(
+        long[] from, int[] fromPayload, long[] to, int[] toPayload, int lo, int hi) {
+      if (hi - lo <= INSERTION_SORT_BARRIER) {
+        insertionSort(to, toPayload, lo, hi);
+        return;
+      }
+      int middle = (lo + hi) >>> 1;
+      sortRange(to, toPayload, from, fromPayload, lo, middle);
+      sortRange(to, toPayload, from, fromPayload, middle, hi);
+      if (counting) ++comparisons;
+      // already in order, the halves only need copying over
+      if (from[middle - 1] <= from[middle]) {
+        System.arraycopy(from, lo, to, lo, hi - lo);
+        if (fromPayload != null) System.arraycopy(fromPayload, lo, toPayload, lo, hi - lo);
+        if (counting) copies += hi - lo;
+        return;
+      }
+      int i = lo;
+      int j = middle;
+      for (int k = lo; k < hi; k++) {
+        if (counting) {
+          ++outerLoops;
+          ++copies;
+        }
+        int next = j >= hi || i < middle && from[i] <= from[j] ? i++ : j++;
+        to[k] = from[next];
+        if (fromPayload != null) toPayload[k] = fromPayload[next];
+        if (counting) ++comparisons;
+      }
+    }
+
+    private void insertionSort(long[] a, int[] payload, int lo, int hi) {
+      for (int i = lo + 1; i < hi; i++) {
+        long value = a[i];
+        int carried = payload == null ? 0 : payload[i];
+        int j = i - 1;
+        if (counting) ++outerLoops;
+        while (j >= lo && a[j] > value) {
+          if (counting) {
+            ++innerLoops;
+            ++comparisons;
+            ++copies;
+          }
+          a[j + 1] = a[j];
+          if (payload != null) payload[j + 1] = payload[j];
+          --j;
+        }
+        if (counting && j >= lo) ++comparisons;
+        a[j + 1] = value;
+        if (payload != null) payload[j + 1] = carried;
+      }
+    }
+  }
+
+  /**
+   * Merges the sorted runs {@code src[low1, high1)} and {@code src[low2, high2)} into dst, with
+   * their payloads when not null.
+   */
+  class BufferedMergeAction extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    final long[] src;
+    final int[] srcPayload;
+    final int low1;
+    final int high1;
+    final int low2;
+    final int high2;
+    final long[] dst;
+    final int[] dstPayload;
+    final int index;
+    long comparisons;
+    long copies;
+
+    @SuppressWarnings({"PMD.ArrayIsStoredDirectly", "checkstyle:ParameterNumber"})
+    BufferedMergeAction(
+        long[] src,
+        int[] srcPayload,
+        int low1,
+        int high1,
+        int low2,
+        int high2,
+        long[] dst,
+        int[] dstPayload,
+        int index) {
+      this.src = src;
+      this.srcPayload = srcPayload;
+      this.low1 = low1;
+      this.high1 = high1;
+      this.low2 = low2;
+      this.high2 = high2;
+      this.dst = dst;
+      this.dstPayload = dstPayload;
+      this.index = index;
+    }
+
+    @Override
+    protected void compute() {
+      int length1 = high1 - low1;
+      int length2 = high2 - low2;
+      if (length1 + length2 <= SEQ_MERGE_BARRIER) merge();
+      else {
+        // split the longer run in half and the other one where its middle value would go, keeping
+        // equal values of the first run ahead of those of the second
+        int middle1;
+        int middle2;
+        if (length1 >= length2) {
+          middle1 = (low1 + high1) >>> 1;
+          middle2 = lowerBound(src, low2, high2, src[middle1]);
+        } else {
+          middle2 = (low2 + high2) >>> 1;
+          middle1 = upperBound(src, low1, high1, src[middle2]);
+        }
+        int split = index + middle1 - low1 + middle2 - low2;
+        invokeAll(
+            new BufferedMergeAction(
+                src, srcPayload, low1, middle1, low2, middle2, dst, dstPayload, index),
+            new BufferedMergeAction(
+                src, srcPayload, middle1, high1, middle2, high2, dst, dstPayload, split));
+      }
+      if (counting) metrics.add(comparisons, 0, copies, 0, copies);
+    }
+
+    private void merge() {
+      int i = low1;
+      int j = low2;
+      int k = index;
+      while (i < high1 && j < high2) {
+        if (counting) ++comparisons;
+        int next = src[i] <= src[j] ? i++ : j++;
+        if (srcPayload != null) dstPayload[k] = srcPayload[next];
+        dst[k++] = src[next];
+      }
+      int rest1 = high1 - i;
+      System.arraycopy(src, i, dst, k, rest1);
+      System.arraycopy(src, j, dst, k + rest1, high2 - j);
+      if (srcPayload != null) {
+        System.arraycopy(srcPayload, i, dstPayload, k, rest1);
+        System.arraycopy(srcPayload, j, dstPayload, k + rest1, high2 - j);
+      }
+      if (counting) copies += high1 - low1 + high2 - low2;
+    }
+
+    /** First index in {@code a[lo, hi)} whose value is not less than {@code key}. */
+    private int lowerBound(long[] a, int lo, int hi, long key) {
+      int low = lo;
+      int high = hi;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (counting) ++comparisons;
+        if (a[middle] < key) low = middle + 1;
+        else high = middle;
+      }
+      return low;
+    }
+
+    /** First index in {@code a[lo, hi)} whose value is greater than {@code key}. */
+    private int upperBound(long[] a, int lo, int hi, long key) {
+      int low = lo;
+      int high = hi;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (counting) ++comparisons;
+        if (a[middle] <= key) low = middle + 1;
+        else high = middle;
       }
+      return low;
     }
   }
 }
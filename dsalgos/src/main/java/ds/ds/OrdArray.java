@@ -15,6 +15,10 @@ public class OrdArray extends AbstractOrdArray {
     super(max, strict);
   }
 
+  protected OrdArray(int max, boolean strict, GrowthPolicy policy) {
+    super(max, strict, policy);
+  }
+
   public OrdArray(OrdArray array) {
     super(array);
   }
@@ -0,0 +1,72 @@
+package ds;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link OrdArray} that grows when full, and shrinks after deletes if its {@link GrowthPolicy}
+ * says so, instead of throwing {@link ArrayIndexOutOfBoundsException}.
+ *
+ * <p>As with {@link HighArrayGrowable}, a resize replaces the backing array, and {@link
+ * #syncInsert} and {@link #syncDelete} resize while holding the monitor of the array.
+ */
+public class OrdArrayGrowable extends OrdArray {
+
+  public OrdArrayGrowable() {
+    this(GrowthPolicy.doubling());
+  }
+
+  public OrdArrayGrowable(GrowthPolicy policy) {
+    this(policy.getMinCapacity(), false, policy);
+  }
+
+  public OrdArrayGrowable(int max, GrowthPolicy policy) {
+    this(max, false, policy);
+  }
+
+  /**
+   * @throws IllegalArgumentException if {@code max} is not positive or above the maximum capacity
+   *     of {@code policy}
+   */
+  public OrdArrayGrowable(int max, boolean strict, GrowthPolicy policy) {
+    super(max, strict, requireNonNull(policy, "policy"));
+  }
+
+  public OrdArrayGrowable(OrdArrayGrowable array) {
+    super(array);
+  }
+
+  @Override
+  public IArray copy() {
+    return new OrdArrayGrowable(this);
+  }
+
+  /** Shrinks the capacity to the count, or to one element if empty. */
+  public void trimToSize() {
+    synchronized (lock) {
+      shrinkToSize();
+    }
+  }
+
+  @Override
+  @SuppressWarnings("all")
+  public boolean equals(final Object o) {
+    if (o == this) return true;
+    if (!(o instanceof OrdArrayGrowable)) return false;
+    final OrdArrayGrowable other = (OrdArrayGrowable) o;
+    if (!other.canEqual((Object) this)) return false;
+    if (!super.equals(o)) return false;
+    return true;
+  }
+
+  @SuppressWarnings("all")
+  protected boolean canEqual(final Object other) {
+    return other instanceof OrdArrayGrowable;
+  }
+
+  @Override
+  @SuppressWarnings("all")
+  public int hashCode() {
+    final int result = super.hashCode();
+    return result;
+  }
+}
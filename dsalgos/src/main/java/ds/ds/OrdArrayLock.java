@@ -2,10 +2,11 @@ package ds;
 
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
 
 /** Demonstrates array class with high-level interface. */
 public class OrdArrayLock extends AbstractOrdArray {
-  private final Lock w = new ReentrantReadWriteLock(true).writeLock();
+  protected final Lock w = new ReentrantReadWriteLock(true).writeLock();
 
   public OrdArrayLock() {
     this(100);
@@ -19,6 +20,10 @@ public class OrdArrayLock extends AbstractOrdArray {
     super(max, strict);
   }
 
+  protected OrdArrayLock(int max, boolean strict, GrowthPolicy policy) {
+    super(max, strict, policy);
+  }
+
   public OrdArrayLock(OrdArrayLock array) {
     super(array);
   }
@@ -38,6 +43,48 @@ public class OrdArrayLock extends AbstractOrdArray {
     }
   }
 
+  @Override
+  public int syncInsertAll(long... values) {
+    long[] sorted = sortBatch(values, values.length, null);
+    w.lock();
+    try {
+      return mergeSorted(sorted);
+    } finally {
+      w.unlock();
+    }
+  }
+
+  @Override
+  public int syncInsertAll(IArray values) {
+    long[] sorted = sortBatch(values.get(), values.count(), null);
+    w.lock();
+    try {
+      return mergeSorted(sorted);
+    } finally {
+      w.unlock();
+    }
+  }
+
+  @Override
+  public int syncRemoveIf(LongPredicate filter) {
+    w.lock();
+    try {
+      return removeIf(filter);
+    } finally {
+      w.unlock();
+    }
+  }
+
+  @Override
+  public int syncRemoveAll(long... values) {
+    w.lock();
+    try {
+      return removeAll(values);
+    } finally {
+      w.unlock();
+    }
+  }
+
   @Override
   public boolean syncDelete(long val) {
     w.lock();
@@ -0,0 +1,75 @@
+package ds;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link OrdArrayLock} that grows when full, and shrinks after deletes if its {@link
+ * GrowthPolicy} says so, instead of throwing {@link ArrayIndexOutOfBoundsException}.
+ *
+ * <p>Resizes run inside {@link #insert} and {@link #delete}, so the write lock of {@link
+ * #syncInsert} and {@link #syncDelete} covers them, and {@link #trimToSize()} takes it too.
+ */
+public class OrdArrayLockGrowable extends OrdArrayLock {
+
+  public OrdArrayLockGrowable() {
+    this(GrowthPolicy.doubling());
+  }
+
+  public OrdArrayLockGrowable(GrowthPolicy policy) {
+    this(policy.getMinCapacity(), false, policy);
+  }
+
+  public OrdArrayLockGrowable(int max, GrowthPolicy policy) {
+    this(max, false, policy);
+  }
+
+  /**
+   * @throws IllegalArgumentException if {@code max} is not positive or above the maximum capacity
+   *     of {@code policy}
+   */
+  public OrdArrayLockGrowable(int max, boolean strict, GrowthPolicy policy) {
+    super(max, strict, requireNonNull(policy, "policy"));
+  }
+
+  public OrdArrayLockGrowable(OrdArrayLockGrowable array) {
+    super(array);
+  }
+
+  @Override
+  public IArray copy() {
+    return new OrdArrayLockGrowable(this);
+  }
+
+  /** Shrinks the capacity to the count, or to one element if empty. */
+  public void trimToSize() {
+    w.lock();
+    try {
+      shrinkToSize();
+    } finally {
+      w.unlock();
+    }
+  }
+
+  @Override
+  @SuppressWarnings("all")
+  public boolean equals(final Object o) {
+    if (o == this) return true;
+    if (!(o instanceof OrdArrayLockGrowable)) return false;
+    final OrdArrayLockGrowable other = (OrdArrayLockGrowable) o;
+    if (!other.canEqual((Object) this)) return false;
+    if (!super.equals(o)) return false;
+    return true;
+  }
+
+  @SuppressWarnings("all")
+  protected boolean canEqual(final Object other) {
+    return other instanceof OrdArrayLockGrowable;
+  }
+
+  @Override
+  @SuppressWarnings("all")
+  public int hashCode() {
+    final int result = super.hashCode();
+    return result;
+  }
+}
@@ -0,0 +1,185 @@
+package ds;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongPredicate;
+
+/**
+ * An ordered array whose synchronized reads take no lock at all while no write runs.
+ *
+ * <p>Writes take the exclusive stamp of a {@link StampedLock}. {@link #syncFind}, {@link
+ * #syncFindIndex} and {@link #rangeScan} read under an optimistic stamp and validate it afterwards,
+ * retrying under the read lock only when a write intervened, so readers never write shared memory
+ * and scale with the cores instead of queueing like on {@link OrdArrayLock}. Everything an
+ * optimistic read computes is thrown away unless the stamp validates; its searches stay within the
+ * array whatever a racing write does, so they cannot fail either.
+ */
+public class OrdArrayStamped extends AbstractOrdArray {
+  private final StampedLock stamped = new StampedLock();
+
+  public OrdArrayStamped() {
+    this(100);
+  }
+
+  public OrdArrayStamped(int max) {
+    this(max, false);
+  }
+
+  public OrdArrayStamped(int max, boolean strict) {
+    super(max, strict);
+  }
+
+  public OrdArrayStamped(OrdArrayStamped array) {
+    super(array);
+  }
+
+  @Override
+  public IArray copy() {
+    return new OrdArrayStamped(this);
+  }
+
+  /** Whether {@code searchKey} is an element, consistent with the writes before or after. */
+  public boolean syncFind(long searchKey) {
+    return syncFindIndex(searchKey) >= 0;
+  }
+
+  /** As {@link #findIndex(long)}, consistent with the writes before or after. */
+  public int syncFindIndex(long searchKey) {
+    long stamp = stamped.tryOptimisticRead();
+    if (stamp != 0) {
+      int index = findIndex(searchKey, length());
+      if (stamped.validate(stamp)) return index;
+    }
+    stamp = stamped.readLock();
+    try {
+      return findIndex(searchKey);
+    } finally {
+      stamped.unlockRead(stamp);
+    }
+  }
+
+  /** The elements in {@code [from, to)}, in order, as of one moment between writes. */
+  public long[] rangeScan(long from, long to) {
+    if (from >= to) return new long[0];
+    long stamp = stamped.tryOptimisticRead();
+    if (stamp != 0) {
+      long[] range = copyRange(from, to);
+      if (stamped.validate(stamp)) return range;
+    }
+    stamp = stamped.readLock();
+    try {
+      return copyRange(from, to);
+    } finally {
+      stamped.unlockRead(stamp);
+    }
+  }
+
+  /** The count, bounded by the capacity so a racing read never runs past the array. */
+  private int length() {
+    return Math.min(nElems.intValue(), a.length);
+  }
+
+  private long[] copyRange(long from, long to) {
+    int length = length();
+    int low = lowerBound(from, length);
+    int high = lowerBound(to, length);
+    return low < high ? Arrays.copyOfRange(a, low, high) : new long[0];
+  }
+
+  /** The first slot whose element is not less than {@code key}. */
+  private int lowerBound(long key, int length) {
+    int low = 0;
+    int high = length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (a[mid] < key) low = mid + 1;
+      else high = mid;
+    }
+    return low;
+  }
+
+  @Override
+  public int syncInsert(long value) {
+    long stamp = stamped.writeLock();
+    try {
+      return insert(value);
+    } finally {
+      stamped.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public boolean syncDelete(long value) {
+    long stamp = stamped.writeLock();
+    try {
+      return delete(value);
+    } finally {
+      stamped.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public int syncInsertAll(long... values) {
+    long[] sorted = sortBatch(values, values.length, null);
+    long stamp = stamped.writeLock();
+    try {
+      return mergeSorted(sorted);
+    } finally {
+      stamped.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public int syncInsertAll(IArray values) {
+    long[] sorted = sortBatch(values.get(), values.count(), null);
+    long stamp = stamped.writeLock();
+    try {
+      return mergeSorted(sorted);
+    } finally {
+      stamped.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public int syncRemoveIf(LongPredicate filter) {
+    long stamp = stamped.writeLock();
+    try {
+      return removeIf(filter);
+    } finally {
+      stamped.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public int syncRemoveAll(long... values) {
+    long stamp = stamped.writeLock();
+    try {
+      return removeAll(values);
+    } finally {
+      stamped.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("all")
+  public boolean equals(final Object o) {
+    if (o == this) return true;
+    if (!(o instanceof OrdArrayStamped)) return false;
+    final OrdArrayStamped other = (OrdArrayStamped) o;
+    if (!other.canEqual((Object) this)) return false;
+    if (!super.equals(o)) return false;
+    return true;
+  }
+
+  @SuppressWarnings("all")
+  protected boolean canEqual(final Object other) {
+    return other instanceof OrdArrayStamped;
+  }
+
+  @Override
+  @SuppressWarnings("all")
+  public int hashCode() {
+    final int result = super.hashCode();
+    return result;
+  }
+}
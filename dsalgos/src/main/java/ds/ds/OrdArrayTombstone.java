@@ -0,0 +1,189 @@
+package ds;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * An {@link OrdArray} whose deletes leave a tombstone instead of moving the tail down.
+ *
+ * <p>A deleted element keeps its slot, and its value, so binary search over the slots still works;
+ * {@link #find}, {@link #count()} and {@link #getExtentArray()} skip the marked slots. Once more
+ * than {@code maxDeadRatio} of the slots are dead the array is compacted in one pass, so a run of
+ * {@code m} deletes costs {@code O(m log n)} plus an occasional {@code O(n)} instead of {@code O(m
+ * n)}. Inserts and bulk operations compact first when they need the room, and {@link #get()}
+ * compacts so that the first {@link #count()} slots of the array it returns are the elements.
+ */
+public class OrdArrayTombstone extends OrdArray {
+
+  public static final double DEFAULT_MAX_DEAD_RATIO = 0.25;
+
+  private final double maxDeadRatio;
+  private boolean[] dead;
+  private int deadCount;
+
+  public OrdArrayTombstone() {
+    this(100);
+  }
+
+  public OrdArrayTombstone(int max) {
+    this(max, false, DEFAULT_MAX_DEAD_RATIO);
+  }
+
+  /**
+   * @throws IllegalArgumentException if {@code maxDeadRatio} is not in {@code [0, 1)}; 0 compacts
+   *     on every delete
+   */
+  public OrdArrayTombstone(int max, boolean strict, double maxDeadRatio) {
+    super(max, strict);
+    if (!(maxDeadRatio >= 0 && maxDeadRatio < 1))
+      throw new IllegalArgumentException("Illegal dead ratio: " + maxDeadRatio);
+    this.maxDeadRatio = maxDeadRatio;
+    dead = new boolean[max];
+  }
+
+  /** A compacted copy of {@code array}. */
+  public OrdArrayTombstone(OrdArrayTombstone array) {
+    super(array);
+    maxDeadRatio = array.maxDeadRatio;
+    dead = array.dead.clone();
+    deadCount = array.deadCount;
+    compact();
+  }
+
+  @Override
+  public IArray copy() {
+    return new OrdArrayTombstone(this);
+  }
+
+  public double getMaxDeadRatio() {
+    return maxDeadRatio;
+  }
+
+  /** Slots marked deleted and not yet compacted. */
+  public int getDeadCount() {
+    return deadCount;
+  }
+
+  /** The backing array, compacted first so that it starts with the {@link #count()} elements. */
+  @Override
+  public long[] get() {
+    compact();
+    return super.get();
+  }
+
+  @Override
+  public long[] getExtentArray() {
+    int length = nElems.intValue();
+    long[] live = new long[length - deadCount];
+    for (int i = 0, j = 0; i < length; i++) if (!dead[i]) live[j++] = a[i];
+    return live;
+  }
+
+  @Override
+  public int count() {
+    return nElems.intValue() - deadCount;
+  }
+
+  /** The slot of a live {@code searchKey}, or {@code -(insertion point + 1)}. */
+  @Override
+  public int findIndex(long searchKey) {
+    int i = super.findIndex(searchKey);
+    if (i < 0 || !dead[i]) return i;
+    // another slot of the same key may still be live
+    int length = nElems.intValue();
+    int low = i;
+    while (low > 0 && a[low - 1] == searchKey) --low;
+    for (int j = low; j < length && a[j] == searchKey; j++) if (!dead[j]) return j;
+    return -(low + 1);
+  }
+
+  @Override
+  public int insert(long value) {
+    if (nElems.intValue() == a.length && deadCount > 0) compact();
+    return super.insert(value);
+  }
+
+  @Override
+  protected void moveAndInsert(int j, int count, long value) {
+    System.arraycopy(dead, j, dead, j + 1, count - j);
+    dead[j] = false;
+    super.moveAndInsert(j, count, value);
+  }
+
+  /** Marks the slot of {@code value} dead, compacting once too many are. */
+  @Override
+  public boolean delete(long value) {
+    int expectedCount = modCount.intValue();
+    int j = findIndex(value);
+    if (j < 0) return false;
+    if (strict) checkDeleteConcurrent(expectedCount, value);
+    modCount.incrementAndGet();
+    dead[j] = true;
+    if (++deadCount > maxDeadRatio * nElems.intValue()) compact();
+    return true;
+  }
+
+  @Override
+  public int removeIf(LongPredicate filter) {
+    compact();
+    return super.removeIf(filter);
+  }
+
+  @Override
+  public int removeAll(long... values) {
+    compact();
+    return super.removeAll(values);
+  }
+
+  @Override
+  protected int mergeSorted(long[] sorted) {
+    compact();
+    return super.mergeSorted(sorted);
+  }
+
+  @Override
+  public void clear() {
+    compact();
+    super.clear();
+  }
+
+  /** Drops the dead slots in one pass. */
+  public void compact() {
+    if (deadCount == 0) return;
+    int length = nElems.intValue();
+    int kept = 0;
+    for (int i = 0; i < length; i++) if (!dead[i]) a[kept++] = a[i];
+    Arrays.fill(dead, 0, length, false);
+    deadCount = 0;
+    truncate(kept, length);
+  }
+
+  @Override
+  protected void resize(int capacity) {
+    super.resize(capacity);
+    dead = Arrays.copyOf(dead, capacity);
+  }
+
+  @Override
+  @SuppressWarnings("all")
+  public boolean equals(final Object o) {
+    if (o == this) return true;
+    if (!(o instanceof OrdArrayTombstone)) return false;
+    final OrdArrayTombstone other = (OrdArrayTombstone) o;
+    if (!other.canEqual((Object) this)) return false;
+    if (!super.equals(o)) return false;
+    return true;
+  }
+
+  @SuppressWarnings("all")
+  protected boolean canEqual(final Object other) {
+    return other instanceof OrdArrayTombstone;
+  }
+
+  @Override
+  @SuppressWarnings("all")
+  public int hashCode() {
+    final int result = super.hashCode();
+    return result;
+  }
+}
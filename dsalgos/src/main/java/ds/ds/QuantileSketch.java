@@ -0,0 +1,310 @@
+package ds;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Approximate quantiles of an unbounded stream of longs in bounded memory, after Karnin, Lang and
+ * Liberty (KLL).
+ *
+ * <p>Values are kept in levels, and every value in level {@code h} stands for {@code 2^h} values of
+ * the stream. A full level is compacted: it is sorted, and every other value, starting at a random
+ * one of the first two, moves up one level while the rest are dropped. Level capacities shrink by
+ * {@code 2/3} from the top level down to no fewer than {@code MIN_WIDTH}, so a sketch holds {@code
+ * O(k)} values however long the stream, and the rank of any quantile is off by at most {@link
+ * #getNormalizedRankError()} times the count with 99% confidence. Sketches merge level by level
+ * into a sketch with the same guarantee, which is how {@link QuantileSketchConcurrent} combines
+ * sketches updated by different threads.
+ *
+ * <p>Until the first compaction the sketch holds every value and answers exactly, by {@link
+ * QuickSelect} and {@link QuickSelectMedian} on a copy.
+ */
+public final class QuantileSketch {
+
+  public static final int DEFAULT_K = 200;
+  static final int MIN_K = 8;
+  static final int MAX_K = 1 << 16;
+  private static final int MIN_WIDTH = 8;
+  private static final double DECAY = 2.0 / 3.0;
+
+  private final int k;
+  private long[][] levels = new long[1][];
+  private int[] sizes = new int[1];
+  private int[] widths = new int[1];
+  private int capacity;
+  private int retained;
+  private long count;
+  private long min = Long.MAX_VALUE;
+  private long max = Long.MIN_VALUE;
+  private long seed = ThreadLocalRandom.current().nextLong() | 1;
+  // sorted values and cumulative weights, built on the first query after a change
+  private long[] viewValues;
+  private long[] viewWeights;
+
+  public QuantileSketch() {
+    this(DEFAULT_K);
+  }
+
+  /**
+   * A sketch whose largest level holds {@code k} values; the rank error falls roughly as {@code
+   * 1/k}.
+   *
+   * @throws IllegalArgumentException if {@code k} is not in {@code [MIN_K, MAX_K]}
+   */
+  public QuantileSketch(int k) {
+    if (k < MIN_K || k > MAX_K) throw new IllegalArgumentException("Illegal k: " + k);
+    this.k = k;
+    widths[0] = k;
+    capacity = k;
+    levels[0] = new long[capacity];
+  }
+
+  /** A copy of {@code sketch}, updated independently of it. */
+  public QuantileSketch(QuantileSketch sketch) {
+    k = sketch.k;
+    levels = new long[sketch.levels.length][];
+    for (int h = 0; h < levels.length; h++) levels[h] = sketch.levels[h].clone();
+    sizes = sketch.sizes.clone();
+    widths = sketch.widths.clone();
+    capacity = sketch.capacity;
+    retained = sketch.retained;
+    count = sketch.count;
+    min = sketch.min;
+    max = sketch.max;
+  }
+
+  public int getK() {
+    return k;
+  }
+
+  /** Values seen, including those merged in. */
+  public long count() {
+    return count;
+  }
+
+  /** Values held, at most a small multiple of {@code k}. */
+  public int getRetained() {
+    return retained;
+  }
+
+  public boolean isEmpty() {
+    return count == 0;
+  }
+
+  /** Whether every value seen is still held, so that answers are exact. */
+  public boolean isExact() {
+    return retained == count;
+  }
+
+  /** Bound on the error of a rank as a fraction of the count, with 99% confidence. */
+  public double getNormalizedRankError() {
+    return 2.296 / Math.pow(k, 0.9723);
+  }
+
+  public long min() {
+    checkNotEmpty();
+    return min;
+  }
+
+  public long max() {
+    checkNotEmpty();
+    return max;
+  }
+
+  public void update(long value) {
+    if (value < min) min = value;
+    if (value > max) max = value;
+    if (sizes[0] == levels[0].length) levels[0] = Arrays.copyOf(levels[0], sizes[0] << 1);
+    levels[0][sizes[0]++] = value;
+    ++retained;
+    ++count;
+    viewValues = null;
+    if (retained > capacity) compress();
+  }
+
+  /** Adds the values summarised by {@code other} to this sketch; {@code other} is left as is. */
+  public void merge(QuantileSketch other) {
+    if (other.isEmpty()) return;
+    QuantileSketch source = other == this ? new QuantileSketch(other) : other;
+    if (source.min < min) min = source.min;
+    if (source.max > max) max = source.max;
+    while (levels.length < source.levels.length) addLevel();
+    for (int h = 0; h < source.levels.length; h++) {
+      int size = source.sizes[h];
+      if (size == 0) continue;
+      if (h == 0) {
+        // the lowest level is unsorted, so values are simply appended
+        ensureLevel(0, sizes[0] + size);
+        System.arraycopy(source.levels[0], 0, levels[0], sizes[0], size);
+        sizes[0] += size;
+      } else mergeInto(h, source.levels[h], 0, size, 1);
+      retained += size;
+    }
+    count += source.count;
+    viewValues = null;
+    while (retained > capacity) compress();
+  }
+
+  /**
+   * The value at nearest rank {@code ceil(q count)}: the minimum for 0, the maximum for 1.
+   *
+   * @throws IllegalArgumentException if {@code q} is not in {@code [0, 1]}
+   * @throws IllegalStateException if the sketch is empty
+   */
+  public long quantile(double q) {
+    checkNotEmpty();
+    if (!(q >= 0 && q <= 1)) throw new IllegalArgumentException("Illegal quantile: " + q);
+    if (q == 0) return min;
+    if (q == 1) return max;
+    if (isExact())
+      return new QuickSelect(Arrays.copyOf(levels[0], retained))
+          .find(IntroSelect.rank(q, retained));
+    buildView();
+    long target = Math.max(1, (long) Math.ceil(q * count));
+    int i = Arrays.binarySearch(viewWeights, target);
+    // the first value whose cumulative weight reaches the target
+    if (i < 0) i = -i - 1;
+    else while (i > 0 && viewWeights[i - 1] == target) --i;
+    return viewValues[Math.min(i, viewValues.length - 1)];
+  }
+
+  /** The values at each of {@code quantiles}, as by {@link #quantile(double)}. */
+  public long[] quantiles(double... quantiles) {
+    long[] values = new long[quantiles.length];
+    for (int i = 0; i < quantiles.length; i++) values[i] = quantile(quantiles[i]);
+    return values;
+  }
+
+  /**
+   * The median: the mean of the two middle values for an even count while exact, else the value at
+   * quantile 0.5.
+   *
+   * @throws IllegalStateException if the sketch is empty
+   */
+  public double median() {
+    checkNotEmpty();
+    if (isExact()) return new QuickSelectMedian(Arrays.copyOf(levels[0], retained)).find();
+    return quantile(0.5);
+  }
+
+  /** The estimated fraction of values seen that are at most {@code value}. */
+  public double rank(long value) {
+    checkNotEmpty();
+    buildView();
+    int i = upperBound(viewValues, value);
+    return i == 0 ? 0 : (double) viewWeights[i - 1] / count;
+  }
+
+  private void checkNotEmpty() {
+    if (count == 0) throw new IllegalStateException("Sketch empty: 0 values.");
+  }
+
+  /** Adds a top level and shrinks the capacities of the levels below it. */
+  private void addLevel() {
+    int h = levels.length;
+    levels = Arrays.copyOf(levels, h + 1);
+    sizes = Arrays.copyOf(sizes, h + 1);
+    widths = new int[h + 1];
+    levels[h] = new long[MIN_WIDTH];
+    capacity = 0;
+    double width = k;
+    for (int i = h; i >= 0; i--, width *= DECAY) {
+      widths[i] = Math.max(MIN_WIDTH, (int) Math.ceil(width));
+      capacity += widths[i];
+    }
+  }
+
+  private void ensureLevel(int h, int length) {
+    if (levels[h].length < length)
+      levels[h] = Arrays.copyOf(levels[h], Math.max(length, levels[h].length << 1));
+  }
+
+  /** Compacts the lowest full level, of which there is one since the total is over capacity. */
+  private void compress() {
+    int h = 0;
+    while (sizes[h] < widths[h]) ++h;
+    if (h + 1 == levels.length) addLevel();
+    long[] level = levels[h];
+    int size = sizes[h];
+    if (h == 0) Arrays.sort(level, 0, size);
+    // an odd value out stays behind
+    int even = size & ~1;
+    mergeInto(h + 1, level, nextBit(), even, 2);
+    if (even < size) level[0] = level[size - 1];
+    sizes[h] = size - even;
+    retained -= even >>> 1;
+  }
+
+  /**
+   * Merges {@code source[from], source[from + step], ...} below {@code end} into sorted level h.
+   */
+  private void mergeInto(int h, long[] source, int from, int end, int step) {
+    int added = (end - from + step - 1) / step;
+    int size = sizes[h];
+    ensureLevel(h, size + added);
+    long[] target = levels[h];
+    // merge from the back so the target needs no scratch copy
+    int i = size - 1;
+    int j = from + (added - 1) * step;
+    int out = size + added - 1;
+    while (j >= from) {
+      if (i >= 0 && target[i] > source[j]) target[out--] = target[i--];
+      else {
+        target[out--] = source[j];
+        j -= step;
+      }
+    }
+    sizes[h] = size + added;
+  }
+
+  private int nextBit() {
+    // xorshift, so compactions need no shared random generator
+    seed ^= seed << 13;
+    seed ^= seed >>> 7;
+    seed ^= seed << 17;
+    return (int) (seed >>> 63);
+  }
+
+  /** Merges all levels into sorted values with cumulative weights. */
+  private void buildView() {
+    if (viewValues != null) return;
+    long[] values = new long[0];
+    long[] weights = new long[0];
+    for (int h = levels.length - 1; h >= 0; h--) {
+      int size = sizes[h];
+      if (size == 0) continue;
+      long[] level = Arrays.copyOf(levels[h], size);
+      if (h == 0) Arrays.sort(level);
+      long weight = 1L << h;
+      long[] mergedValues = new long[values.length + size];
+      long[] mergedWeights = new long[mergedValues.length];
+      int i = 0;
+      int j = 0;
+      for (int out = 0; out < mergedValues.length; out++) {
+        if (j == size || i < values.length && values[i] <= level[j]) {
+          mergedValues[out] = values[i];
+          mergedWeights[out] = weights[i++];
+        } else {
+          mergedValues[out] = level[j++];
+          mergedWeights[out] = weight;
+        }
+      }
+      values = mergedValues;
+      weights = mergedWeights;
+    }
+    for (int i = 1; i < weights.length; i++) weights[i] += weights[i - 1];
+    viewWeights = weights;
+    viewValues = values;
+  }
+
+  private static int upperBound(long[] a, long value) {
+    int low = 0;
+    int high = a.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (a[middle] <= value) low = middle + 1;
+      else high = middle;
+    }
+    return low;
+  }
+}
@@ -0,0 +1,98 @@
+package ds;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link QuantileSketch} that many threads update at once.
+ *
+ * <p>Every thread updates a sketch of its own, under a lock that only {@link #snapshot()} ever
+ * contends for, so updates scale with the threads. A snapshot merges the sketches of all threads
+ * that ever updated into a new sketch with the same error bound. The sketch of a thread that has
+ * finished is kept, so that its values still count.
+ */
+public final class QuantileSketchConcurrent {
+
+  private final int k;
+  private final Queue<Local> locals = new ConcurrentLinkedQueue<>();
+  private final ThreadLocal<Local> local = ThreadLocal.withInitial(this::register);
+
+  public QuantileSketchConcurrent() {
+    this(QuantileSketch.DEFAULT_K);
+  }
+
+  /**
+   * @throws IllegalArgumentException if {@code k} is not in {@code [MIN_K, MAX_K]} of {@link
+   *     QuantileSketch}
+   */
+  public QuantileSketchConcurrent(int k) {
+    if (k < QuantileSketch.MIN_K || k > QuantileSketch.MAX_K)
+      throw new IllegalArgumentException("Illegal k: " + k);
+    this.k = k;
+  }
+
+  public int getK() {
+    return k;
+  }
+
+  public void update(long value) {
+    Local sketch = local.get();
+    sketch.lock.lock();
+    try {
+      sketch.sketch.update(value);
+    } finally {
+      sketch.lock.unlock();
+    }
+  }
+
+  /** The values of all threads so far, merged into a new sketch. */
+  public QuantileSketch snapshot() {
+    QuantileSketch merged = new QuantileSketch(k);
+    for (Local sketch : locals) {
+      sketch.lock.lock();
+      try {
+        merged.merge(sketch.sketch);
+      } finally {
+        sketch.lock.unlock();
+      }
+    }
+    return merged;
+  }
+
+  /** Values seen by all threads so far. */
+  public long count() {
+    long count = 0;
+    for (Local sketch : locals) {
+      sketch.lock.lock();
+      try {
+        count += sketch.sketch.count();
+      } finally {
+        sketch.lock.unlock();
+      }
+    }
+    return count;
+  }
+
+  /** As {@link QuantileSketch#quantiles(double...)} on a {@link #snapshot()}. */
+  public long[] quantiles(double... quantiles) {
+    return snapshot().quantiles(quantiles);
+  }
+
+  private Local register() {
+    Local sketch = new Local(new QuantileSketch(k));
+    locals.add(sketch);
+    return sketch;
+  }
+
+  /** The sketch of one thread with the lock guarding it. */
+  private static final class Local {
+    final QuantileSketch sketch;
+    final Lock lock = new ReentrantLock();
+
+    Local(QuantileSketch sketch) {
+      this.sketch = sketch;
+    }
+  }
+}
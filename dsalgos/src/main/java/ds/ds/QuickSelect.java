@@ -1,7 +1,5 @@
 package ds;
 
-import static ds.ArrayUtils.swap;
-import static ds.RandomUtils.randomInRange;
 import static java.util.Objects.checkIndex;
 
 public class QuickSelect {
@@ -15,31 +13,6 @@ public class QuickSelect {
 
   public long find(int index) {
     checkIndex(index, array.length);
-    return select(0, array.length - 1, index);
-  }
-
-  private int partition(int left, int right, int pivotIndex) {
-    long pivotValue = array[pivotIndex];
-    // Move pivot to end
-    swap(array, pivotIndex, right);
-    int storeIndex = left;
-    for (int i = left; i < right; i++) {
-      if (array[i] < pivotValue) {
-        swap(array, storeIndex, i);
-        ++storeIndex;
-      }
-    }
-    swap(array, right, storeIndex);
-    return storeIndex;
-  }
-
-  private long select(int left, int right, int k) {
-    if (left == right) return array[left];
-    int pivotIndex = randomInRange(left, right);
-    pivotIndex = partition(left, right, pivotIndex);
-
-    if (k == pivotIndex) return array[k];
-    else if (k < pivotIndex) return select(left, pivotIndex - 1, k);
-    else return select(pivotIndex + 1, right, k);
+    return IntroSelect.select(array, 0, array.length, index);
   }
 }
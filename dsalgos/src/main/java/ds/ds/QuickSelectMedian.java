@@ -1,6 +1,7 @@
 package ds;
 
 import static ds.MathUtils.isOdd;
+import static ds.MathUtils.midpoint;
 
 public class QuickSelectMedian extends QuickSelect {
 
@@ -14,6 +15,8 @@ public class QuickSelectMedian extends QuickSelect {
     if (array.length == 1) return array[0];
     int mid = array.length >> 1;
     if (isOdd(array.length)) return find(mid);
-    return 0.5f * (find(mid) + find(mid - 1));
+    // both middles in one pass of partitions
+    IntroSelect.multiSelect(array, 0, array.length, mid - 1, mid);
+    return midpoint(array[mid - 1], array[mid]);
   }
 }
@@ -1,10 +1,26 @@
 package ds;
 
 import static ds.RandomUtils.randomInRange;
+import static java.util.Objects.requireNonNull;
 
-/** Quick sort using random partitioning. */
+/** Quick sort using random partitioning, down to an optional {@link BaseCase}. */
 public class QuickSort extends AbstractSort {
 
+  private final BaseCase baseCase;
+
+  public QuickSort() {
+    this(BaseCase.NONE);
+  }
+
+  public QuickSort(BaseCase baseCase) {
+    super();
+    this.baseCase = requireNonNull(baseCase, "baseCase");
+  }
+
+  public BaseCase getBaseCase() {
+    return baseCase;
+  }
+
   @Override
   protected void sort(long[] a, int length) {
     if (!shouldSort(length)) return;
@@ -15,9 +31,9 @@ public class QuickSort extends AbstractSort {
     int random = randomInRange(low, high + 1);
     if (random != high && a[random] > a[high]) {
       swap(a, random, high);
-      ++swapCount;
+      if (counting) ++swapCount;
     }
-    if (random != high) ++comparisonCount;
+    if (counting && random != high) ++comparisonCount;
     return partition(a, low, high);
   }
 
@@ -36,20 +52,22 @@ public class QuickSort extends AbstractSort {
     for (int j = low; j < high; ++j) {
       // If current element is smaller than or
       // equal to pivot
-      ++innerLoopCount;
-      ++comparisonCount;
+      if (counting) {
+        ++innerLoopCount;
+        ++comparisonCount;
+      }
       if (a[j] <= pivot) {
         ++i;
         if (i != j) {
           swap(a, i, j);
-          ++swapCount;
+          if (counting) ++swapCount;
         }
       }
     }
     ++i;
     if (i != high) {
       swap(a, i, high);
-      ++swapCount;
+      if (counting) ++swapCount;
     }
     return i;
   }
@@ -61,7 +79,12 @@ public class QuickSort extends AbstractSort {
     int low = lower;
     int high = upper;
     while (low < high) {
-      ++outerLoopCount;
+      if (baseCase.handles(high - low + 1)) {
+        long comparisons = baseCase.sort(a, low, high + 1);
+        if (counting) comparisonCount += comparisons;
+        return;
+      }
+      if (counting) ++outerLoopCount;
       /* pi is partitioning index, a[p] is now
       at right place */
       int pi = randomPartition(a, low, high);
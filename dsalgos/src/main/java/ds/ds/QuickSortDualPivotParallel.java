@@ -0,0 +1,339 @@
+package ds;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Dual-pivot quick sort (Yaroslavskiy) forking every partition on an {@link ExecutionContext}.
+ *
+ * <p>The pivots are the second and fourth of five sorted samples. When they are equal the keys are
+ * likely to repeat, so the range gets a three-way partition around that value instead, and a large
+ * middle part of a dual-pivot partition is cleared of keys equal to either pivot before recursing.
+ */
+public class QuickSortDualPivotParallel extends AbstractSort {
+
+  private static final int INSERTION_SORT_BARRIER = 32;
+  private static final int SEQ_SORT_BARRIER = 1 << 13;
+  private static final String PARTITION_PHASE = "partition";
+
+  private final ExecutionContext context;
+
+  public QuickSortDualPivotParallel() {
+    this(ExecutionContext.common());
+  }
+
+  public QuickSortDualPivotParallel(ExecutionContext context) {
+    super();
+    this.context = requireNonNull(context, "context");
+  }
+
+  public ExecutionContext getExecutionContext() {
+    return context;
+  }
+
+  @Override
+  public int getSwapCount() {
+    return saturatedCount(metrics.getSwapCount());
+  }
+
+  @Override
+  public int getComparisonCount() {
+    return saturatedCount(metrics.getComparisonCount());
+  }
+
+  @Override
+  public int getCopyCount() {
+    return saturatedCount(metrics.getCopyCount());
+  }
+
+  @Override
+  public int getTimeComplexity() {
+    long count = metrics.getInnerLoopCount();
+    return saturatedCount(count > 0 ? count : metrics.getOuterLoopCount());
+  }
+
+  @Override
+  protected void sort(long[] a, int length) {
+    if (!shouldSort(length)) return;
+    DualPivotAction action = new DualPivotAction(a, 0, length - 1);
+    if (length <= SEQ_SORT_BARRIER) action.compute();
+    else context.invoke(action);
+  }
+
+  @SuppressWarnings("PMD.LawOfDemeter")
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder(80);
+    String lineSeparator = System.lineSeparator();
+    sb.append(getClass().getName())
+        .append(lineSeparator)
+        .append("Comparison count: ")
+        .append(metrics.getComparisonCount())
+        .append(lineSeparator)
+        .append("Swap count: ")
+        .append(metrics.getSwapCount())
+        .append(lineSeparator)
+        .append("Copy count: ")
+        .append(metrics.getCopyCount())
+        .append(lineSeparator)
+        .append("inner loop count: ")
+        .append(metrics.getInnerLoopCount())
+        .append(lineSeparator)
+        .append("outer loop count: ")
+        .append(metrics.getOuterLoopCount())
+        .append(lineSeparator);
+    return sb.toString();
+  }
+
+  /** Sorts {@code a[low, high]}, forking the parts of every partition above the barrier. */
+  final class DualPivotAction extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    final long[] a;
+    final int low;
+    final int high;
+    // task-local counts, added to the metrics once the task is done
+    long comparisons;
+    long swaps;
+    long copies;
+    long innerLoops;
+    long outerLoops;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    DualPivotAction(long[] a, int low, int high) {
+      this.a = a;
+      this.low = low;
+      this.high = high;
+    }
+
+    @Override
+    protected void compute() {
+      sortRange(low, high);
+      if (counting) metrics.add(comparisons, swaps, copies, innerLoops, outerLoops);
+    }
+
+    private void sortRange(int left, int right) {
+      int length = right - left + 1;
+      if (length <= INSERTION_SORT_BARRIER) {
+        insertionSort(left, right);
+        return;
+      }
+      int seventh = (length >> 3) + (length >> 6) + 1;
+      int e3 = (left + right) >>> 1;
+      int e2 = e3 - seventh;
+      int e1 = e2 - seventh;
+      int e4 = e3 + seventh;
+      int e5 = e4 + seventh;
+      sortSamples(e1, e2, e3, e4, e5);
+
+      long start = metrics.startPhase();
+      if (a[e2] == a[e4]) {
+        int[] bounds = partitionThreeWay(left, right, a[e3]);
+        metrics.endPhase(PARTITION_PHASE, start);
+        recurse(left, bounds[0] - 1, bounds[1] + 1, right);
+        return;
+      }
+      int[] bounds = partitionDualPivot(left, right, e2, e4);
+      metrics.endPhase(PARTITION_PHASE, start);
+      int less = bounds[0];
+      int great = bounds[1];
+      if (great - less > length - (length >> 2)) {
+        start = metrics.startPhase();
+        int[] middle = squeezePivots(less, great, a[less - 1], a[great + 1]);
+        metrics.endPhase(PARTITION_PHASE, start);
+        less = middle[0];
+        great = middle[1];
+      }
+      recurse(left, bounds[0] - 2, less, great, bounds[1] + 2, right);
+    }
+
+    /** Sorts the given inclusive {@code [from, to]} ranges, forked when large enough. */
+    private void recurse(int... ranges) {
+      int forked = 0;
+      for (int i = 0; i < ranges.length; i += 2)
+        if (ranges[i + 1] - ranges[i] >= SEQ_SORT_BARRIER) ++forked;
+      DualPivotAction[] actions = new DualPivotAction[forked];
+      forked = 0;
+      for (int i = 0; i < ranges.length; i += 2) {
+        if (ranges[i + 1] - ranges[i] >= SEQ_SORT_BARRIER)
+          actions[forked++] = new DualPivotAction(a, ranges[i], ranges[i + 1]);
+        else if (ranges[i] < ranges[i + 1]) sortRange(ranges[i], ranges[i + 1]);
+      }
+      if (forked > 0) invokeAll(actions);
+    }
+
+    /**
+     * Partitions around {@code a[e2] < a[e4]} into {@code < p1 | p1 <= x <= p2 | > p2}, with the
+     * pivots placed between the parts.
+     *
+     * @return the first and last index of the middle part
+     */
+    private int[] partitionDualPivot(int left, int right, int e2, int e4) {
+      long pivot1 = a[e2];
+      long pivot2 = a[e4];
+      a[e2] = a[left];
+      a[e4] = a[right];
+      if (counting) copies += 2;
+      int less = left + 1;
+      int great = right - 1;
+      while (a[less] < pivot1) {
+        ++less;
+        if (counting) ++comparisons;
+      }
+      while (a[great] > pivot2) {
+        --great;
+        if (counting) ++comparisons;
+      }
+      outer:
+      for (int k = less; k <= great; k++) {
+        if (counting) ++innerLoops;
+        long ak = a[k];
+        if (counting) ++comparisons;
+        if (ak < pivot1) {
+          a[k] = a[less];
+          a[less++] = ak;
+          if (counting) ++swaps;
+        } else if (ak > pivot2) {
+          if (counting) comparisons += 2;
+          while (a[great] > pivot2) {
+            if (counting) ++comparisons;
+            if (great-- == k) break outer;
+          }
+          if (counting) ++comparisons;
+          if (a[great] < pivot1) {
+            a[k] = a[less];
+            a[less++] = a[great];
+            if (counting) copies += 2;
+          } else {
+            a[k] = a[great];
+            if (counting) ++copies;
+          }
+          a[great--] = ak;
+          if (counting) ++swaps;
+        } else if (counting) ++comparisons;
+      }
+      a[left] = a[less - 1];
+      a[less - 1] = pivot1;
+      a[right] = a[great + 1];
+      a[great + 1] = pivot2;
+      if (counting) {
+        ++outerLoops;
+        copies += 4;
+      }
+      return new int[] {less, great};
+    }
+
+    /** Moves the keys equal to a pivot out of {@code a[less, great]} and returns what is left. */
+    private int[] squeezePivots(int lessStart, int greatStart, long pivot1, long pivot2) {
+      int less = lessStart;
+      int great = greatStart;
+      while (a[less] == pivot1) {
+        ++less;
+        if (counting) ++comparisons;
+      }
+      while (a[great] == pivot2) {
+        --great;
+        if (counting) ++comparisons;
+      }
+      outer:
+      for (int k = less; k <= great; k++) {
+        if (counting) ++innerLoops;
+        long ak = a[k];
+        if (counting) ++comparisons;
+        if (ak == pivot1) {
+          a[k] = a[less];
+          a[less++] = ak;
+          if (counting) ++swaps;
+        } else if (ak == pivot2) {
+          if (counting) ++comparisons;
+          while (a[great] == pivot2) {
+            if (counting) ++comparisons;
+            if (great-- == k) break outer;
+          }
+          if (counting) ++comparisons;
+          if (a[great] == pivot1) {
+            a[k] = a[less];
+            a[less++] = pivot1;
+            if (counting) ++copies;
+          } else a[k] = a[great];
+          a[great--] = ak;
+          if (counting) ++swaps;
+        }
+      }
+      if (counting) ++outerLoops;
+      return new int[] {less, great};
+    }
+
+    /**
+     * Dijkstra partition into {@code < pivot | == pivot | > pivot}.
+     *
+     * @return the first and last index of the keys equal to the pivot
+     */
+    private int[] partitionThreeWay(int left, int right, long pivot) {
+      int lt = left;
+      int gt = right;
+      int i = left;
+      while (i <= gt) {
+        if (counting) {
+          ++innerLoops;
+          ++comparisons;
+        }
+        long ai = a[i];
+        if (ai < pivot) {
+          a[i++] = a[lt];
+          a[lt++] = ai;
+          if (counting) ++swaps;
+        } else if (ai > pivot) {
+          a[i] = a[gt];
+          a[gt--] = ai;
+          if (counting) {
+            ++comparisons;
+            ++swaps;
+          }
+        } else {
+          ++i;
+          if (counting) ++comparisons;
+        }
+      }
+      if (counting) ++outerLoops;
+      return new int[] {lt, gt};
+    }
+
+    private void sortSamples(int... samples) {
+      for (int i = 1; i < samples.length; i++) {
+        long value = a[samples[i]];
+        int j = i - 1;
+        while (j >= 0 && a[samples[j]] > value) {
+          if (counting) {
+            ++comparisons;
+            ++copies;
+          }
+          a[samples[j + 1]] = a[samples[j]];
+          --j;
+        }
+        if (counting && j >= 0) ++comparisons;
+        a[samples[j + 1]] = value;
+      }
+    }
+
+    private void insertionSort(int left, int right) {
+      for (int i = left + 1; i <= right; i++) {
+        long value = a[i];
+        int j = i - 1;
+        if (counting) ++outerLoops;
+        while (j >= left && a[j] > value) {
+          if (counting) {
+            ++innerLoops;
+            ++comparisons;
+            ++copies;
+          }
+          a[j + 1] = a[j];
+          --j;
+        }
+        if (counting && j >= left) ++comparisons;
+        a[j + 1] = value;
+      }
+    }
+  }
+}
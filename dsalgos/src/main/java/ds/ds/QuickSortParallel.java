@@ -1,43 +1,63 @@
 package ds;
 
-import static ds.ExecutorUtils.terminateExecutor;
+import static java.util.Objects.requireNonNull;
 
-import java.util.Arrays;
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RecursiveAction;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Quick sort with a median of three or a ninther, finishing short ranges with a {@link BaseCase}.
+ */
 public class QuickSortParallel extends AbstractSort {
-  private static final int CUTOFF = 8;
   private static final int MEDIUM = 40;
-  private final AtomicInteger swapCount = new AtomicInteger();
-  private final AtomicInteger comparisonCount = new AtomicInteger();
-  private final AtomicInteger innerLoopCount = new AtomicInteger();
-  private final AtomicInteger outerLoopCount = new AtomicInteger();
+  private static final String PARTITION_PHASE = "partition";
+
+  private final ExecutionContext context;
+  private final BaseCase baseCase;
+
+  public QuickSortParallel() {
+    this(ExecutionContext.common());
+  }
+
+  public QuickSortParallel(ExecutionContext context) {
+    this(context, BaseCase.NETWORK);
+  }
+
+  /**
+   * Creates the sort.
+   *
+   * @param baseCase any but {@link BaseCase#NONE}, as the partition relies on ranges of three or
+   *     more
+   */
+  public QuickSortParallel(ExecutionContext context, BaseCase baseCase) {
+    super();
+    this.context = requireNonNull(context, "context");
+    this.baseCase = requireNonNull(baseCase, "baseCase");
+    if (baseCase == BaseCase.NONE)
+      throw new IllegalArgumentException("A base case is required: " + baseCase);
+  }
+
+  public ExecutionContext getExecutionContext() {
+    return context;
+  }
+
+  public BaseCase getBaseCase() {
+    return baseCase;
+  }
 
   @Override
   public int getSwapCount() {
-    return swapCount.intValue();
+    return saturatedCount(metrics.getSwapCount());
   }
 
   @Override
   public int getComparisonCount() {
-    return comparisonCount.intValue();
+    return saturatedCount(metrics.getComparisonCount());
   }
 
   @Override
   public int getTimeComplexity() {
-    int count = innerLoopCount.intValue();
-    return count > 0 ? count : outerLoopCount.intValue();
-  }
-
-  @Override
-  public void reset() {
-    swapCount.set(0);
-    innerLoopCount.set(0);
-    outerLoopCount.set(0);
-    comparisonCount.set(0);
+    long count = metrics.getInnerLoopCount();
+    return saturatedCount(count > 0 ? count : metrics.getOuterLoopCount());
   }
 
   @SuppressWarnings("PMD.LawOfDemeter")
@@ -48,16 +68,16 @@ public class QuickSortParallel extends AbstractSort {
     sb.append(getClass().getName())
         .append(lineSeparator)
         .append("Comparison count: ")
-        .append(comparisonCount)
+        .append(metrics.getComparisonCount())
         .append(lineSeparator)
         .append("Swap count: ")
-        .append(swapCount)
+        .append(metrics.getSwapCount())
         .append(lineSeparator)
         .append("inner loop count: ")
-        .append(innerLoopCount)
+        .append(metrics.getInnerLoopCount())
         .append(lineSeparator)
         .append("outer loop count: ")
-        .append(outerLoopCount)
+        .append(metrics.getOuterLoopCount())
         .append(lineSeparator);
     return sb.toString();
   }
@@ -65,9 +85,7 @@ public class QuickSortParallel extends AbstractSort {
   @Override
   protected void sort(long[] a, int length) {
     if (!shouldSort(length)) return;
-    ForkJoinPool pool = new ForkJoinPool();
-    pool.invoke(new QuickSortAction(a, 0, length - 1));
-    terminateExecutor(pool, length, TimeUnit.MILLISECONDS);
+    context.invoke(new QuickSortAction(a, 0, length - 1));
   }
 
   public static boolean less(long v, long w) {
@@ -87,6 +105,11 @@ public class QuickSortParallel extends AbstractSort {
     final long[] a;
     int low;
     int high;
+    // task-local counts, added to the metrics once the task is done
+    long comparisons;
+    long swaps;
+    long innerLoops;
+    long outerLoops;
 
     @SuppressWarnings("PMD.ArrayIsStoredDirectly")
     QuickSortAction(long[] a, int low, int high) {
@@ -100,7 +123,9 @@ public class QuickSortParallel extends AbstractSort {
     @Override
     public QuickSortAction clone() {
       try {
-        return (QuickSortAction) super.clone();
+        QuickSortAction copy = (QuickSortAction) super.clone();
+        copy.comparisons = copy.swaps = copy.innerLoops = copy.outerLoops = 0;
+        return copy;
       } catch (CloneNotSupportedException cnse) {
         throw new AssertionError("Shouldn't get here..." + cnse.getMessage(), cnse);
       }
@@ -108,12 +133,18 @@ public class QuickSortParallel extends AbstractSort {
 
     @Override
     protected void compute() {
+      sortRange();
+      if (counting) metrics.add(comparisons, swaps, 0, innerLoops, outerLoops);
+    }
+
+    private void sortRange() {
       while (low < high) {
 
         int n = high - low + 1;
 
-        if (n <= CUTOFF) {
-          Arrays.sort(a, low, low + n);
+        if (baseCase.handles(n)) {
+          long baseComparisons = baseCase.sort(a, low, low + n);
+          if (counting) comparisons += baseComparisons;
           return;
         }
 
@@ -130,9 +161,11 @@ public class QuickSortParallel extends AbstractSort {
 
         if (m != low && a[low] > a[m]) {
           swap(a, m, low);
-          swapCount.incrementAndGet();
+          if (counting) ++swaps;
         }
+        long start = metrics.startPhase();
         int pivotIndex = partition(a, low, high);
+        metrics.endPhase(PARTITION_PHASE, start);
 
         if ((pivotIndex - low) <= (high - pivotIndex)) {
           QuickSortAction copy = this.clone();
@@ -155,27 +188,33 @@ public class QuickSortParallel extends AbstractSort {
       int j = hi + 1;
       long v = array[lo];
       while (true) {
-        outerLoopCount.incrementAndGet();
+        if (counting) ++outerLoops;
         // find item on lo to swap
         while (less(array[++i], v)) {
-          innerLoopCount.incrementAndGet();
-          comparisonCount.incrementAndGet();
+          if (counting) {
+            ++innerLoops;
+            ++comparisons;
+          }
         }
-        comparisonCount.incrementAndGet();
         // find item on hi to swap
         while (less(v, array[--j])) {
-          innerLoopCount.incrementAndGet();
-          comparisonCount.incrementAndGet();
+          if (counting) {
+            ++innerLoops;
+            ++comparisons;
+          }
         }
-        comparisonCount.incrementAndGet();
+        if (counting) comparisons += 2;
         // check if pointers cross
-        if (i >= j || array[i] == array[j]) break;
-        swap(array, i, j);
-        swapCount.incrementAndGet();
+        if (i >= j) break;
+        // both equal the pivot then, so they may stay, but the scan must go on
+        if (array[i] != array[j]) {
+          swap(array, i, j);
+          if (counting) ++swaps;
+        }
       }
       if (lo != j && array[lo] != array[j]) {
         swap(array, lo, j);
-        swapCount.incrementAndGet();
+        if (counting) ++swaps;
       }
       return j;
     }
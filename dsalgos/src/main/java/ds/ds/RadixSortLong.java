@@ -0,0 +1,254 @@
+package ds;
+
+import static java.util.Arrays.fill;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Least significant digit radix sort for signed long keys.
+ *
+ * <p>Keys are read with their sign bit flipped, so negative values sort before positive ones. All
+ * digit histograms come from a single read of the input and a pass is skipped when every key has
+ * the same digit. The passes ping-pong between the input and one scratch buffer allocated per sort.
+ * From {@code PARALLEL_THRESHOLD} elements on, the histograms and the scatter of each pass are
+ * split into chunks run on the {@link ExecutionContext}. The same kernel sorts the keys of {@link
+ * TableSort}, carrying an {@code int} payload along.
+ */
+public class RadixSortLong extends AbstractSort {
+
+  public static final int DEFAULT_DIGIT_BITS = 11;
+  private static final int MAX_DIGIT_BITS = 16;
+  private static final int PARALLEL_THRESHOLD = 1 << 16;
+  private static final int CHUNKS_PER_WORKER = 2;
+  private static final String HISTOGRAM_PHASE = "histogram";
+  private static final String SCATTER_PHASE = "scatter";
+
+  private final int digitBits;
+  private final int radix;
+  private final int mask;
+  private final ExecutionContext context;
+
+  public RadixSortLong() {
+    this(DEFAULT_DIGIT_BITS);
+  }
+
+  public RadixSortLong(int digitBits) {
+    this(digitBits, ExecutionContext.common());
+  }
+
+  public RadixSortLong(int digitBits, ExecutionContext context) {
+    super();
+    if (digitBits <= 0 || digitBits > MAX_DIGIT_BITS)
+      throw new IllegalArgumentException("Illegal value for digit bits: " + digitBits);
+    this.digitBits = digitBits;
+    this.radix = 1 << digitBits;
+    this.mask = radix - 1;
+    this.context = requireNonNull(context, "context");
+  }
+
+  public int getDigitBits() {
+    return digitBits;
+  }
+
+  public ExecutionContext getExecutionContext() {
+    return context;
+  }
+
+  @Override
+  protected void sort(long[] a, int length) {
+    if (!shouldSort(length)) return;
+    long[] buffer = new long[length];
+    if (sort(a, null, buffer, null, length, Long.SIZE, Long.MIN_VALUE, chunks(length))) {
+      System.arraycopy(buffer, 0, a, 0, length);
+      if (counting) copyCount += length;
+    }
+  }
+
+  /**
+   * Sorts the first {@code length} keys by the low {@code bits} bits of {@code key ^ flip}, read
+   * unsigned, carrying {@code payload} along when it is not null. The passes ping-pong between the
+   * arrays and the buffers, which must be as long.
+   *
+   * @return whether the sorted keys, and payload, ended up in the buffers
+   */
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  boolean sort(
+      long[] keys,
+      int[] payload,
+      long[] keyBuffer,
+      int[] payloadBuffer,
+      int length,
+      int bits,
+      long flip,
+      int chunks) {
+    int passes = (bits + digitBits - 1) / digitBits;
+    long start = metrics.startPhase();
+    int[][] histograms = histograms(keys, length, chunks, passes, flip);
+    int[] total = sum(histograms, passes);
+    metrics.endPhase(HISTOGRAM_PHASE, start);
+    if (counting) innerLoopCount += length;
+
+    long[] srcKeys = keys;
+    int[] srcPayload = payload;
+    long[] dstKeys = keyBuffer;
+    int[] dstPayload = payloadBuffer;
+    boolean fresh = true;
+    for (int pass = 0; pass < passes; pass++) {
+      if (isTrivial(total, pass * radix, length)) continue;
+      start = metrics.startPhase();
+      if (!fresh) recount(srcKeys, length, chunks, pass, flip, histograms);
+      scatter(srcKeys, srcPayload, dstKeys, dstPayload, length, chunks, pass, flip, histograms);
+      metrics.endPhase(SCATTER_PHASE, start);
+      fresh = false;
+      long[] keyTmp = srcKeys;
+      srcKeys = dstKeys;
+      dstKeys = keyTmp;
+      int[] payloadTmp = srcPayload;
+      srcPayload = dstPayload;
+      dstPayload = payloadTmp;
+      if (counting) {
+        ++outerLoopCount;
+        innerLoopCount += length;
+        copyCount += length;
+      }
+    }
+    return srcKeys != keys;
+  }
+
+  /** Chunks to split {@code length} elements into, 1 below {@code PARALLEL_THRESHOLD}. */
+  int chunks(int length) {
+    return length < PARALLEL_THRESHOLD || context.getParallelism() == 1
+        ? 1
+        : Math.min(
+            context.getParallelism() * CHUNKS_PER_WORKER, length / (PARALLEL_THRESHOLD >> 2));
+  }
+
+  static int chunkStart(int chunk, int chunks, int length) {
+    return (int) ((long) length * chunk / chunks);
+  }
+
+  /** Runs {@code work} for every chunk, on the {@link ExecutionContext} when there are several. */
+  void forEachChunk(int chunks, IntConsumer work) {
+    if (chunks == 1) work.accept(0);
+    else context.invoke(new ChunkAction(work, 0, chunks));
+  }
+
+  private int digit(long value, int shift) {
+    return (int) ((value >>> shift) & mask);
+  }
+
+  /** Histograms of every pass, per chunk, from a single read of the input. */
+  private int[][] histograms(long[] a, int length, int chunks, int passes, long flip) {
+    int[][] histograms = new int[chunks][passes * radix];
+    forEachChunk(
+        chunks,
+        chunk -> {
+          int[] histogram = histograms[chunk];
+          int end = chunkStart(chunk + 1, chunks, length);
+          for (int i = chunkStart(chunk, chunks, length); i < end; i++) {
+            long value = a[i] ^ flip;
+            for (int pass = 0, offset = 0; pass < passes; pass++, offset += radix)
+              ++histogram[offset + digit(value, pass * digitBits)];
+          }
+        });
+    return histograms;
+  }
+
+  /** After a scatter the chunks hold other keys, so the per chunk counts of a pass are redone. */
+  private void recount(long[] src, int length, int chunks, int pass, long flip, int[][] hist) {
+    if (chunks == 1) return;
+    int shift = pass * digitBits;
+    int offset = pass * radix;
+    forEachChunk(
+        chunks,
+        chunk -> {
+          int[] histogram = hist[chunk];
+          fill(histogram, offset, offset + radix, 0);
+          int end = chunkStart(chunk + 1, chunks, length);
+          for (int i = chunkStart(chunk, chunks, length); i < end; i++)
+            ++histogram[offset + digit(src[i] ^ flip, shift)];
+        });
+  }
+
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  private void scatter(
+      long[] srcKeys,
+      int[] srcPayload,
+      long[] dstKeys,
+      int[] dstPayload,
+      int length,
+      int chunks,
+      int pass,
+      long flip,
+      int[][] hist) {
+    int shift = pass * digitBits;
+    int offset = pass * radix;
+    // bucket by bucket, chunk by chunk, keeps equal digits in input order
+    int[][] positions = new int[chunks][radix];
+    int position = 0;
+    for (int bucket = 0; bucket < radix; bucket++)
+      for (int chunk = 0; chunk < chunks; chunk++) {
+        positions[chunk][bucket] = position;
+        position += hist[chunk][offset + bucket];
+      }
+    forEachChunk(
+        chunks,
+        chunk -> {
+          int[] next = positions[chunk];
+          int end = chunkStart(chunk + 1, chunks, length);
+          int i = chunkStart(chunk, chunks, length);
+          if (srcPayload == null)
+            for (; i < end; i++) {
+              long value = srcKeys[i];
+              dstKeys[next[digit(value ^ flip, shift)]++] = value;
+            }
+          else
+            for (; i < end; i++) {
+              long value = srcKeys[i];
+              int to = next[digit(value ^ flip, shift)]++;
+              dstKeys[to] = value;
+              dstPayload[to] = srcPayload[i];
+            }
+        });
+  }
+
+  private int[] sum(int[][] histograms, int passes) {
+    if (histograms.length == 1) return histograms[0];
+    int[] total = new int[passes * radix];
+    for (int[] histogram : histograms)
+      for (int i = 0; i < total.length; i++) total[i] += histogram[i];
+    return total;
+  }
+
+  private boolean isTrivial(int[] total, int offset, int length) {
+    for (int bucket = offset; bucket < offset + radix; bucket++)
+      if (total[bucket] != 0) return total[bucket] == length;
+    return true;
+  }
+
+  static final class ChunkAction extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final transient IntConsumer work;
+    private final int low;
+    private final int high;
+
+    ChunkAction(IntConsumer work, int low, int high) {
+      this.work = work;
+      this.low = low;
+      this.high = high;
+    }
+
+    @Override
+    protected void compute() {
+      if (high - low == 1) {
+        work.accept(low);
+        return;
+      }
+      int middle = (low + high) >>> 1;
+      invokeAll(new ChunkAction(work, low, middle), new ChunkAction(work, middle, high));
+    }
+  }
+}
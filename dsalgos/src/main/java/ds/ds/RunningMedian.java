@@ -0,0 +1,186 @@
+package ds;
+
+/**
+ * The exact median of the last {@code window} values of a stream, in {@code O(log window)} per
+ * value.
+ *
+ * <p>The smaller half of the window is kept in a {@link MaxHeap} and the larger half in a {@link
+ * MinHeap}, with the lower half holding the extra value of an odd count, so the median is read off
+ * the roots. Every value occupies one of {@code window} slots of a ring, and both heaps keep the
+ * slot of every value they hold and the position of every slot, so the oldest value can be removed
+ * from the middle of its heap when a new one takes its slot. All arrays are allocated up front, and
+ * adding a value allocates nothing.
+ */
+public final class RunningMedian {
+
+  private final int window;
+  // heap position of every slot, and whether the lower half holds it
+  private final int[] positions;
+  private final boolean[] inLower;
+  private final Lower lower;
+  private final Upper upper;
+  private int next;
+  private int size;
+
+  /**
+   * A median of the last {@code window} values.
+   *
+   * @throws IllegalArgumentException if {@code window} is not positive
+   */
+  public RunningMedian(int window) {
+    if (window < 1) throw new IllegalArgumentException("Illegal window: " + window);
+    this.window = window;
+    positions = new int[window];
+    inLower = new boolean[window];
+    lower = new Lower(window);
+    upper = new Upper(window);
+  }
+
+  public int getWindow() {
+    return window;
+  }
+
+  /** Values in the window, at most {@link #getWindow()}. */
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** Adds {@code value}, evicting the oldest value once the window is full. */
+  public void add(long value) {
+    int slot = next;
+    if (size == window) {
+      if (inLower[slot]) lower.remove(slot);
+      else upper.remove(slot);
+    } else ++size;
+    next = slot + 1 == window ? 0 : slot + 1;
+    // through the lower half, so that every lower value stays at most every upper one
+    lower.insert(slot, value);
+    moveRoot(lower, upper);
+    if (upper.size() > lower.size()) moveRoot(upper, lower);
+  }
+
+  /**
+   * The median of the window: the mean of the two middle values for an even size.
+   *
+   * @throws IllegalStateException if no value was added
+   */
+  public double median() {
+    checkNotEmpty();
+    if (lower.size() > upper.size()) return lower.peek();
+    return ((double) lower.peek() + upper.peek()) / 2;
+  }
+
+  /**
+   * The lower of the two middle values for an even size, else the median.
+   *
+   * @throws IllegalStateException if no value was added
+   */
+  public long lowerMedian() {
+    checkNotEmpty();
+    return lower.peek();
+  }
+
+  /** Empties the window. */
+  public void clear() {
+    while (!lower.isEmpty()) lower.poll();
+    while (!upper.isEmpty()) upper.poll();
+    next = 0;
+    size = 0;
+  }
+
+  private void checkNotEmpty() {
+    if (size == 0) throw new IllegalStateException("Window empty: 0 values.");
+  }
+
+  private static void moveRoot(Indexed from, Indexed to) {
+    int slot = from.rootSlot();
+    to.insert(slot, from.remove(slot));
+  }
+
+  /** Slot-tracking operations of both halves. */
+  private interface Indexed {
+    void insert(int slot, long value);
+
+    long remove(int slot);
+
+    int rootSlot();
+  }
+
+  private final class Lower extends MaxHeap implements Indexed {
+    private final int[] slots;
+
+    Lower(int maxSize) {
+      super(maxSize);
+      slots = new int[maxSize];
+    }
+
+    @Override
+    public void insert(int slot, long value) {
+      slots[nElems] = slot;
+      positions[slot] = nElems;
+      inLower[slot] = true;
+      insert(value);
+    }
+
+    @Override
+    public long remove(int slot) {
+      return removeAt(positions[slot]);
+    }
+
+    @Override
+    public int rootSlot() {
+      return slots[0];
+    }
+
+    @Override
+    protected void swap(int fpos, int spos) {
+      super.swap(fpos, spos);
+      swapSlots(slots, fpos, spos);
+    }
+  }
+
+  private final class Upper extends MinHeap implements Indexed {
+    private final int[] slots;
+
+    Upper(int maxSize) {
+      super(maxSize);
+      slots = new int[maxSize];
+    }
+
+    @Override
+    public void insert(int slot, long value) {
+      slots[nElems] = slot;
+      positions[slot] = nElems;
+      inLower[slot] = false;
+      insert(value);
+    }
+
+    @Override
+    public long remove(int slot) {
+      return removeAt(positions[slot]);
+    }
+
+    @Override
+    public int rootSlot() {
+      return slots[0];
+    }
+
+    @Override
+    protected void swap(int fpos, int spos) {
+      super.swap(fpos, spos);
+      swapSlots(slots, fpos, spos);
+    }
+  }
+
+  private void swapSlots(int[] slots, int i, int j) {
+    int slot = slots[i];
+    slots[i] = slots[j];
+    slots[j] = slot;
+    positions[slots[i]] = i;
+    positions[slots[j]] = j;
+  }
+}
@@ -0,0 +1,208 @@
+package ds;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+/**
+ * Parallel super scalar sample sort.
+ *
+ * <p>A random sample of {@code log2(n)} keys per bucket is sorted and every {@code log2(n)}-th key
+ * becomes a splitter. The splitters are laid out as an implicit search tree, which every key
+ * descends without a data-dependent branch to find its bucket. Stripes of the array are classified
+ * in parallel into a byte per key and a histogram per stripe; the prefix sums of the histograms
+ * give every stripe its own write offset into every bucket, so the scatter into the buffer needs no
+ * synchronization either. The buckets are then copied back and sorted independently with {@link
+ * IntroSort}. Unlike the recursive sorts, all workers are busy from the first pass on.
+ *
+ * <p>When the sample holds repeated splitters, every splitter gets a bucket of its own for keys
+ * equal to it, which is never sorted, so heavy duplicates cannot pile up in a single bucket.
+ */
+public class SampleSort extends IntroSort {
+
+  static final int MAX_BUCKETS = 128;
+  private static final int BUCKETS_PER_WORKER = 4;
+  private static final int MIN_BUCKETS = 4;
+  private static final int SEQ_SORT_LENGTH = 1 << 16;
+  private static final int MIN_STRIPE_LENGTH = 1 << 14;
+  private static final String CLASSIFY_PHASE = "classify";
+  private static final String SCATTER_PHASE = "scatter";
+  private static final String BUCKET_PHASE = "buckets";
+
+  private final ExecutionContext context;
+
+  public SampleSort() {
+    this(ExecutionContext.common());
+  }
+
+  public SampleSort(ExecutionContext context) {
+    super();
+    this.context = requireNonNull(context, "context");
+  }
+
+  public ExecutionContext getExecutionContext() {
+    return context;
+  }
+
+  /** Buckets for {@code length} keys on {@code parallelism} workers, a power of two. */
+  static int bucketCount(int length, int parallelism) {
+    int buckets = Math.min(MAX_BUCKETS, Math.max(MIN_BUCKETS, parallelism * BUCKETS_PER_WORKER));
+    return Math.min(Integer.highestOneBit(buckets), Integer.highestOneBit(length / MIN_BUCKETS));
+  }
+
+  @Override
+  protected void sort(long[] a, int length) {
+    if (!shouldSort(length)) return;
+    if (length <= SEQ_SORT_LENGTH) {
+      new IntroSortAction(a, 0, length, log2(length), true, false).compute();
+      return;
+    }
+    context.invoke(new SampleSortAction(a, length, bucketCount(length, context.getParallelism())));
+  }
+
+  /** One pass of classification and scatter, then the buckets in parallel. */
+  final class SampleSortAction extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    final long[] a;
+    final int length;
+    final int buckets;
+    final int levels;
+    // splitters in order, padded with the last one, and the same as an implicit tree from 1
+    final long[] splitters;
+    final long[] tree;
+    boolean equalityBuckets;
+    int[] bounds;
+    byte[] oracle;
+    int[][] offsets;
+    long[] buffer;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    SampleSortAction(long[] a, int length, int buckets) {
+      this.a = a;
+      this.length = length;
+      this.buckets = buckets;
+      this.levels = log2(buckets);
+      this.splitters = new long[buckets];
+      this.tree = new long[buckets];
+    }
+
+    @Override
+    protected void compute() {
+      sample();
+      int stripes = Math.max(1, Math.min(context.getParallelism(), length / MIN_STRIPE_LENGTH));
+      bounds = new int[stripes + 1];
+      for (int s = 1; s <= stripes; s++) bounds[s] = (int) ((long) length * s / stripes);
+      int slots = equalityBuckets ? buckets << 1 : buckets;
+      oracle = new byte[length];
+      offsets = new int[stripes][slots];
+
+      long start = metrics.startPhase();
+      forAll(stripes, this::classify);
+      metrics.endPhase(CLASSIFY_PHASE, start);
+
+      // bucket by bucket, stripe by stripe, so each stripe writes its own part of each bucket
+      int[] bucketBounds = new int[slots + 1];
+      int offset = 0;
+      for (int b = 0; b < slots; b++) {
+        bucketBounds[b] = offset;
+        for (int[] stripe : offsets) {
+          int count = stripe[b];
+          stripe[b] = offset;
+          offset += count;
+        }
+      }
+      bucketBounds[slots] = length;
+
+      start = metrics.startPhase();
+      buffer = new long[length];
+      forAll(stripes, this::scatter);
+      oracle = null;
+      metrics.endPhase(SCATTER_PHASE, start);
+
+      start = metrics.startPhase();
+      forAll(slots, b -> sortBucket(bucketBounds[b], bucketBounds[b + 1], isEquality(b)));
+      metrics.endPhase(BUCKET_PHASE, start);
+      buffer = null;
+    }
+
+    private boolean isEquality(int slot) {
+      return equalityBuckets && (slot & 1) == 1;
+    }
+
+    /** Picks the splitters from a sorted random sample and builds the search tree. */
+    private void sample() {
+      int oversampling = log2(length);
+      int size = buckets * oversampling;
+      long[] sample = new long[size];
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      for (int i = 0; i < size; i++) sample[i] = a[random.nextInt(length)];
+      new IntroSortAction(sample, 0, size, log2(size), true, false).compute();
+      int count = 0;
+      for (int b = 1; b < buckets; b++) {
+        long splitter = sample[b * oversampling - 1];
+        if (count > 0 && splitters[count - 1] == splitter) equalityBuckets = true;
+        else splitters[count++] = splitter;
+      }
+      // repeats leave empty buckets at the end, and the last bucket never equals its pad
+      for (int b = count; b < buckets; b++) splitters[b] = splitters[count - 1];
+      buildTree(1, 0, buckets - 1);
+    }
+
+    /** Fills the subtree at {@code node} with {@code splitters[low, high)}, in order. */
+    private void buildTree(int node, int low, int high) {
+      if (low >= high) return;
+      int middle = (low + high) >>> 1;
+      tree[node] = splitters[middle];
+      buildTree(node << 1, low, middle);
+      buildTree((node << 1) + 1, middle + 1, high);
+    }
+
+    private void classify(int stripe) {
+      int[] counts = offsets[stripe];
+      int to = bounds[stripe + 1];
+      for (int i = bounds[stripe]; i < to; i++) {
+        long key = a[i];
+        int node = 1;
+        for (int level = 0; level < levels; level++)
+          node = (node << 1) + (key > tree[node] ? 1 : 0);
+        int bucket = node - buckets;
+        if (equalityBuckets) bucket = (bucket << 1) + (key == splitters[bucket] ? 1 : 0);
+        oracle[i] = (byte) bucket;
+        ++counts[bucket];
+      }
+      if (counting) {
+        long keys = to - bounds[stripe];
+        metrics.add(keys * (levels + (equalityBuckets ? 1 : 0)), 0, 0, keys, 0);
+      }
+    }
+
+    private void scatter(int stripe) {
+      int[] positions = offsets[stripe];
+      int to = bounds[stripe + 1];
+      for (int i = bounds[stripe]; i < to; i++) buffer[positions[oracle[i] & 0xFF]++] = a[i];
+      if (counting) metrics.add(0, 0, to - bounds[stripe], 0, 0);
+    }
+
+    private void sortBucket(int from, int to, boolean equal) {
+      int size = to - from;
+      System.arraycopy(buffer, from, a, from, size);
+      if (counting) metrics.add(0, 0, size, 0, 1);
+      if (!equal && size > 1) new IntroSortAction(a, from, to, log2(size), true, true).compute();
+    }
+
+    private void forAll(int count, IntConsumer task) {
+      List<ForkJoinTask<?>> tasks = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        int index = i;
+        tasks.add(ForkJoinTask.adapt(() -> task.accept(index)));
+      }
+      invokeAll(tasks);
+    }
+  }
+}
@@ -7,15 +7,17 @@ public class SelectionSort extends AbstractSort {
     reset();
     for (int out = 0; out < length - 1; ++out) {
       int min = out;
-      ++outerLoopCount;
+      if (counting) ++outerLoopCount;
       for (int in = out + 1; in < length; ++in) {
-        ++comparisonCount;
-        ++innerLoopCount;
+        if (counting) {
+          ++comparisonCount;
+          ++innerLoopCount;
+        }
         if (a[in] < a[min]) min = in;
       }
       if (min != out) {
         swap(a, out, min);
-        ++swapCount;
+        if (counting) ++swapCount;
       }
     }
   }
@@ -1,12 +1,30 @@
 package ds;
 
+import static java.util.Objects.requireNonNull;
+
+/** Shell sort halving the gap, with arrays up to the threshold of a {@link BaseCase} left to it. */
 public class ShellSort extends AbstractSort {
 
   protected int gapCount;
+  private final BaseCase baseCase;
+
+  public ShellSort() {
+    this(BaseCase.NONE);
+  }
+
+  public ShellSort(BaseCase baseCase) {
+    super();
+    this.baseCase = requireNonNull(baseCase, "baseCase");
+  }
+
+  public BaseCase getBaseCase() {
+    return baseCase;
+  }
 
   @Override
   public int getTimeComplexity() {
-    return innerLoopCount > 0 ? innerLoopCount : outerLoopCount > 0 ? outerLoopCount : gapCount;
+    return saturatedCount(
+        innerLoopCount > 0 ? innerLoopCount : outerLoopCount > 0 ? outerLoopCount : gapCount);
   }
 
   @Override
@@ -19,20 +37,27 @@ public class ShellSort extends AbstractSort {
   protected void sort(long[] a, int length) {
     {
       reset();
+      if (baseCase.handles(length)) {
+        long comparisons = baseCase.sort(a, 0, length);
+        if (counting) comparisonCount += comparisons;
+        return;
+      }
       int n = length;
       for (int gap = n >> 1; gap > 0; gap = gap >> 1) {
-        ++gapCount;
+        if (counting) ++gapCount;
         for (int i = gap; i < n; ++i) {
-          ++outerLoopCount;
+          if (counting) ++outerLoopCount;
           long temp = a[i];
           int j = i;
           for (; j >= gap && a[j - gap] > temp; j -= gap) {
-            ++comparisonCount;
-            ++copyCount;
-            ++innerLoopCount;
+            if (counting) {
+              ++comparisonCount;
+              ++copyCount;
+              ++innerLoopCount;
+            }
             System.arraycopy(a, j - gap, a, j, 1);
           }
-          if (j >= gap) ++comparisonCount;
+          if (counting && j >= gap) ++comparisonCount;
           if (i != j) a[j] = temp;
         }
       }
@@ -8,7 +8,8 @@ public class ShellSortByThree extends AbstractSort {
 
   @Override
   public int getTimeComplexity() {
-    return innerLoopCount > 0 ? innerLoopCount : outerLoopCount > 0 ? outerLoopCount : gapCount;
+    return saturatedCount(
+        innerLoopCount > 0 ? innerLoopCount : outerLoopCount > 0 ? outerLoopCount : gapCount);
   }
 
   @Override
@@ -27,19 +28,21 @@ public class ShellSortByThree extends AbstractSort {
 
     // decreasing h, until h=1
     while (h > 0) {
-      ++gapCount;
+      if (counting) ++gapCount;
       for (int outer = h; outer < n; outer++) {
         long temp = a[outer];
-        ++outerLoopCount;
+        if (counting) ++outerLoopCount;
         int inner = outer;
         while (inner > h - 1 && a[inner - h] >= temp) {
-          ++innerLoopCount;
-          ++comparisonCount;
-          ++copyCount;
+          if (counting) {
+            ++innerLoopCount;
+            ++comparisonCount;
+            ++copyCount;
+          }
           System.arraycopy(a, inner - h, a, inner, 1);
           inner -= h;
         }
-        if (inner > h - 1) ++comparisonCount;
+        if (counting && inner > h - 1) ++comparisonCount;
         a[inner] = temp;
       }
       h = (h - 1) / THREE;
@@ -0,0 +1,63 @@
+package ds;
+
+import java.util.Map;
+
+/**
+ * Strategy for the operation counts and timings a sort reports.
+ *
+ * <ul>
+ *   <li>{@link #disabled()} counts nothing; sorts skip their counting code altogether.
+ *   <li>{@link #local()} has tasks count in local variables and add them up at task end.
+ *   <li>{@link #full()} counts as {@link #local()} does and times the phases of a sort too.
+ * </ul>
+ *
+ * <p>All counts are 64 bit.
+ */
+public interface SortMetrics {
+
+  static SortMetrics disabled() {
+    return DisabledSortMetrics.INSTANCE;
+  }
+
+  static SortMetrics local() {
+    return new LocalSortMetrics();
+  }
+
+  static SortMetrics full() {
+    return new FullSortMetrics();
+  }
+
+  /** Whether sorts should count at all. */
+  boolean isEnabled();
+
+  /** Whether sorts should time their phases. */
+  boolean isTimed();
+
+  /** Adds the counts a task gathered in its local variables. */
+  void add(long comparisons, long swaps, long copies, long innerLoops, long outerLoops);
+
+  /**
+   * Starts timing a phase.
+   *
+   * @return the start time to pass to {@link #endPhase(String, long)}.
+   */
+  long startPhase();
+
+  /** Ends timing a phase started at {@code start}, adding its duration to the phase total. */
+  void endPhase(String phase, long start);
+
+  long getComparisonCount();
+
+  long getSwapCount();
+
+  long getCopyCount();
+
+  long getInnerLoopCount();
+
+  long getOuterLoopCount();
+
+  /** Total nanoseconds spent per phase, empty unless timed. */
+  Map<String, Long> getPhaseTimes();
+
+  void reset();
+}
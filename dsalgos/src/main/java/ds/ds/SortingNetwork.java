@@ -0,0 +1,88 @@
+package ds;
+
+/**
+ * Branch-free sorting networks for 2 to {@value #MAX_LENGTH} longs.
+ *
+ * <p>Each network is Batcher's odd-even merge sort for its exact length, kept as a flat list of
+ * comparator index pairs in layer order. A comparator writes the minimum and the maximum of its two
+ * elements back unconditionally, so the data never decides a branch and the JIT is free to use
+ * conditional moves; the only branch is the predictable loop over the comparators.
+ */
+public final class SortingNetwork {
+
+  public static final int MAX_LENGTH = 32;
+
+  private static final int[][] NETWORKS = new int[MAX_LENGTH + 1][];
+
+  static {
+    for (int n = 0; n <= MAX_LENGTH; n++) NETWORKS[n] = oddEvenMergeSort(n);
+  }
+
+  private SortingNetwork() {}
+
+  /**
+   * Sorts {@code a[from, to)}.
+   *
+   * @return the number of comparators applied
+   * @throws IllegalArgumentException if the range is longer than {@value #MAX_LENGTH}
+   */
+  public static int sort(long[] a, int from, int to) {
+    int[] network = network(to - from);
+    for (int c = 0; c < network.length; c += 2) {
+      int i = from + network[c];
+      int j = from + network[c + 1];
+      long x = a[i];
+      long y = a[j];
+      a[i] = Math.min(x, y);
+      a[j] = Math.max(x, y);
+    }
+    return network.length >> 1;
+  }
+
+  /** Number of comparators in the network for {@code length} elements. */
+  public static int size(int length) {
+    return network(length).length >> 1;
+  }
+
+  /** Number of comparator layers, i.e. the longest chain of dependent comparators. */
+  public static int depth(int length) {
+    int[] network = network(length);
+    int[] layer = new int[length];
+    int depth = 0;
+    for (int c = 0; c < network.length; c += 2) {
+      int i = network[c];
+      int j = network[c + 1];
+      layer[i] = layer[j] = Math.max(layer[i], layer[j]) + 1;
+      depth = Math.max(depth, layer[i]);
+    }
+    return depth;
+  }
+
+  /** Comparator pairs of the network for {@code length} elements, a copy. */
+  public static int[] comparators(int length) {
+    return network(length).clone();
+  }
+
+  private static int[] network(int length) {
+    if (length < 0 || length > MAX_LENGTH)
+      throw new IllegalArgumentException("Illegal network length: " + length);
+    return NETWORKS[length];
+  }
+
+  /** Batcher's odd-even merge sort, generated for any {@code n} rather than padded to 2^k. */
+  private static int[] oddEvenMergeSort(int n) {
+    int[] pairs = new int[n * n];
+    int count = 0;
+    for (int p = 1; p < n; p <<= 1)
+      for (int k = p; k >= 1; k >>= 1)
+        for (int j = k % p; j <= n - 1 - k; j += k << 1)
+          for (int i = 0; i <= Math.min(k - 1, n - j - k - 1); i++)
+            if ((i + j) / (p << 1) == (i + j + k) / (p << 1)) {
+              pairs[count++] = i + j;
+              pairs[count++] = i + j + k;
+            }
+    int[] network = new int[count];
+    System.arraycopy(pairs, 0, network, 0, count);
+    return network;
+  }
+}
@@ -0,0 +1,117 @@
+package ds;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Stable multi-column sort of a {@link ColumnTable}, ascending or descending per column.
+ *
+ * <p>The sort builds a row permutation one key column at a time, least significant first, so each
+ * pass only needs to be stable. A pass gathers the column through the permutation so far into
+ * unsigned keys in the column's order, complemented when descending, and sorts those keys with the
+ * row indices alongside: by the least significant digit kernel of {@link RadixSortLong}, with the
+ * indices as its payload, or below {@code RADIX_THRESHOLD} rows by the stable merge sort of {@link
+ * ArgSort}. Only then are the columns moved, once each. Large tables split histograms, scatters and
+ * gathers into chunks on the {@link ExecutionContext}. Beyond the table the sort needs two key and
+ * two index arrays as long as it and one scratch column at a time.
+ */
+public final class TableSort {
+
+  private static final int RADIX_THRESHOLD = 1 << 12;
+
+  private final ExecutionContext context;
+  private final RadixSortLong radixSort;
+
+  public TableSort() {
+    this(ExecutionContext.common());
+  }
+
+  public TableSort(ExecutionContext context) {
+    this.context = requireNonNull(context, "context");
+    this.radixSort = new RadixSortLong(RadixSortLong.DEFAULT_DIGIT_BITS, context);
+  }
+
+  public ExecutionContext getExecutionContext() {
+    return context;
+  }
+
+  /** A column to sort by and its direction. */
+  public static final class Key {
+    private final int column;
+    private final boolean descending;
+
+    private Key(int column, boolean descending) {
+      this.column = column;
+      this.descending = descending;
+    }
+
+    public static Key ascending(int column) {
+      return new Key(column, false);
+    }
+
+    public static Key descending(int column) {
+      return new Key(column, true);
+    }
+
+    public int getColumn() {
+      return column;
+    }
+
+    public boolean isDescending() {
+      return descending;
+    }
+  }
+
+  /** Sorts the rows of {@code table} in place by {@code keys}, the first the most significant. */
+  public void sort(ColumnTable table, Key... keys) {
+    int[] permutation = permutation(table, keys);
+    table.permute(permutation, context, radixSort.chunks(table.rows()));
+  }
+
+  /**
+   * The stable permutation that sorts {@code table} by {@code keys}, which is left as is.
+   *
+   * @return row {@code i} of the sorted table is row {@code permutation[i]} of this one
+   * @throws IllegalArgumentException if there are no keys
+   * @throws IndexOutOfBoundsException if a key names no column of the table
+   */
+  public int[] permutation(ColumnTable table, Key... keys) {
+    if (keys.length == 0) throw new IllegalArgumentException("No key to sort by.");
+    for (Key key : keys) table.column(key.column);
+    int rows = table.rows();
+    int[] permutation = new int[rows];
+    for (int i = 0; i < rows; i++) permutation[i] = i;
+    if (rows < 2) return permutation;
+
+    int chunks = radixSort.chunks(rows);
+    boolean radix = rows >= RADIX_THRESHOLD;
+    long[] sortKeys = new long[rows];
+    long[] keyBuffer = radix ? new long[rows] : null;
+    int[] rowBuffer = radix ? new int[rows] : null;
+    for (int k = keys.length - 1; k >= 0; k--) {
+      ColumnTable.Column column = table.column(keys[k].column);
+      int bits = column.keyBits();
+      long flip = keys[k].descending ? -1L >>> (Long.SIZE - bits) : 0;
+      // a signed order for the merge sort, which compares longs as such
+      long bias = radix ? 0 : Long.MIN_VALUE;
+      long[] gathered = sortKeys;
+      int[] order = permutation;
+      radixSort.forEachChunk(
+          chunks,
+          chunk -> {
+            int to = RadixSortLong.chunkStart(chunk + 1, chunks, rows);
+            for (int i = RadixSortLong.chunkStart(chunk, chunks, rows); i < to; i++)
+              gathered[i] = column.key(order[i]) ^ flip ^ bias;
+          });
+      if (!radix) new ArgSort(context).sortPairs(sortKeys, permutation, rows);
+      else if (radixSort.sort(sortKeys, permutation, keyBuffer, rowBuffer, rows, bits, 0, chunks)) {
+        long[] keyTmp = sortKeys;
+        sortKeys = keyBuffer;
+        keyBuffer = keyTmp;
+        int[] rowTmp = permutation;
+        permutation = rowBuffer;
+        rowBuffer = rowTmp;
+      }
+    }
+    return permutation;
+  }
+}
@@ -0,0 +1,459 @@
+package ds;
+
+/**
+ * Adaptive, stable natural merge sort after Tim Peters' list sort.
+ *
+ * <p>The array is scanned for ascending and strictly descending runs, the latter reversed in place.
+ * Runs shorter than the computed minimum run length are extended with binary insertion sort. Runs
+ * are pushed on a stack whose lengths are kept decreasing faster than the Fibonacci numbers, and
+ * merged with galloping once one side keeps winning. Nearly sorted input sorts in close to linear
+ * time.
+ */
+public class TimSort extends AbstractSort {
+
+  private static final int MIN_MERGE = 32;
+  private static final int MIN_GALLOP = 7;
+  private static final int INITIAL_TMP_LENGTH = 256;
+  private static final int MAX_STACK = 85;
+  private static final String MERGE_PHASE = "merge";
+
+  private long[] a;
+  private long[] tmp;
+  private int minGallop;
+  private int stackSize;
+  private int[] runBase;
+  private int[] runLength;
+
+  @Override
+  protected void sort(long[] a, int length) {
+    if (!shouldSort(length)) return;
+    int low = 0;
+    int remaining = length;
+    if (remaining < MIN_MERGE) {
+      int initRunLength = countRunAndMakeAscending(a, low, length);
+      binarySort(a, low, length, low + initRunLength);
+      return;
+    }
+    this.a = a;
+    minGallop = MIN_GALLOP;
+    tmp = new long[Math.min(length >>> 1, INITIAL_TMP_LENGTH)];
+    stackSize = 0;
+    runBase = new int[MAX_STACK];
+    runLength = new int[MAX_STACK];
+    int minRun = minRunLength(remaining);
+    try {
+      do {
+        if (counting) ++outerLoopCount;
+        int run = countRunAndMakeAscending(a, low, length);
+        if (run < minRun) {
+          int force = Math.min(remaining, minRun);
+          binarySort(a, low, low + force, low + run);
+          run = force;
+        }
+        pushRun(low, run);
+        mergeCollapse();
+        low += run;
+        remaining -= run;
+      } while (remaining != 0);
+      mergeForceCollapse();
+    } finally {
+      this.a = null;
+      tmp = null;
+    }
+  }
+
+  /** Shortest run to extend to, so that the number of runs is a power of two or just under. */
+  static int minRunLength(int length) {
+    int n = length;
+    int r = 0;
+    while (n >= MIN_MERGE) {
+      r |= n & 1;
+      n >>= 1;
+    }
+    return n + r;
+  }
+
+  /** Length of the run at {@code low}, reversing it first if it is strictly descending. */
+  private int countRunAndMakeAscending(long[] a, int low, int high) {
+    int runHigh = low + 1;
+    if (runHigh == high) return 1;
+    if (counting) ++comparisonCount;
+    if (a[runHigh++] < a[low]) {
+      while (runHigh < high && a[runHigh] < a[runHigh - 1]) {
+        if (counting) ++comparisonCount;
+        runHigh++;
+      }
+      reverseRange(a, low, runHigh);
+    } else {
+      while (runHigh < high && a[runHigh] >= a[runHigh - 1]) {
+        if (counting) ++comparisonCount;
+        runHigh++;
+      }
+    }
+    return runHigh - low;
+  }
+
+  private void reverseRange(long[] a, int low, int high) {
+    for (int lo = low, hi = high - 1; lo < hi; lo++, hi--) {
+      swap(a, lo, hi);
+      if (counting) ++swapCount;
+    }
+  }
+
+  /** Binary insertion of {@code a[start, high)} into the sorted {@code a[low, start)}. */
+  private void binarySort(long[] a, int low, int high, int start) {
+    for (int i = start == low ? start + 1 : start; i < high; i++) {
+      long pivot = a[i];
+      int left = low;
+      int right = i;
+      while (left < right) {
+        int middle = (left + right) >>> 1;
+        if (counting) ++comparisonCount;
+        if (pivot < a[middle]) right = middle;
+        else left = middle + 1;
+      }
+      int n = i - left;
+      System.arraycopy(a, left, a, left + 1, n);
+      a[left] = pivot;
+      if (counting) {
+        ++innerLoopCount;
+        copyCount += n + 1;
+      }
+    }
+  }
+
+  private void pushRun(int base, int length) {
+    runBase[stackSize] = base;
+    runLength[stackSize] = length;
+    stackSize++;
+  }
+
+  /**
+   * Merges until {@code runLength[i - 3] > runLength[i - 2] + runLength[i - 1]} and {@code
+   * runLength[i - 2] > runLength[i - 1]} hold for the whole stack.
+   */
+  private void mergeCollapse() {
+    while (stackSize > 1) {
+      int n = stackSize - 2;
+      if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+          || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+        if (runLength[n - 1] < runLength[n + 1]) n--;
+      } else if (n < 0 || runLength[n] > runLength[n + 1]) break;
+      mergeAt(n);
+    }
+  }
+
+  private void mergeForceCollapse() {
+    while (stackSize > 1) {
+      int n = stackSize - 2;
+      if (n > 0 && runLength[n - 1] < runLength[n + 1]) n--;
+      mergeAt(n);
+    }
+  }
+
+  /** Merges the runs at stack index {@code i} and {@code i + 1}. */
+  private void mergeAt(int i) {
+    int base1 = runBase[i];
+    int length1 = runLength[i];
+    int base2 = runBase[i + 1];
+    int length2 = runLength[i + 1];
+    runLength[i] = length1 + length2;
+    if (i == stackSize - 3) {
+      runBase[i + 1] = runBase[i + 2];
+      runLength[i + 1] = runLength[i + 2];
+    }
+    stackSize--;
+
+    long start = metrics.startPhase();
+    mergeRuns(base1, length1, base2, length2);
+    metrics.endPhase(MERGE_PHASE, start);
+  }
+
+  @SuppressWarnings("PMD.AvoidReassigningParameters")
+  private void mergeRuns(int base1, int length1, int base2, int length2) {
+    // elements of run 1 not above run 2's first are already in place
+    int k = gallopRight(a[base2], a, base1, length1, 0);
+    base1 += k;
+    length1 -= k;
+    if (length1 == 0) return;
+    // and so are elements of run 2 not below run 1's last
+    length2 = gallopLeft(a[base1 + length1 - 1], a, base2, length2, length2 - 1);
+    if (length2 == 0) return;
+    if (length1 <= length2) mergeLow(base1, length1, base2, length2);
+    else mergeHigh(base1, length1, base2, length2);
+  }
+
+  /**
+   * Leftmost position in the sorted {@code array[base, base + length)} to insert {@code key},
+   * galloping from {@code hint}.
+   */
+  private int gallopLeft(long key, long[] array, int base, int length, int hint) {
+    int lastOffset = 0;
+    int offset = 1;
+    if (counting) ++comparisonCount;
+    if (key > array[base + hint]) {
+      int maxOffset = length - hint;
+      while (offset < maxOffset && key > array[base + hint + offset]) {
+        if (counting) ++comparisonCount;
+        lastOffset = offset;
+        offset = (offset << 1) + 1;
+        if (offset <= 0) offset = maxOffset;
+      }
+      if (offset > maxOffset) offset = maxOffset;
+      lastOffset += hint;
+      offset += hint;
+    } else {
+      int maxOffset = hint + 1;
+      while (offset < maxOffset && key <= array[base + hint - offset]) {
+        if (counting) ++comparisonCount;
+        lastOffset = offset;
+        offset = (offset << 1) + 1;
+        if (offset <= 0) offset = maxOffset;
+      }
+      if (offset > maxOffset) offset = maxOffset;
+      int previous = lastOffset;
+      lastOffset = hint - offset;
+      offset = hint - previous;
+    }
+    lastOffset++;
+    while (lastOffset < offset) {
+      int middle = lastOffset + ((offset - lastOffset) >>> 1);
+      if (counting) ++comparisonCount;
+      if (key > array[base + middle]) lastOffset = middle + 1;
+      else offset = middle;
+    }
+    return offset;
+  }
+
+  /** Like {@link #gallopLeft} but the rightmost position, after any equal keys. */
+  private int gallopRight(long key, long[] array, int base, int length, int hint) {
+    int offset = 1;
+    int lastOffset = 0;
+    if (counting) ++comparisonCount;
+    if (key < array[base + hint]) {
+      int maxOffset = hint + 1;
+      while (offset < maxOffset && key < array[base + hint - offset]) {
+        if (counting) ++comparisonCount;
+        lastOffset = offset;
+        offset = (offset << 1) + 1;
+        if (offset <= 0) offset = maxOffset;
+      }
+      if (offset > maxOffset) offset = maxOffset;
+      int previous = lastOffset;
+      lastOffset = hint - offset;
+      offset = hint - previous;
+    } else {
+      int maxOffset = length - hint;
+      while (offset < maxOffset && key >= array[base + hint + offset]) {
+        if (counting) ++comparisonCount;
+        lastOffset = offset;
+        offset = (offset << 1) + 1;
+        if (offset <= 0) offset = maxOffset;
+      }
+      if (offset > maxOffset) offset = maxOffset;
+      lastOffset += hint;
+      offset += hint;
+    }
+    lastOffset++;
+    while (lastOffset < offset) {
+      int middle = lastOffset + ((offset - lastOffset) >>> 1);
+      if (counting) ++comparisonCount;
+      if (key < array[base + middle]) offset = middle;
+      else lastOffset = middle + 1;
+    }
+    return offset;
+  }
+
+  /** Merges left to right, with the shorter first run copied to the buffer. */
+  @SuppressWarnings("PMD.AvoidReassigningParameters")
+  private void mergeLow(int base1, int length1, int base2, int length2) {
+    long[] buffer = ensureCapacity(length1);
+    System.arraycopy(a, base1, buffer, 0, length1);
+    int cursor1 = 0;
+    int cursor2 = base2;
+    int dest = base1;
+    if (counting) copyCount += length1 + 1;
+    a[dest++] = a[cursor2++];
+    if (--length2 == 0) {
+      System.arraycopy(buffer, cursor1, a, dest, length1);
+      if (counting) copyCount += length1;
+      return;
+    }
+    if (length1 == 1) {
+      System.arraycopy(a, cursor2, a, dest, length2);
+      a[dest + length2] = buffer[cursor1];
+      if (counting) copyCount += length2 + 1;
+      return;
+    }
+    int gallop = minGallop;
+    outer:
+    while (true) {
+      int count1 = 0;
+      int count2 = 0;
+      // one at a time until one run keeps winning
+      do {
+        if (counting) {
+          ++innerLoopCount;
+          ++comparisonCount;
+          ++copyCount;
+        }
+        if (a[cursor2] < buffer[cursor1]) {
+          a[dest++] = a[cursor2++];
+          count2++;
+          count1 = 0;
+          if (--length2 == 0) break outer;
+        } else {
+          a[dest++] = buffer[cursor1++];
+          count1++;
+          count2 = 0;
+          if (--length1 == 1) break outer;
+        }
+      } while ((count1 | count2) < gallop);
+
+      // then gallop while runs of either side stay long
+      do {
+        count1 = gallopRight(a[cursor2], buffer, cursor1, length1, 0);
+        if (count1 != 0) {
+          System.arraycopy(buffer, cursor1, a, dest, count1);
+          if (counting) copyCount += count1;
+          dest += count1;
+          cursor1 += count1;
+          length1 -= count1;
+          if (length1 <= 1) break outer;
+        }
+        a[dest++] = a[cursor2++];
+        if (counting) ++copyCount;
+        if (--length2 == 0) break outer;
+
+        count2 = gallopLeft(buffer[cursor1], a, cursor2, length2, 0);
+        if (count2 != 0) {
+          System.arraycopy(a, cursor2, a, dest, count2);
+          if (counting) copyCount += count2;
+          dest += count2;
+          cursor2 += count2;
+          length2 -= count2;
+          if (length2 == 0) break outer;
+        }
+        a[dest++] = buffer[cursor1++];
+        if (counting) ++copyCount;
+        if (--length1 == 1) break outer;
+        gallop--;
+      } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+      if (gallop < 0) gallop = 0;
+      gallop += 2;
+    }
+    minGallop = gallop < 1 ? 1 : gallop;
+
+    if (length1 == 1) {
+      System.arraycopy(a, cursor2, a, dest, length2);
+      a[dest + length2] = buffer[cursor1];
+      if (counting) copyCount += length2 + 1;
+    } else {
+      System.arraycopy(buffer, cursor1, a, dest, length1);
+      if (counting) copyCount += length1;
+    }
+  }
+
+  /** Merges right to left, with the shorter second run copied to the buffer. */
+  @SuppressWarnings("PMD.AvoidReassigningParameters")
+  private void mergeHigh(int base1, int length1, int base2, int length2) {
+    long[] buffer = ensureCapacity(length2);
+    System.arraycopy(a, base2, buffer, 0, length2);
+    int cursor1 = base1 + length1 - 1;
+    int cursor2 = length2 - 1;
+    int dest = base2 + length2 - 1;
+    if (counting) copyCount += length2 + 1;
+    a[dest--] = a[cursor1--];
+    if (--length1 == 0) {
+      System.arraycopy(buffer, 0, a, dest - (length2 - 1), length2);
+      if (counting) copyCount += length2;
+      return;
+    }
+    if (length2 == 1) {
+      dest -= length1;
+      cursor1 -= length1;
+      System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+      a[dest] = buffer[cursor2];
+      if (counting) copyCount += length1 + 1;
+      return;
+    }
+    int gallop = minGallop;
+    outer:
+    while (true) {
+      int count1 = 0;
+      int count2 = 0;
+      do {
+        if (counting) {
+          ++innerLoopCount;
+          ++comparisonCount;
+          ++copyCount;
+        }
+        if (buffer[cursor2] < a[cursor1]) {
+          a[dest--] = a[cursor1--];
+          count1++;
+          count2 = 0;
+          if (--length1 == 0) break outer;
+        } else {
+          a[dest--] = buffer[cursor2--];
+          count2++;
+          count1 = 0;
+          if (--length2 == 1) break outer;
+        }
+      } while ((count1 | count2) < gallop);
+
+      do {
+        count1 = length1 - gallopRight(buffer[cursor2], a, base1, length1, length1 - 1);
+        if (count1 != 0) {
+          dest -= count1;
+          cursor1 -= count1;
+          length1 -= count1;
+          System.arraycopy(a, cursor1 + 1, a, dest + 1, count1);
+          if (counting) copyCount += count1;
+          if (length1 == 0) break outer;
+        }
+        a[dest--] = buffer[cursor2--];
+        if (counting) ++copyCount;
+        if (--length2 == 1) break outer;
+
+        count2 = length2 - gallopLeft(a[cursor1], buffer, 0, length2, length2 - 1);
+        if (count2 != 0) {
+          dest -= count2;
+          cursor2 -= count2;
+          length2 -= count2;
+          System.arraycopy(buffer, cursor2 + 1, a, dest + 1, count2);
+          if (counting) copyCount += count2;
+          if (length2 <= 1) break outer;
+        }
+        a[dest--] = a[cursor1--];
+        if (counting) ++copyCount;
+        if (--length1 == 0) break outer;
+        gallop--;
+      } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+      if (gallop < 0) gallop = 0;
+      gallop += 2;
+    }
+    minGallop = gallop < 1 ? 1 : gallop;
+
+    if (length2 == 1) {
+      dest -= length1;
+      cursor1 -= length1;
+      System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+      a[dest] = buffer[cursor2];
+      if (counting) copyCount += length1 + 1;
+    } else {
+      System.arraycopy(buffer, 0, a, dest - (length2 - 1), length2);
+      if (counting) copyCount += length2;
+    }
+  }
+
+  /** The merge buffer, grown to the next power of two once it is too short. */
+  private long[] ensureCapacity(int minCapacity) {
+    if (tmp.length < minCapacity) {
+      int capacity = Integer.highestOneBit(minCapacity) << 1;
+      if (capacity < 0) capacity = minCapacity;
+      tmp = new long[Math.min(capacity, a.length >>> 1)];
+      if (tmp.length < minCapacity) tmp = new long[minCapacity];
+    }
+    return tmp;
+  }
+}
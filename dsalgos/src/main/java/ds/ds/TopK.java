@@ -0,0 +1,183 @@
+package ds;
+
+import static ds.ArrayUtils.swap;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The smallest or largest {@code k} elements of an array, in order, without sorting all of it.
+ *
+ * <p>A small {@code k} is kept in a bounded {@link MaxHeap} (or {@link MinHeap}) while the input is
+ * scanned once, so the input is neither copied nor changed and most elements cost one comparison
+ * with the root. A larger {@code k} is selected in a copy by {@link IntroSelect} and only that
+ * prefix is sorted with {@link IntroSort}, which is {@code O(n + k log k)} expected. From {@code
+ * PARALLEL_THRESHOLD} elements on, chunks find their own {@code k} smallest on the {@link
+ * ExecutionContext} and the candidates are selected once more.
+ */
+public final class TopK {
+
+  static final int HEAP_MAX_K = 1 << 10;
+  private static final int HEAP_RATIO = 16;
+  private static final int PARALLEL_THRESHOLD = 1 << 16;
+  private static final int CHUNKS_PER_WORKER = 2;
+
+  private final ExecutionContext context;
+
+  public TopK() {
+    this(ExecutionContext.common());
+  }
+
+  public TopK(ExecutionContext context) {
+    this.context = requireNonNull(context, "context");
+  }
+
+  public ExecutionContext getExecutionContext() {
+    return context;
+  }
+
+  /** The {@code k} smallest elements of {@code array}, ascending. */
+  public long[] smallest(IArray array, int k) {
+    return smallest(array.get(), array.count(), k);
+  }
+
+  /** The {@code k} largest elements of {@code array}, descending. */
+  public long[] largest(IArray array, int k) {
+    return largest(array.get(), array.count(), k);
+  }
+
+  /**
+   * The {@code k} smallest elements of {@code a[0, length)}, ascending; {@code a} is left as is.
+   *
+   * @throws IllegalArgumentException if {@code k} is negative or more than {@code length}
+   */
+  public long[] smallest(long[] a, int length, int k) {
+    checkK(k, length);
+    return select(a, length, k, false);
+  }
+
+  /**
+   * The {@code k} largest elements of {@code a[0, length)}, descending; {@code a} is left as is.
+   *
+   * @throws IllegalArgumentException if {@code k} is negative or more than {@code length}
+   */
+  public long[] largest(long[] a, int length, int k) {
+    checkK(k, length);
+    return select(a, length, k, true);
+  }
+
+  /**
+   * Moves the {@code k} smallest elements of {@code a[0, length)} to its front, in order; the rest
+   * follow in no particular order.
+   *
+   * @throws IllegalArgumentException if {@code k} is negative or more than {@code length}
+   */
+  public void partialSort(long[] a, int length, int k) {
+    checkK(k, length);
+    if (k == 0) return;
+    if (k < length) IntroSelect.select(a, 0, length, k - 1);
+    sortPrefix(a, k);
+  }
+
+  private static void checkK(int k, int length) {
+    if (k < 0 || k > length)
+      throw new IllegalArgumentException("Illegal k: " + k + " of " + length + " elements");
+  }
+
+  private long[] select(long[] a, int length, int k, boolean largest) {
+    if (k == 0) return new long[0];
+    int chunks =
+        length < PARALLEL_THRESHOLD || context.getParallelism() == 1
+            ? 1
+            : Math.min(context.getParallelism() * CHUNKS_PER_WORKER, length / k >> 1);
+    long[] selected;
+    if (chunks > 1) {
+      long[] candidates = context.invoke(new ChunkTask(a, 0, length, k, largest, chunks));
+      selected = selectUnordered(candidates, 0, candidates.length, k, largest);
+    } else selected = selectUnordered(a, 0, length, k, largest);
+    sortPrefix(selected, k);
+    if (largest) reverse(selected);
+    return selected;
+  }
+
+  /** The {@code k} extreme elements of {@code a[from, to)}, in any order. */
+  private static long[] selectUnordered(long[] a, int from, int to, int k, boolean largest) {
+    int length = to - from;
+    if (k <= HEAP_MAX_K && k <= length / HEAP_RATIO) return heapSelect(a, from, to, k, largest);
+    long[] copy = new long[length];
+    System.arraycopy(a, from, copy, 0, length);
+    long[] selected = new long[k];
+    if (largest) {
+      if (k < length) IntroSelect.select(copy, 0, length, length - k);
+      System.arraycopy(copy, length - k, selected, 0, k);
+    } else {
+      if (k < length) IntroSelect.select(copy, 0, length, k - 1);
+      System.arraycopy(copy, 0, selected, 0, k);
+    }
+    return selected;
+  }
+
+  /** Keeps the {@code k} smallest seen in a max heap, or the largest in a min heap. */
+  private static long[] heapSelect(long[] a, int from, int to, int k, boolean largest) {
+    AbstractHeap heap = largest ? new MinHeap(k) : new MaxHeap(k);
+    int i = from;
+    for (; i < from + k; i++) heap.insert(a[i]);
+    for (; i < to; i++) {
+      long value = a[i];
+      if (largest ? value > heap.peek() : value < heap.peek()) heap.replaceTop(value);
+    }
+    long[] selected = new long[k];
+    for (int j = k - 1; j >= 0; j--) selected[j] = heap.poll();
+    return selected;
+  }
+
+  private void sortPrefix(long[] a, int k) {
+    if (k < 2) return;
+    AbstractSort sort = k < PARALLEL_THRESHOLD ? new IntroSort() : new IntroSortParallel(context);
+    sort.setMetrics(SortMetrics.disabled());
+    sort.sort(a, k);
+  }
+
+  private static void reverse(long[] a) {
+    for (int i = 0, j = a.length - 1; i < j; i++, j--) swap(a, i, j);
+  }
+
+  /** The {@code k} extreme elements of every chunk of {@code a[from, to)}, concatenated. */
+  static final class ChunkTask extends RecursiveTask<long[]> {
+    private static final long serialVersionUID = 1L;
+
+    final long[] a;
+    final int from;
+    final int to;
+    final int k;
+    final boolean largest;
+    final int chunks;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    ChunkTask(long[] a, int from, int to, int k, boolean largest, int chunks) {
+      this.a = a;
+      this.from = from;
+      this.to = to;
+      this.k = k;
+      this.largest = largest;
+      this.chunks = chunks;
+    }
+
+    @Override
+    protected long[] compute() {
+      if (chunks == 1) return selectUnordered(a, from, to, k, largest);
+      int half = chunks >>> 1;
+      int middle = (int) (from + (long) (to - from) * half / chunks);
+      ChunkTask left = new ChunkTask(a, from, middle, k, largest, half);
+      ChunkTask right = new ChunkTask(a, middle, to, k, largest, chunks - half);
+      invokeAll(left, right);
+      long[] leftCandidates = left.getRawResult();
+      long[] rightCandidates = right.getRawResult();
+      long[] candidates = new long[leftCandidates.length + rightCandidates.length];
+      System.arraycopy(leftCandidates, 0, candidates, 0, leftCandidates.length);
+      System.arraycopy(
+          rightCandidates, 0, candidates, leftCandidates.length, rightCandidates.length);
+      return candidates;
+    }
+  }
+}
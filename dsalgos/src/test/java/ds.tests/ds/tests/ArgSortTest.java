@@ -0,0 +1,140 @@
+package ds.tests;
+
+import static ds.tests.TestConstants.*;
+import static ds.tests.TestData.*;
+import static ds.tests.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.ArgSort;
+import ds.ExecutionContext;
+import ds.HighArray;
+import ds.IArray;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.aggregator.AggregateWith;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("ArgSortTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class ArgSortTest {
+
+  private static final int LARGE = 1 << 17;
+
+  private final ExecutionContext context = ExecutionContext.withParallelism(4);
+
+  @AfterAll
+  void tearDown() {
+    context.close();
+  }
+
+  /** The stable permutation, by boxing, to check against. */
+  private int[] expected(long[] keys) {
+    return IntStream.range(0, keys.length)
+        .boxed()
+        .sorted(Comparator.comparingLong(i -> keys[i]))
+        .mapToInt(Integer::intValue)
+        .toArray();
+  }
+
+  @ParameterizedTest
+  @CsvSource(INIT_DUPLICATE_DATA)
+  @DisplayName("ArgSortTest.testArgsort")
+  void testArgsort(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+    long[] before = arr.getExtentArray();
+    int[] permutation = new ArgSort().argsort(arr);
+    assertArrayEquals(expected(before), permutation, "Permutation must be stable.");
+    assertArrayEquals(before, arr.getExtentArray(), "Array must be left as is.");
+    long[] sorted = ArgSort.permute(permutation, before);
+    long[] a = {00, 00, 00, 00, 11, 11, 11, 22, 22, 33, 33, 44, 55, 66, 77, 77, 77, 88, 88, 99, 99};
+    assertArrayEquals(a, sorted, ELEMENTS_SORTED_EQUAL);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, TEN, 1000, Integer.MAX_VALUE})
+  @DisplayName("ArgSortTest.testArgsortParallel")
+  void testArgsortParallel(int bound) {
+    long[] keys = random(LARGE + 1, bound);
+    long[] before = keys.clone();
+    assertArrayEquals(expected(keys), new ArgSort(context).argsort(keys, keys.length));
+    assertArrayEquals(before, keys, "Keys must be left as is.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 2})
+  @DisplayName("ArgSortTest.testArgsortPatterns")
+  void testArgsortPatterns(int pattern) {
+    long[] keys = new long[LARGE];
+    for (int i = 0; i < LARGE; i++) keys[i] = pattern == 0 ? LARGE - i : pattern == 1 ? i : i % 3;
+    assertArrayEquals(expected(keys), new ArgSort(context).argsort(keys, keys.length));
+  }
+
+  @Test
+  @DisplayName("ArgSortTest.testArgsortPrefix")
+  void testArgsortPrefix() {
+    long[] keys = {5, 4, 3, 2, 1};
+    assertArrayEquals(new int[] {2, 1, 0}, new ArgSort().argsort(keys, 3));
+    assertArrayEquals(new int[0], new ArgSort().argsort(keys, 0));
+  }
+
+  @Test
+  @DisplayName("ArgSortTest.testSortWithColumns")
+  void testSortWithColumns() {
+    long[] keys = random(LARGE, THOUSAND);
+    long[] rows = new long[LARGE];
+    long[] squares = new long[LARGE];
+    for (int i = 0; i < LARGE; i++) {
+      rows[i] = i;
+      squares[i] = keys[i] * keys[i];
+    }
+    long[] sortedKeys = sorted(keys);
+    int[] expected = expected(keys);
+    int[] permutation = new ArgSort(context).sort(keys, LARGE, rows, squares);
+    assertArrayEquals(sortedKeys, keys, ELEMENTS_SORTED_EQUAL);
+    assertArrayEquals(expected, permutation, "Permutation must be stable.");
+    for (int i = 0; i < LARGE; i++) {
+      assertEquals(permutation[i], rows[i], "Rows must follow the keys.");
+      assertEquals(keys[i] * keys[i], squares[i], "Payload must follow the keys.");
+    }
+  }
+
+  @Test
+  @DisplayName("ArgSortTest.testSortShortColumn")
+  void testSortShortColumn() {
+    long[] keys = {3, 2, 1};
+    ArgSort sort = new ArgSort();
+    long[] column = new long[2];
+    assertThrows(IllegalArgumentException.class, () -> sort.sort(keys, 3, column));
+    assertArrayEquals(new long[] {3, 2, 1}, keys, "Keys must be left as is.");
+  }
+
+  @Test
+  @DisplayName("ArgSortTest.testPermute")
+  void testPermute() {
+    int[] permutation = {2, 0, 1};
+    assertArrayEquals(
+        new long[] {30, 10, 20}, ArgSort.permute(permutation, new long[] {10, 20, 30}));
+    assertArrayEquals(new int[] {3, 1, 2}, ArgSort.permute(permutation, new int[] {1, 2, 3}));
+    assertArrayEquals(
+        new double[] {.3, .1, .2}, ArgSort.permute(permutation, new double[] {.1, .2, .3}));
+    assertArrayEquals(
+        new String[] {"c", "a", "b"}, ArgSort.permute(permutation, new String[] {"a", "b", "c"}));
+  }
+
+  @Test
+  @DisplayName("ArgSortTest.testArgsortEmpty")
+  void testArgsortEmpty() {
+    assertEquals(0, new ArgSort().argsort(new HighArray(1)).length, "Permutation must be empty.");
+    assertThrows(NullPointerException.class, () -> new ArgSort(null));
+  }
+}
@@ -0,0 +1,120 @@
+package ds.tests;
+
+import static ds.tests.TestConstants.*;
+import static ds.tests.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.BaseCase;
+import ds.ExecutionContext;
+import ds.IArray;
+import ds.ISort;
+import ds.MergeSort;
+import ds.QuickSort;
+import ds.QuickSortParallel;
+import ds.ShellSort;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("BaseCaseTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class BaseCaseTest {
+
+  private ISort[] sorts(BaseCase baseCase) {
+    return new ISort[] {new QuickSort(baseCase), new MergeSort(baseCase), new ShellSort(baseCase)};
+  }
+
+  @ParameterizedTest
+  @EnumSource(BaseCase.class)
+  @DisplayName("BaseCaseTest.testSortRange")
+  void testSortRange(BaseCase baseCase) {
+    Random random = new Random(SCORE);
+    for (int n = 2; n <= baseCase.getThreshold(); n++) {
+      long[] a = random.longs(n + 2).toArray();
+      long[] expected = a.clone();
+      Arrays.sort(expected, 1, n + 1);
+      baseCase.sort(a, 1, n + 1);
+      assertArrayEquals(expected, a, "Only the range must be sorted, length " + n);
+    }
+  }
+
+  @Test
+  @DisplayName("BaseCaseTest.testHandles")
+  void testHandles() {
+    assertFalse(BaseCase.NONE.handles(2), "No base case handles nothing.");
+    long[] a = {3, 2, 1};
+    assertEquals(3, BaseCase.NONE.sort(a, 0, 3), "Insertion fallback comparisons expected.");
+    assertArrayEquals(new long[] {1, 2, 3}, a, "Insertion fallback must sort.");
+    for (BaseCase baseCase : BaseCase.values()) {
+      assertFalse(baseCase.handles(1), "Single element needs no sort.");
+      assertFalse(baseCase.handles(baseCase.getThreshold() + 1), "Threshold is inclusive.");
+    }
+    assertTrue(BaseCase.NETWORK.handles(BaseCase.NETWORK.getThreshold()), "Threshold expected.");
+  }
+
+  @ParameterizedTest
+  @EnumSource(BaseCase.class)
+  @DisplayName("BaseCaseTest.testRecursiveSorts")
+  void testRecursiveSorts(BaseCase baseCase) {
+    Random random = new Random(HUNDRED);
+    for (int size = 0; size < HUNDRED; size++) {
+      IArray array = randomArray(size, random);
+      for (ISort sorter : sorts(baseCase)) assertSortedLike(array, sorter.sort(array));
+    }
+    IArray array = randomArray(MYRIAD, random);
+    for (ISort sorter : sorts(baseCase)) assertSortedLike(array, sorter.sort(array));
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = BaseCase.class, names = "NONE", mode = EnumSource.Mode.EXCLUDE)
+  @DisplayName("BaseCaseTest.testQuickSortParallel")
+  void testQuickSortParallel(BaseCase baseCase) {
+    Random random = new Random(THOUSAND);
+    try (ExecutionContext context = ExecutionContext.withParallelism(2)) {
+      QuickSortParallel sorter = new QuickSortParallel(context, baseCase);
+      assertSame(baseCase, sorter.getBaseCase(), "Base case expected.");
+      for (int size = 0; size < HUNDRED; size++) {
+        IArray array = randomArray(size, random);
+        assertSortedLike(array, sorter.sort(array));
+      }
+      IArray array = randomArray(MYRIAD, random);
+      assertSortedLike(array, sorter.sort(array));
+    }
+  }
+
+  @Test
+  @DisplayName("BaseCaseTest.testNetworkCounted")
+  void testNetworkCounted() {
+    // sixteen elements fall to the network as a whole: every comparator counts once
+    IArray array = randomArray(BaseCase.NETWORK.getThreshold(), new Random(TEN));
+    ISort sorter = new QuickSort(BaseCase.NETWORK);
+    assertSortedLike(array, sorter.sort(array));
+    assertEquals(63, sorter.getComparisonCount(), "One comparison per comparator expected.");
+    assertEquals(0, sorter.getSwapCount(), "Networks do not count swaps.");
+  }
+
+  @Test
+  @DisplayName("BaseCaseTest.testDefaults")
+  void testDefaults() {
+    assertSame(BaseCase.NONE, new QuickSort().getBaseCase(), "No base case by default.");
+    assertSame(BaseCase.NONE, new MergeSort().getBaseCase(), "No base case by default.");
+    assertSame(BaseCase.NONE, new ShellSort().getBaseCase(), "No base case by default.");
+    assertSame(
+        BaseCase.NETWORK, new QuickSortParallel().getBaseCase(), "Network base case expected.");
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new QuickSortParallel(ExecutionContext.common(), BaseCase.NONE),
+        "IllegalArgumentException expected.");
+    assertThrows(
+        NullPointerException.class, () -> new QuickSort(null), "NullPointerException expected.");
+  }
+}
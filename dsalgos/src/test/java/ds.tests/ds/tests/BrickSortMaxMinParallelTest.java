@@ -7,16 +7,17 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import ds.AbstractSort;
 import ds.BrickSortMaxMinParallel;
+import ds.ExecutionContext;
 import ds.HighArray;
 import ds.IArray;
 import ds.ISort;
 import ds.OrdArray;
 import ds.RandomUtils;
+import java.time.Duration;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.LongStream;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -25,7 +26,6 @@ import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 
-@Disabled
 @TestInstance(Lifecycle.PER_CLASS)
 @Execution(ExecutionMode.SAME_THREAD)
 @SuppressWarnings({"PMD.LawOfDemeter", "checkstyle:classfanoutcomplexity"})
@@ -254,6 +254,36 @@ class BrickSortMaxMinParallelTest implements SortProvider {
           CompletionException.class, () -> sorter.sort(high), "CompletionException expected.");
     }
 
+    @Test
+    @DisplayName("BrickSortMaxMinParallelTest.testBlockFailure")
+    void testBlockFailure() {
+      assertBlockFailure(4);
+    }
+
+    @Test
+    @DisplayName("BrickSortMaxMinParallelTest.testCallerBlockFailure")
+    void testCallerBlockFailure() {
+      assertBlockFailure(1);
+    }
+
+    /** A sweep running past the array fails in the last block, the caller's if it is alone. */
+    private void assertBlockFailure(int parallelism) {
+      IArray high = new HighArray((MYRIAD << 1) + 1);
+      revRange(1, (MYRIAD << 1) + 1).forEach(i -> high.insert(i));
+      try (ExecutionContext context = ExecutionContext.withParallelism(parallelism)) {
+        ISort sorter = new BrickSortMaxMinParallelOverrun(context);
+        CompletionException e =
+            assertTimeoutPreemptively(
+                Duration.ofMinutes(1),
+                () -> assertThrows(CompletionException.class, () -> sorter.sort(high)),
+                "Sort must end.");
+        assertTrue(e.getCause() instanceof ExecutionException, "ExecutionException expected.");
+        assertTrue(
+            e.getCause().getCause() instanceof ArrayIndexOutOfBoundsException,
+            "Block failure expected.");
+      }
+    }
+
     @Test
     @DisplayName("BrickSortMaxMinParallelTest.testReverseSortedOddInterruption")
     void testReverseSortedOddInterruption() throws InterruptedException, ExecutionException {
@@ -379,8 +409,25 @@ class BrickSortMaxMinParallelTest implements SortProvider {
 
   static class BrickSortExceptionable extends BrickSortMaxMinParallel {
     @Override
-    protected void bubble(long[] ignored, int ignoredInt) {
-      throw new IllegalStateException("Error in " + BrickSortExceptionable.class + ".bubble");
+    protected void sortInterruptibly(
+        long[] ignoredArr, int ignoredLength, ExecutorService ignoredService)
+        throws InterruptedException, ExecutionException {
+      throw new ExecutionException(
+          new IllegalStateException(
+              "Error in " + BrickSortExceptionable.class + ".sortInterruptibly"));
+    }
+  }
+
+  /** Sorts two elements past the end of the array, so the sweep of the last block fails. */
+  static class BrickSortMaxMinParallelOverrun extends BrickSortMaxMinParallel {
+    BrickSortMaxMinParallelOverrun(ExecutionContext context) {
+      super(context);
+    }
+
+    @Override
+    protected void sortInterruptibly(long[] a, int length, ExecutorService service)
+        throws InterruptedException, ExecutionException {
+      super.sortInterruptibly(a, length + 2, service);
     }
   }
 
@@ -447,11 +494,11 @@ class BrickSortMaxMinParallelTest implements SortProvider {
     }
 
     int getInnerLoopCount() {
-      return innerLoopCount;
+      return saturatedCount(innerLoopCount);
     }
 
     int getOuterLoopCount() {
-      return outerLoopCount;
+      return saturatedCount(outerLoopCount);
     }
   }
 }
@@ -527,11 +527,11 @@ class BrickSortMaxMinTest implements SortProvider {
     }
 
     int getInnerLoopCount() {
-      return innerLoopCount;
+      return saturatedCount(innerLoopCount);
     }
 
     int getOuterLoopCount() {
-      return outerLoopCount;
+      return saturatedCount(outerLoopCount);
     }
   }
 }
@@ -7,16 +7,17 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import ds.AbstractSort;
 import ds.BrickSortParallel;
+import ds.ExecutionContext;
 import ds.HighArray;
 import ds.IArray;
 import ds.ISort;
 import ds.OrdArray;
 import ds.RandomUtils;
+import java.time.Duration;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.LongStream;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -25,7 +26,6 @@ import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 
-@Disabled
 @TestInstance(Lifecycle.PER_CLASS)
 @Execution(ExecutionMode.SAME_THREAD)
 @SuppressWarnings({"PMD.LawOfDemeter", "checkstyle:classfanoutcomplexity"})
@@ -324,6 +324,36 @@ class BrickSortParallelTest implements SortProvider {
           CompletionException.class, () -> sorter.sort(high), "CompletionException expected.");
     }
 
+    @Test
+    @DisplayName("BrickSortParallelTest.testBlockFailure")
+    void testBlockFailure() {
+      assertBlockFailure(4);
+    }
+
+    @Test
+    @DisplayName("BrickSortParallelTest.testCallerBlockFailure")
+    void testCallerBlockFailure() {
+      assertBlockFailure(1);
+    }
+
+    /** A sweep running past the array fails in the last block, the caller's if it is alone. */
+    private void assertBlockFailure(int parallelism) {
+      IArray high = new HighArray((MYRIAD << 1) + 1);
+      revRange(1, (MYRIAD << 1) + 1).forEach(i -> high.insert(i));
+      try (ExecutionContext context = ExecutionContext.withParallelism(parallelism)) {
+        ISort sorter = new BrickSortParallelOverrun(context);
+        CompletionException e =
+            assertTimeoutPreemptively(
+                Duration.ofMinutes(1),
+                () -> assertThrows(CompletionException.class, () -> sorter.sort(high)),
+                "Sort must end.");
+        assertTrue(e.getCause() instanceof ExecutionException, "ExecutionException expected.");
+        assertTrue(
+            e.getCause().getCause() instanceof ArrayIndexOutOfBoundsException,
+            "Block failure expected.");
+      }
+    }
+
     @Test
     @DisplayName("BrickSortParallelTest.testReverseSortedOddInterruption")
     void testReverseSortedOddInterruption() throws InterruptedException, ExecutionException {
@@ -333,6 +363,29 @@ class BrickSortParallelTest implements SortProvider {
       assertThrows(
           CompletionException.class, () -> sorter.sort(high), "CompletionException expected.");
     }
+
+    @Test
+    @DisplayName("BrickSortParallelTest.testBlocksSameAsSingleWorker")
+    void testBlocksSameAsSingleWorker() {
+      IArray high = new HighArray(MYRIAD << 1);
+      try (LongStream stream = RandomUtils.longStream().limit(MYRIAD << 1)) {
+        stream.forEach(i -> high.insert(i));
+      }
+      try (ExecutionContext single = ExecutionContext.withParallelism(1);
+          ExecutionContext many = ExecutionContext.withParallelism(4)) {
+        BrickSortParallel first = new BrickSortParallel(single);
+        BrickSortParallel second = new BrickSortParallel(many);
+        IArray sorted = second.sort(high);
+        assertArrayEquals(first.sort(high).get(), sorted.get(), "Results must be equal.");
+        assertTrue(isSorted(sorted), "Array must be sorted.");
+        assertEquals(first.getSwapCount(), second.getSwapCount(), "Swap counts must be equal.");
+        assertEquals(
+            first.getComparisonCount(),
+            second.getComparisonCount(),
+            "Comparison counts must be equal.");
+        assertTrue(second.isSorted(), SORTED_MUST_BE_SET);
+      }
+    }
   }
 
   @Nested
@@ -449,8 +502,25 @@ class BrickSortParallelTest implements SortProvider {
 
   static class BrickSortExceptionable extends BrickSortParallel {
     @Override
-    protected void bubble(long[] ignored, int ignoredInt) {
-      throw new IllegalStateException("Error in " + BrickSortExceptionable.class + ".bubble");
+    protected void sortInterruptibly(
+        long[] ignoredArr, int ignoredLength, ExecutorService ignoredService)
+        throws InterruptedException, ExecutionException {
+      throw new ExecutionException(
+          new IllegalStateException(
+              "Error in " + BrickSortExceptionable.class + ".sortInterruptibly"));
+    }
+  }
+
+  /** Sorts two elements past the end of the array, so the sweep of the last block fails. */
+  static class BrickSortParallelOverrun extends BrickSortParallel {
+    BrickSortParallelOverrun(ExecutionContext context) {
+      super(context);
+    }
+
+    @Override
+    protected void sortInterruptibly(long[] a, int length, ExecutorService service)
+        throws InterruptedException, ExecutionException {
+      super.sortInterruptibly(a, length + 2, service);
     }
   }
 
@@ -517,11 +587,11 @@ class BrickSortParallelTest implements SortProvider {
     }
 
     int getInnerLoopCount() {
-      return innerLoopCount;
+      return saturatedCount(innerLoopCount);
     }
 
     int getOuterLoopCount() {
-      return outerLoopCount;
+      return saturatedCount(outerLoopCount);
     }
   }
 }
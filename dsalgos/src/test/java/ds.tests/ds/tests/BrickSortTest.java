@@ -576,11 +576,11 @@ class BrickSortTest implements SortProvider {
     }
 
     int getInnerLoopCount() {
-      return innerLoopCount;
+      return saturatedCount(innerLoopCount);
     }
 
     int getOuterLoopCount() {
-      return outerLoopCount;
+      return saturatedCount(outerLoopCount);
     }
   }
 }
@@ -517,7 +517,7 @@ class BrickSortUnrolledTest implements SortProvider {
     }
 
     int getOuterLoopCount() {
-      return outerLoopCount;
+      return saturatedCount(outerLoopCount);
     }
   }
 }
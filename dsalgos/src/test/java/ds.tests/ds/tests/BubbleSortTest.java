@@ -295,7 +295,7 @@ class BubbleSortTest implements SortProvider {
     }
 
     int getOuterLoopCount() {
-      return outerLoopCount;
+      return saturatedCount(outerLoopCount);
     }
   }
 }
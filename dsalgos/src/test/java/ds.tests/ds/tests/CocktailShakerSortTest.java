@@ -263,7 +263,7 @@ class CocktailShakerSortTest implements SortProvider {
     }
 
     int getOuterLoopCount() {
-      return outerLoopCount;
+      return saturatedCount(outerLoopCount);
     }
   }
 }
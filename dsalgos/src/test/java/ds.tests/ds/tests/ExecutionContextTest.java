@@ -0,0 +1,125 @@
+package ds.tests;
+
+import static ds.ArrayUtils.isSorted;
+import static ds.tests.TestConstants.*;
+import static ds.tests.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.BrickSortMaxMinParallel;
+import ds.BrickSortParallel;
+import ds.ExecutionContext;
+import ds.IArray;
+import ds.ISort;
+import ds.MergeSortParallel;
+import ds.QuickSortParallel;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("ExecutionContextTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class ExecutionContextTest {
+
+  private static final String ARRAY_SORTED = "Array must be sorted.";
+  private static final String POOL_RUNNING = "Pool must still be running.";
+
+  private ISort[] parallelSorts(ExecutionContext context) {
+    return new ISort[] {
+      new QuickSortParallel(context),
+      new MergeSortParallel(context),
+      new BrickSortParallel(context),
+      new BrickSortMaxMinParallel(context)
+    };
+  }
+
+  @Test
+  @DisplayName("ExecutionContextTest.testDefaultIsCommon")
+  void testDefaultIsCommon() {
+    ExecutionContext common = ExecutionContext.common();
+    assertSame(common, new QuickSortParallel().getExecutionContext(), "Common pool expected.");
+    assertSame(common, new MergeSortParallel().getExecutionContext(), "Common pool expected.");
+    assertSame(common, new BrickSortParallel().getExecutionContext(), "Common pool expected.");
+    assertSame(ForkJoinPool.commonPool(), common.getPool(), "Common pool expected.");
+    assertFalse(common.isOwned(), "Common pool must not be owned.");
+  }
+
+  @Test
+  @DisplayName("ExecutionContextTest.testCommonSurvivesClose")
+  void testCommonSurvivesClose() {
+    ExecutionContext.common().close();
+    assertFalse(ForkJoinPool.commonPool().isShutdown(), POOL_RUNNING);
+  }
+
+  @Test
+  @DisplayName("ExecutionContextTest.testCallerPoolReused")
+  void testCallerPoolReused() {
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try (ExecutionContext context = ExecutionContext.of(pool)) {
+      for (ISort sorter : parallelSorts(context))
+        for (int i = 0; i < 3; i++)
+          assertTrue(isSorted(sorter.sort(randomArray(MYRIAD))), ARRAY_SORTED);
+      assertSame(pool, context.getPool(), "Caller pool expected.");
+    }
+    assertFalse(pool.isShutdown(), POOL_RUNNING);
+    pool.shutdown();
+  }
+
+  @Test
+  @DisplayName("ExecutionContextTest.testParallelismCap")
+  void testParallelismCap() {
+    ExecutionContext context = ExecutionContext.withParallelism(2);
+    assertEquals(2, context.getParallelism(), "Parallelism must be capped.");
+    assertTrue(context.isOwned(), "Pool must be owned.");
+    for (ISort sorter : parallelSorts(context))
+      assertTrue(isSorted(sorter.sort(randomArray(MYRIAD))), ARRAY_SORTED);
+    assertFalse(context.getPool().isShutdown(), POOL_RUNNING);
+    context.close();
+    assertTrue(context.getPool().isTerminated(), "Owned pool must be terminated.");
+  }
+
+  @Test
+  @DisplayName("ExecutionContextTest.testSameResultAsSingleWorker")
+  void testSameResultAsSingleWorker() {
+    IArray array = randomArray(TWO_SCORE << 2);
+    try (ExecutionContext single = ExecutionContext.withParallelism(1);
+        ExecutionContext many = ExecutionContext.withParallelism(4)) {
+      BrickSortMaxMinParallel first = new BrickSortMaxMinParallel(single);
+      BrickSortMaxMinParallel second = new BrickSortMaxMinParallel(many);
+      assertArrayEquals(
+          first.sort(array).get(), second.sort(array).get(), "Results must be equal.");
+      assertEquals(first.getSwapCount(), second.getSwapCount(), "Swap counts must be equal.");
+      assertEquals(
+          first.getComparisonCount(),
+          second.getComparisonCount(),
+          "Comparison counts must be equal.");
+    }
+  }
+
+  @Test
+  @DisplayName("ExecutionContextTest.testInvalidParallelism")
+  void testInvalidParallelism() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ExecutionContext.withParallelism(0),
+        "IllegalArgumentException expected.");
+  }
+
+  @Test
+  @DisplayName("ExecutionContextTest.testNullContext")
+  void testNullContext() {
+    assertThrows(
+        NullPointerException.class,
+        () -> new QuickSortParallel(null),
+        "NullPointerException expected.");
+    assertThrows(
+        NullPointerException.class,
+        () -> ExecutionContext.of(null),
+        "NullPointerException expected.");
+  }
+}
@@ -0,0 +1,169 @@
+package ds.tests;
+
+import static ds.ArrayUtils.*;
+import static ds.tests.TestConstants.*;
+import static ds.tests.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.ExecutionContext;
+import ds.ExternalSort;
+import ds.MergeSort;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("ExternalSortTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class ExternalSortTest {
+
+  private final ExecutionContext context = ExecutionContext.withParallelism(4);
+
+  @TempDir Path dir;
+
+  @AfterAll
+  void tearDown() {
+    context.close();
+  }
+
+  private Path write(String name, long[] keys) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(keys.length * Long.BYTES);
+    buffer.asLongBuffer().put(keys);
+    return Files.write(dir.resolve(name), buffer.array());
+  }
+
+  private long[] read(Path path) throws IOException {
+    byte[] bytes = Files.readAllBytes(path);
+    long[] keys = new long[bytes.length / Long.BYTES];
+    ByteBuffer.wrap(bytes).asLongBuffer().get(keys);
+    return keys;
+  }
+
+  private void assertSortsLike(long[] keys, ExternalSort sort) throws IOException {
+    Path input = write("input.bin", keys);
+    Path output = dir.resolve("output.bin");
+    ExternalSort.Report report = sort.sort(input, output);
+    long[] sorted = read(output);
+    assertTrue(isSorted(sorted), SORTED_MUST_BE_SET);
+    assertArrayEquals(sorted(keys), sorted, ELEMENTS_SORTED_EQUAL);
+    assertArrayEquals(keys, read(input), "Input must be left as is.");
+    assertEquals((long) keys.length * Long.BYTES, report.getBytes(), "Bytes must match.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 7, 64, 1000, MYRIAD, MYRIAD * TEN})
+  @DisplayName("ExternalSortTest.testChunkLengths")
+  void testChunkLengths(int chunkLength) throws IOException {
+    long[] keys = random(MYRIAD, -THOUSAND, THOUSAND);
+    assertSortsLike(keys, new ExternalSort(context, chunkLength));
+  }
+
+  @Test
+  @DisplayName("ExternalSortTest.testRuns")
+  void testRuns() throws IOException {
+    Path input = write("input.bin", random(MYRIAD + 1, -MYRIAD, MYRIAD));
+    ExternalSort.Report report =
+        new ExternalSort(context, THOUSAND).sort(input, dir.resolve("output.bin"));
+    assertEquals(TEN + 1, report.getRuns(), "Runs must match.");
+  }
+
+  @Test
+  @DisplayName("ExternalSortTest.testMultiPassMerge")
+  void testMultiPassMerge() throws IOException {
+    // more runs than are merged at once
+    assertSortsLike(random(MYRIAD * 3, -MYRIAD, MYRIAD), new ExternalSort(context, TEN));
+  }
+
+  @Test
+  @DisplayName("ExternalSortTest.testSortedAndReversed")
+  void testSortedAndReversed() throws IOException {
+    long[] keys = new long[MYRIAD];
+    for (int i = 0; i < keys.length; i++) keys[i] = i;
+    assertSortsLike(keys, new ExternalSort(context, HUNDRED));
+    for (int i = 0; i < keys.length; i++) keys[i] = keys.length - i;
+    assertSortsLike(keys, new ExternalSort(context, HUNDRED));
+  }
+
+  @Test
+  @DisplayName("ExternalSortTest.testExtremes")
+  void testExtremes() throws IOException {
+    long[] keys = {Long.MAX_VALUE, 0, Long.MIN_VALUE, -1, 1, Long.MAX_VALUE, Long.MIN_VALUE};
+    assertSortsLike(keys, new ExternalSort(context, 2));
+  }
+
+  @Test
+  @DisplayName("ExternalSortTest.testSupplier")
+  void testSupplier() throws IOException {
+    assertSortsLike(
+        random(MYRIAD, -HUNDRED, HUNDRED),
+        new ExternalSort(MergeSort::new, context, THOUSAND, dir));
+    try (Stream<Path> files = Files.list(dir)) {
+      assertEquals(2, files.count(), "Runs must be deleted.");
+    }
+  }
+
+  @Test
+  @DisplayName("ExternalSortTest.testEmpty")
+  void testEmpty() throws IOException {
+    Path output = dir.resolve("output.bin");
+    Files.write(output, new byte[] {1, 2, 3});
+    ExternalSort.Report report = new ExternalSort().sort(write("input.bin", new long[0]), output);
+    assertEquals(0, Files.size(output), "Output must be empty.");
+    assertEquals(0, report.getRuns(), "Runs must match.");
+  }
+
+  @Test
+  @DisplayName("ExternalSortTest.testReport")
+  void testReport() throws IOException {
+    Path input = write("input.bin", random(MYRIAD, -MYRIAD, MYRIAD));
+    ExternalSort.Report report =
+        new ExternalSort(context, THOUSAND).sort(input, dir.resolve("output.bin"));
+    assertTrue(report.getPhaseTime(ExternalSort.READ_PHASE) > 0, "Read must be timed.");
+    assertTrue(report.getPhaseTime(ExternalSort.WRITE_PHASE) > 0, "Write must be timed.");
+    assertTrue(report.getPhaseTime(ExternalSort.SORT_PHASE) > 0, "Sort must be timed.");
+    assertTrue(report.getPhaseTime(ExternalSort.MERGE_PHASE) > 0, "Merge must be timed.");
+    assertTrue(report.getIoThroughput() > 0, "I/O throughput must be positive.");
+    assertTrue(report.getSortThroughput() > 0, "Sort throughput must be positive.");
+    assertTrue(report.toString().contains("MB/s"), "Report must show throughput.");
+  }
+
+  @Test
+  @DisplayName("ExternalSortTest.testPartialKey")
+  void testPartialKey() throws IOException {
+    Path input = Files.write(dir.resolve("input.bin"), new byte[TEN]);
+    Path output = dir.resolve("output.bin");
+    ExternalSort sort = new ExternalSort();
+    assertThrows(IllegalArgumentException.class, () -> sort.sort(input, output));
+  }
+
+  @Test
+  @DisplayName("ExternalSortTest.testMissingInput")
+  void testMissingInput() {
+    ExternalSort sort = new ExternalSort();
+    Path output = dir.resolve("output.bin");
+    assertThrows(IOException.class, () -> sort.sort(dir.resolve("missing.bin"), output));
+  }
+
+  @Test
+  @DisplayName("ExternalSortTest.testIllegalChunkLength")
+  void testIllegalChunkLength() {
+    assertThrows(IllegalArgumentException.class, () -> new ExternalSort(context, 0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ExternalSort(context, ExternalSort.MAX_CHUNK_LENGTH + 1));
+    assertThrows(NullPointerException.class, () -> new ExternalSort(null, context, THOUSAND, null));
+  }
+}
@@ -0,0 +1,148 @@
+package ds.tests;
+
+import static ds.tests.TestConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.GrowthPolicy;
+import ds.HighArrayGrowable;
+import ds.IArray;
+import ds.OrdArrayGrowable;
+import ds.OrdArrayLockGrowable;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("GrowthPolicyTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class GrowthPolicyTest {
+
+  private static final GrowthPolicy SHRINKING =
+      GrowthPolicy.doubling().withShrinkBelow(0.25).withMinCapacity(4);
+
+  private IArray create(int kind, GrowthPolicy policy) {
+    Function<GrowthPolicy, IArray> factory =
+        kind == 0
+            ? p -> new HighArrayGrowable(1, p)
+            : kind == 1 ? p -> new OrdArrayGrowable(1, p) : p -> new OrdArrayLockGrowable(1, p);
+    return factory.apply(policy);
+  }
+
+  private int capacity(IArray array) {
+    if (array instanceof HighArrayGrowable) return ((HighArrayGrowable) array).getCapacity();
+    if (array instanceof OrdArrayLockGrowable) return ((OrdArrayLockGrowable) array).getCapacity();
+    return ((OrdArrayGrowable) array).getCapacity();
+  }
+
+  private long[] reversed(int length) {
+    return LongStream.range(0, length).map(i -> length - i).toArray();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 2})
+  @DisplayName("GrowthPolicyTest.testGrow")
+  void testGrow(int kind) {
+    IArray array = create(kind, GrowthPolicy.factor(1.5));
+    long[] values = reversed(MYRIAD);
+    for (long value : values) array.insert(value);
+    assertEquals(MYRIAD, array.count(), "Count must match.");
+    assertTrue(capacity(array) <= MYRIAD * 3 / 2 + 1, "Growth must follow the factor.");
+    if (kind != 0) Arrays.sort(values);
+    assertArrayEquals(values, array.getExtentArray(), "Elements must be kept.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 2})
+  @DisplayName("GrowthPolicyTest.testShrink")
+  void testShrink(int kind) {
+    IArray array = create(kind, SHRINKING);
+    for (long value : reversed(THOUSAND)) array.insert(value);
+    assertEquals(1024, capacity(array), "Capacity must double.");
+    for (long value = 1; value <= THOUSAND - TEN; value++)
+      assertTrue(array.delete(value), "Value must be deleted.");
+    assertTrue(capacity(array) <= 4 * TEN, "Capacity must shrink.");
+    long[] left = array.getExtentArray();
+    Arrays.sort(left);
+    assertArrayEquals(
+        LongStream.rangeClosed(THOUSAND - TEN + 1, THOUSAND).toArray(), left, "Kept elements.");
+    while (array.count() > 0) array.delete(array.get()[0]);
+    assertEquals(4, capacity(array), "Capacity must stop at the minimum.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 2})
+  @DisplayName("GrowthPolicyTest.testCeiling")
+  void testCeiling(int kind) {
+    IArray array = create(kind, GrowthPolicy.doubling().withMinCapacity(1).withMaxCapacity(TEN));
+    for (int i = 0; i < TEN; i++) array.insert(i);
+    assertEquals(TEN, capacity(array), "Capacity must stop at the ceiling.");
+    assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.insert(TEN));
+    assertEquals(TEN, array.count(), "Count must match.");
+  }
+
+  @Test
+  @DisplayName("GrowthPolicyTest.testTrimToSize")
+  void testTrimToSize() {
+    OrdArrayLockGrowable array = new OrdArrayLockGrowable(HUNDRED, GrowthPolicy.doubling());
+    for (int i = 0; i < SCORE; i++) array.syncInsert(i);
+    array.trimToSize();
+    assertEquals(SCORE, array.getCapacity(), "Capacity must match the count.");
+    array.insert(SCORE);
+    assertEquals(TWO_SCORE, array.getCapacity(), "Capacity must double again.");
+    OrdArrayLockGrowable copy = (OrdArrayLockGrowable) array.copy();
+    assertArrayEquals(array.getExtentArray(), copy.getExtentArray(), "Copy must match.");
+    assertSame(array.getGrowthPolicy(), copy.getGrowthPolicy(), "Policy must be shared.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 2})
+  @DisplayName("GrowthPolicyTest.testConcurrent")
+  void testConcurrent(int kind) throws InterruptedException {
+    IArray array = create(kind, SHRINKING);
+    ExecutorService service = Executors.newFixedThreadPool(4);
+    for (int t = 0; t < 4; t++) {
+      long from = (long) t * MYRIAD;
+      service.execute(
+          () -> {
+            for (long i = from; i < from + MYRIAD; i++) array.syncInsert(i);
+            for (long i = from; i < from + MYRIAD; i += 2) array.syncDelete(i);
+          });
+    }
+    service.shutdown();
+    assertTrue(service.awaitTermination(1, TimeUnit.MINUTES), "Updates must finish.");
+    long[] left = array.getExtentArray();
+    Arrays.sort(left);
+    assertArrayEquals(
+        LongStream.range(0, 4L * MYRIAD).filter(i -> (i & 1) == 1).toArray(),
+        left,
+        "Elements must survive concurrent growth.");
+  }
+
+  @Test
+  @DisplayName("GrowthPolicyTest.testIllegal")
+  void testIllegal() {
+    assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.factor(1));
+    assertThrows(
+        IllegalArgumentException.class, () -> GrowthPolicy.doubling().withShrinkBelow(0.5));
+    assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.doubling().withMinCapacity(0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> GrowthPolicy.doubling().withMinCapacity(TEN).withMaxCapacity(1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new HighArrayGrowable(HUNDRED, GrowthPolicy.doubling().withMaxCapacity(TEN)));
+    assertThrows(NullPointerException.class, () -> new OrdArrayGrowable(TEN, null));
+  }
+}
@@ -12,6 +12,7 @@ import ds.IArray;
 import java.util.Arrays;
 import java.util.Optional;
 import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -254,6 +255,57 @@ class HighArrayTest {
     }
   }
 
+  @Nested
+  @DisplayName("HighArrayTest.RemoveTests")
+  class RemoveTests {
+    @ParameterizedTest
+    @CsvSource(INIT_DUPLICATE_DATA)
+    @DisplayName("HighArrayTest.RemoveTests.testRemoveAll")
+    void testRemoveAll(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+      HighArray array = (HighArray) arr;
+      int modCount = getModCount(array);
+      assertEquals(6, array.removeAll(77, 11, 5), "Every occurrence must be removed.");
+      assertArrayEquals(
+          new long[] {99, 99, 44, 55, 22, 22, 88, 88, 00, 00, 00, 00, 66, 33, 33},
+          array.getExtentArray(),
+          "Order must be kept.");
+      assertEquals(modCount + 1, getModCount(array), "One modification expected.");
+      assertEquals(0, array.removeAll(), "Nothing must be removed.");
+    }
+
+    @ParameterizedTest
+    @CsvSource(INIT_DUPLICATE_DATA)
+    @DisplayName("HighArrayTest.RemoveTests.testRemoveIf")
+    void testRemoveIf(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+      HighArray array = (HighArray) arr;
+      assertEquals(9, array.syncRemoveIf(value -> value > 50), "Nine removals expected.");
+      assertArrayEquals(
+          new long[] {44, 22, 22, 11, 11, 11, 00, 00, 00, 00, 33, 33},
+          array.getExtentArray(),
+          "Order must be kept.");
+      assertEquals(0, array.get()[TWO_SCORE], "Freed slots must be cleared.");
+    }
+
+    @ParameterizedTest
+    @CsvSource(INIT_DATA)
+    @DisplayName("HighArrayTest.RemoveTests.testRemoveIfThrows")
+    void testRemoveIfThrows(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+      HighArray array = (HighArray) arr;
+      assertThrows(
+          IllegalStateException.class,
+          () ->
+              array.removeIf(
+                  value -> {
+                    if (value == 88) throw new IllegalStateException();
+                    return value == 99;
+                  }));
+      assertArrayEquals(
+          new long[] {77, 44, 55, 22, 88, 11, 00, 66, 33},
+          array.getExtentArray(),
+          "Elements tested before the failure must be removed and the rest kept.");
+    }
+  }
+
   @Nested
   @DisplayName("HighArrayTest.SyncTests")
   class SyncTests {
@@ -546,7 +598,8 @@ class HighArrayTest {
     @DisplayName("HighArrayTest.EqualsVerifierTests.equalsContract")
     void equalsContract() {
       EqualsVerifier.forClass(HighArray.class)
-          .withIgnoredFields(MOD_COUNT, LOCK, STRICT)
+          .withIgnoredFields(MOD_COUNT, LOCK, STRICT, POLICY)
+          .suppress(Warning.NONFINAL_FIELDS)
           .withRedefinedSuperclass()
           .withRedefinedSubclass(HighArrayExt.class)
           .withIgnoredAnnotations(NonNull.class)
@@ -558,7 +611,8 @@ class HighArrayTest {
     @DisplayName("HighArrayTest.EqualsVerifierTests.leafNodeEquals")
     void leafNodeEquals() {
       EqualsVerifier.forClass(HighArray.class)
-          .withIgnoredFields(MOD_COUNT, LOCK, STRICT)
+          .withIgnoredFields(MOD_COUNT, LOCK, STRICT, POLICY)
+          .suppress(Warning.NONFINAL_FIELDS)
           .withRedefinedSuperclass()
           .withRedefinedSubclass(HighArrayExt.class)
           .withIgnoredAnnotations(NonNull.class)
@@ -0,0 +1,119 @@
+package ds.tests;
+
+import static ds.tests.TestConstants.*;
+import static ds.tests.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.HighArrayUnordered;
+import ds.IArray;
+import ds.QuickSort;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("HighArrayUnorderedTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class HighArrayUnorderedTest {
+
+  private HighArrayUnordered create(int max, long... values) {
+    HighArrayUnordered array = new HighArrayUnordered(max);
+    for (long value : values) array.insert(value);
+    return array;
+  }
+
+  @Test
+  @DisplayName("HighArrayUnorderedTest.testSort")
+  void testSort() {
+    HighArrayUnordered array = create(TEN, 50, 10, 40, 20, 30);
+    IArray sorted = array.sort(new QuickSort());
+    assertArrayEquals(
+        new long[] {10, 20, 30, 40, 50}, sorted.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+    for (int i = 0; i < 5; i++)
+      assertEquals(i, sorted.findIndex(10L * (i + 1)), "Sorted slot must be found.");
+    assertTrue(sorted.delete(10), "Delete after sort must succeed.");
+    assertTrue(sorted.find(20) && sorted.find(50), "Remaining values must be found.");
+    assertFalse(sorted.find(10), "Deleted value must not be found.");
+    assertTrue(array.find(10) && array.delete(50), "Original must keep its index.");
+  }
+
+  @Test
+  @DisplayName("HighArrayUnorderedTest.testDelete")
+  void testDelete() {
+    HighArrayUnordered array = create(TEN, 10, 20, 30, 40, 50);
+    assertTrue(array.delete(20), "Delete must succeed.");
+    assertArrayEquals(
+        new long[] {10, 50, 30, 40}, array.getExtentArray(), "Last element must fill the slot.");
+    assertEquals(1, array.findIndex(50), "Moved element must be found in its new slot.");
+    assertTrue(array.delete(40), "Deleting the last element must succeed.");
+    assertFalse(array.delete(20), "Deleted value must not be found.");
+    assertEquals(-1, array.findIndex(20), "Deleted value must have no slot.");
+    assertEquals(3, array.count(), "Count must match.");
+  }
+
+  @Test
+  @DisplayName("HighArrayUnorderedTest.testDuplicates")
+  void testDuplicates() {
+    HighArrayUnordered array = create(TEN, 7, 7, 3, 7);
+    for (int i = 3; i > 0; i--) {
+      int slot = array.findIndex(7);
+      assertEquals(7, array.get()[slot], "Slot must hold the value.");
+      assertTrue(array.delete(7), "Delete must succeed.");
+      assertEquals(i - 1, Arrays.stream(array.getExtentArray()).filter(v -> v == 7).count());
+    }
+    assertFalse(array.find(7), "No occurrence must be left.");
+    assertTrue(array.find(3), "Other value must be kept.");
+  }
+
+  @Test
+  @DisplayName("HighArrayUnorderedTest.testRandom")
+  void testRandom() {
+    HighArrayUnordered array = new HighArrayUnordered(THOUSAND);
+    long[] model = new long[THOUSAND];
+    int length = 0;
+    Random random = new Random(THOUSAND);
+    for (int i = 0; i < MYRIAD * TEN; i++) {
+      // few distinct values, so probe runs mix duplicates and collisions
+      long value = random.nextInt(HUNDRED) * 0x100000000L;
+      if (random.nextBoolean() && length < THOUSAND) {
+        assertEquals(length, array.insert(value), "Insert must append.");
+        model[length++] = value;
+      } else {
+        int index = -1;
+        for (int j = 0; j < length && index < 0; j++) if (model[j] == value) index = j;
+        assertEquals(index >= 0, array.delete(value), "Delete must match.");
+        if (index >= 0) model[index] = model[--length];
+      }
+      assertEquals(length, array.count(), "Count must match.");
+    }
+    long[] expected = Arrays.copyOf(model, length);
+    Arrays.sort(expected);
+    assertArrayEquals(expected, sorted(array.getExtentArray()), "Elements must match.");
+    for (long value : expected) assertEquals(value, array.get()[array.findIndex(value)]);
+  }
+
+  @Test
+  @DisplayName("HighArrayUnorderedTest.testRemoveAndCopy")
+  void testRemoveAndCopy() {
+    long[] values = {
+      77, 77, 99, 77, 99, 44, 55, 22, 22, 88, 88, 11, 11, 11, 0, 0, 0, 0, 66, 33, 33
+    };
+    HighArrayUnordered array = create(HUNDRED, values);
+    HighArrayUnordered copy = (HighArrayUnordered) array.copy();
+    assertEquals(5, array.removeAll(77, 99), "Removals expected.");
+    assertFalse(array.find(77), "Removed value must be gone.");
+    assertTrue(array.syncDelete(88), "Index must follow the compaction.");
+    assertEquals(-1, array.findIndex(99), "Removed value must be gone.");
+    assertTrue(copy.find(99), "Copy must keep its own index.");
+    array.clear();
+    assertFalse(array.find(0), "Cleared array must find nothing.");
+    assertEquals(0, array.insert(5), "Insert after clear must work.");
+    assertTrue(array.find(5), "Inserted value must be found.");
+  }
+}
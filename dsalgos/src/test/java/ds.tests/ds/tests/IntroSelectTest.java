@@ -0,0 +1,152 @@
+package ds.tests;
+
+import static ds.tests.TestConstants.*;
+import static ds.tests.TestData.*;
+import static ds.tests.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.ExecutionContext;
+import ds.HighArray;
+import ds.IArray;
+import ds.IntroSelect;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.aggregator.AggregateWith;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("IntroSelectTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class IntroSelectTest {
+
+  private final ExecutionContext context = ExecutionContext.withParallelism(4);
+
+  @AfterAll
+  void tearDown() {
+    context.close();
+  }
+
+  private long[] pattern(int pattern, int length) {
+    long[] a = new long[length];
+    for (int i = 0; i < length; i++)
+      a[i] =
+          pattern == 0
+              ? i
+              : pattern == 1
+                  ? length - i
+                  : pattern == 2 ? 7 : pattern == 3 ? i % TEN : (i & 1) == 0 ? i : length - i;
+    return a;
+  }
+
+  private void assertSelected(long[] expected, long[] a, int rank) {
+    assertEquals(expected[rank], a[rank], "Selected element must match.");
+    for (int i = 0; i < rank; i++) assertTrue(a[i] <= a[rank], "None greater must come before.");
+    for (int i = rank + 1; i < a.length; i++)
+      assertTrue(a[i] >= a[rank], "None less must come after.");
+  }
+
+  @ParameterizedTest
+  @CsvSource(INIT_DUPLICATE_DATA)
+  @DisplayName("IntroSelectTest.testValues")
+  void testValues(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+    long[] before = arr.getExtentArray();
+    IntroSelect select = new IntroSelect(context);
+    assertArrayEquals(
+        new long[] {99, 00, 33, 00}, select.values(arr, 20, 0, 10, 3), "Values must match.");
+    assertArrayEquals(before, arr.getExtentArray(), "Array must be left as is.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, HUNDRED, Integer.MAX_VALUE})
+  @DisplayName("IntroSelectTest.testSelect")
+  void testSelect(int bound) {
+    long[] expected = sorted(random(MYRIAD * TEN, bound));
+    for (int rank : new int[] {0, 1, SCORE, MYRIAD, MYRIAD * 5, MYRIAD * TEN - 1}) {
+      long[] a = random(MYRIAD * TEN, bound);
+      assertEquals(expected[rank], IntroSelect.select(a, 0, a.length, rank), "Rank must match.");
+      assertSelected(expected, a, rank);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 2, 3, 4})
+  @DisplayName("IntroSelectTest.testPatterns")
+  void testPatterns(int pattern) {
+    long[] expected = sorted(pattern(pattern, MYRIAD));
+    for (int rank = 0; rank < MYRIAD; rank += 997) {
+      long[] a = pattern(pattern, MYRIAD);
+      IntroSelect.select(a, 0, a.length, rank);
+      assertSelected(expected, a, rank);
+    }
+  }
+
+  @Test
+  @DisplayName("IntroSelectTest.testMultiSelect")
+  void testMultiSelect() {
+    long[] a = random(MYRIAD, Integer.MAX_VALUE);
+    long[] expected = sorted(a);
+    int[] ranks = {MYRIAD - 1, 0, HUNDRED, HUNDRED, THOUSAND, MYRIAD / 2, MYRIAD / 2 + 1};
+    IntroSelect.multiSelect(a, 0, a.length, ranks);
+    for (int rank : ranks) assertSelected(expected, a, rank);
+  }
+
+  @Test
+  @DisplayName("IntroSelectTest.testSubrange")
+  void testSubrange() {
+    long[] a = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+    assertEquals(4, IntroSelect.select(a, 2, 8, 4), "Rank within the range must match.");
+    assertEquals(9, a[0], "Elements before the range must be left as is.");
+    assertEquals(0, a[9], "Elements after the range must be left as is.");
+  }
+
+  @Test
+  @DisplayName("IntroSelectTest.testQuantiles")
+  void testQuantiles() {
+    long[] a = new long[THOUSAND];
+    for (int i = 0; i < THOUSAND; i++) a[i] = THOUSAND - i;
+    assertArrayEquals(
+        new long[] {1, 500, 900, 990, 999, 1000},
+        new IntroSelect().quantiles(a, a.length, 0, 0.5, 0.9, 0.99, 0.999, 1),
+        "Quantiles must match.");
+  }
+
+  @Test
+  @DisplayName("IntroSelectTest.testParallel")
+  void testParallel() {
+    long[] a = random((1 << 20) + THOUSAND, Integer.MAX_VALUE);
+    long[] before = a.clone();
+    long[] expected = sorted(a);
+    double[] quantiles = {0, 0.5, 0.9, 0.99, 0.999, 1};
+    long[] values = new IntroSelect(context).quantiles(a, a.length, quantiles);
+    for (int i = 0; i < quantiles.length; i++)
+      assertEquals(
+          expected[Math.max(0, (int) Math.ceil(quantiles[i] * a.length) - 1)],
+          values[i],
+          "Quantile must match.");
+    assertArrayEquals(before, a, "Array must be left as is.");
+    long[] duplicates = random((1 << 20) + THOUSAND, TEN);
+    assertArrayEquals(
+        new IntroSelect().values(duplicates, duplicates.length, 0, 1 << 19, 1 << 20),
+        new IntroSelect(context).values(duplicates, duplicates.length, 0, 1 << 19, 1 << 20),
+        "Parallel values must match.");
+  }
+
+  @Test
+  @DisplayName("IntroSelectTest.testIllegal")
+  void testIllegal() {
+    long[] a = {3, 2, 1};
+    IntroSelect select = new IntroSelect();
+    assertThrows(IndexOutOfBoundsException.class, () -> IntroSelect.select(a, 0, 3, 3));
+    assertThrows(IndexOutOfBoundsException.class, () -> IntroSelect.multiSelect(a, 0, 3, 0, -1));
+    assertThrows(IllegalArgumentException.class, () -> select.quantiles(a, 3, 1.5));
+    assertThrows(IllegalArgumentException.class, () -> select.quantiles(new HighArray(1), 0.5));
+  }
+}
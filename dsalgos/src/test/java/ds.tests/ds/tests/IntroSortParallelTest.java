@@ -0,0 +1,78 @@
+package ds.tests;
+
+import static ds.tests.TestConstants.*;
+import static ds.tests.TestData.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.ExecutionContext;
+import ds.HighArray;
+import ds.IArray;
+import ds.ISort;
+import ds.IntroSortParallel;
+import ds.SortMetrics;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.aggregator.AggregateWith;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("IntroSortParallelTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class IntroSortParallelTest {
+
+  private static final int LARGE = 1 << 18;
+
+  @ParameterizedTest
+  @CsvSource(INIT_DUPLICATE_DATA)
+  @DisplayName("IntroSortParallelTest.testSortDuplicates")
+  void testSortDuplicates(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+    long[] a = {00, 00, 00, 00, 11, 11, 11, 22, 22, 33, 33, 44, 55, 66, 77, 77, 77, 88, 88, 99, 99};
+    ISort sorter = new IntroSortParallel();
+    IArray sorted = sorter.sort(arr);
+    assertArrayEquals(a, sorted.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 1000, Integer.MAX_VALUE})
+  @DisplayName("IntroSortParallelTest.testSortParallel")
+  void testSortParallel(int bound) {
+    HighArray high = new HighArray(LARGE);
+    Random random = new Random();
+    for (int i = 0; i < LARGE; i++) high.insert(random.nextInt(bound));
+    long[] expected = high.getExtentArray();
+    Arrays.sort(expected);
+    try (ExecutionContext context = ExecutionContext.withParallelism(4)) {
+      IntroSortParallel sorter = new IntroSortParallel(context);
+      sorter.setMetrics(SortMetrics.full());
+      IArray sorted = sorter.sort(high);
+      assertArrayEquals(expected, sorted.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+      assertTrue(sorter.getComparisonCount() > 0, "Comparison count must be positive.");
+      assertTrue(
+          sorter.getMetrics().getPhaseTimes().containsKey("partition"),
+          "Partition phase expected.");
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 2})
+  @DisplayName("IntroSortParallelTest.testSortPatternsParallel")
+  void testSortPatternsParallel(int pattern) {
+    HighArray high = new HighArray(LARGE);
+    for (int i = 0; i < LARGE; i++)
+      high.insert(pattern == 0 ? LARGE - i : pattern == 1 ? i % TWO_SCORE : i ^ 0x5555);
+    long[] expected = high.getExtentArray();
+    Arrays.sort(expected);
+    try (ExecutionContext context = ExecutionContext.withParallelism(4)) {
+      IArray sorted = new IntroSortParallel(context).sort(high);
+      assertArrayEquals(expected, sorted.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package ds.tests;
+
+import static ds.ArrayUtils.*;
+import static ds.tests.TestConstants.*;
+import static ds.tests.TestData.*;
+import static ds.tests.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.HighArray;
+import ds.IArray;
+import ds.ISort;
+import ds.IntroSort;
+import java.util.Random;
+import java.util.function.IntToLongFunction;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.aggregator.AggregateWith;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("IntroSortTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class IntroSortTest {
+
+  private static final int SIZE = MYRIAD * TEN;
+
+  private IArray fill(int size, IntToLongFunction value) {
+    HighArray high = new HighArray(size);
+    for (int i = 0; i < size; i++) high.insert(value.applyAsLong(i));
+    return high;
+  }
+
+  /** Sorts and checks the comparisons stay within {@code factor * n * log2(n)}. */
+  private void assertLinearithmic(IArray array, int factor) {
+    ISort sorter = new IntroSort();
+    IArray sorted = sorter.sort(array);
+    assertSortedLike(array, sorted);
+    int n = array.count();
+    long bound = (long) factor * n * (Integer.SIZE - Integer.numberOfLeadingZeros(n));
+    assertTrue(sorter.getComparisonCount() <= bound, "Comparisons must be O(n log n).");
+  }
+
+  @ParameterizedTest
+  @CsvSource(INIT_DATA)
+  @DisplayName("IntroSortTest.testSort")
+  void testSort(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+    long[] a = {00, 11, 22, 33, 44, 55, 66, 77, 88, 99};
+    ISort sorter = new IntroSort();
+    IArray sorted = sorter.sort(arr);
+    assertArrayEquals(a, sorted.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+  }
+
+  @ParameterizedTest
+  @CsvSource(INIT_DUPLICATE_DATA)
+  @DisplayName("IntroSortTest.testSortDuplicates")
+  void testSortDuplicates(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+    long[] a = {00, 00, 00, 00, 11, 11, 11, 22, 22, 33, 33, 44, 55, 66, 77, 77, 77, 88, 88, 99, 99};
+    ISort sorter = new IntroSort();
+    IArray sorted = sorter.sort(arr);
+    assertArrayEquals(a, sorted.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+  }
+
+  @Test
+  @DisplayName("IntroSortTest.testSortRandom")
+  void testSortRandom() {
+    HighArray high = new HighArray(SIZE);
+    Random random = new Random();
+    try (LongStream stream = random.longs().limit(SIZE)) {
+      stream.forEach(i -> high.insert(i));
+    }
+    assertLinearithmic(high, 2);
+  }
+
+  @Test
+  @DisplayName("IntroSortTest.testSortPatterns")
+  void testSortPatterns() {
+    assertLinearithmic(fill(SIZE, i -> SIZE - i), 2);
+    assertLinearithmic(fill(SIZE, i -> i < SIZE >> 1 ? i : SIZE - i), 2);
+    assertLinearithmic(fill(SIZE, i -> i % HUNDRED), 2);
+    assertLinearithmic(fill(SIZE, i -> i & 1), 2);
+    assertLinearithmic(fill(SIZE, i -> (i & 1) == 0 ? i : SIZE - i), 2);
+    assertLinearithmic(fill(SIZE, i -> Long.rotateLeft(i, 40) ^ (SIZE - i)), 2);
+  }
+
+  @Test
+  @DisplayName("IntroSortTest.testSortedIsLinear")
+  void testSortedIsLinear() {
+    ISort sorter = new IntroSort();
+    IArray sorted = sorter.sort(fill(SIZE, i -> i));
+    assertTrue(isSorted(sorted), "Elements are sorted.");
+    assertTrue(sorter.getComparisonCount() < SIZE << 2, "Sorted input must take linear time.");
+    sorter.sort(fill(SIZE, i -> SCORE));
+    assertTrue(sorter.getComparisonCount() < SIZE << 2, "Equal keys must take linear time.");
+  }
+
+  @Test
+  @DisplayName("IntroSortTest.testSortSmall")
+  void testSortSmall() {
+    ISort sorter = new IntroSort();
+    for (int size = 1; size < HUNDRED; size++) {
+      Random random = new Random(size);
+      IArray array = fill(size, i -> random.nextInt(TEN));
+      assertSortedLike(array, sorter.sort(array));
+    }
+  }
+
+  @Test
+  @DisplayName("IntroSortTest.testResetCounts")
+  void testResetCounts() {
+    ISort sorter = new IntroSort();
+    IArray array = fill(MYRIAD, i -> MYRIAD - i);
+    sorter.sort(array);
+    int comparisons = sorter.getComparisonCount();
+    sorter.sort(array);
+    assertEquals(comparisons, sorter.getComparisonCount(), "Counts must be reset per sort.");
+  }
+}
@@ -0,0 +1,83 @@
+package ds.tests;
+
+import static ds.tests.TestConstants.*;
+import static ds.tests.TestData.*;
+import static ds.tests.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.HighArray;
+import ds.IArray;
+import ds.LazySort;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.aggregator.AggregateWith;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("LazySortTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class LazySortTest {
+
+  @ParameterizedTest
+  @CsvSource(INIT_DUPLICATE_DATA)
+  @DisplayName("LazySortTest.testIterate")
+  void testIterate(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+    long[] before = arr.getExtentArray();
+    long[] a = {00, 00, 00, 00, 11, 11, 11, 22, 22, 33, 33, 44, 55, 66, 77, 77, 77, 88, 88, 99, 99};
+    LazySort iterator = new LazySort(arr);
+    for (long expected : a) {
+      assertTrue(iterator.hasNext(), "Elements must be left.");
+      assertEquals(expected, iterator.nextLong(), "Elements must come in order.");
+    }
+    assertFalse(iterator.hasNext(), "No element must be left.");
+    assertThrows(NoSuchElementException.class, iterator::nextLong);
+    assertArrayEquals(before, arr.getExtentArray(), "Array must be left as is.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, HUNDRED, Integer.MAX_VALUE})
+  @DisplayName("LazySortTest.testStream")
+  void testStream(int bound) {
+    long[] a = random(MYRIAD * TEN, bound);
+    assertArrayEquals(sorted(a), LazySort.stream(a, a.length).toArray(), ELEMENTS_SORTED_EQUAL);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 2, 3})
+  @DisplayName("LazySortTest.testPatterns")
+  void testPatterns(int pattern) {
+    long[] a = new long[MYRIAD];
+    for (int i = 0; i < MYRIAD; i++)
+      a[i] = pattern == 0 ? i : pattern == 1 ? MYRIAD - i : pattern == 2 ? 7 : i % TEN;
+    assertArrayEquals(sorted(a), LazySort.stream(a, a.length).toArray(), ELEMENTS_SORTED_EQUAL);
+  }
+
+  @Test
+  @DisplayName("LazySortTest.testFirstPage")
+  void testFirstPage() {
+    long[] a = random(MYRIAD * TEN, Integer.MAX_VALUE);
+    long[] page = LazySort.stream(a, a.length).limit(SCORE).toArray();
+    assertArrayEquals(Arrays.copyOf(sorted(a), SCORE), page, "First page must match.");
+    LazySort iterator = new LazySort(a, a.length);
+    for (int i = 0; i < SCORE; i++) iterator.nextLong();
+    assertEquals(a.length - SCORE, iterator.remaining(), "Remaining must match.");
+  }
+
+  @Test
+  @DisplayName("LazySortTest.testPrefix")
+  void testPrefix() {
+    long[] a = {5, 4, 3, 2, 1};
+    assertArrayEquals(new long[] {3, 4, 5}, LazySort.stream(a, 3).toArray(), "Prefix only.");
+    assertEquals(0, LazySort.stream(new HighArray(1)).count(), "Stream must be empty.");
+    assertThrows(IllegalArgumentException.class, () -> new LazySort(a, TEN));
+  }
+}
@@ -77,6 +77,16 @@ class MathUtilsTest {
     assertThrows(IllegalArgumentException.class, () -> computeOddPairCount(-1), EXCEPTION_EXPECTED);
   }
 
+  @Test
+  @DisplayName("MathUtilsTest.testMidpoint")
+  void testMidpoint() {
+    assertEquals(1_000_000_124.0, midpoint(1_000_000_123, 1_000_000_125), "Exact mean expected.");
+    assertEquals(-0.5, midpoint(Long.MIN_VALUE, Long.MAX_VALUE), "No overflow expected.");
+    assertEquals(
+        (double) Long.MAX_VALUE, midpoint(Long.MAX_VALUE, Long.MAX_VALUE), "No overflow expected.");
+    assertEquals(-1.5, midpoint(-1, -2), "Mean expected.");
+  }
+
   @Test
   @DisplayName("MathUtilsTest.testZero")
   void testZero() {
@@ -6,11 +6,14 @@ import static ds.tests.TestData.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import ds.AbstractSort;
+import ds.ExecutionContext;
 import ds.HighArray;
 import ds.IArray;
 import ds.ISort;
 import ds.MergeSortParallel;
+import ds.MergeSortParallel.Mode;
 import ds.OrdArray;
+import java.util.Arrays;
 import java.util.Random;
 import java.util.stream.LongStream;
 import org.junit.jupiter.api.DisplayName;
@@ -250,6 +253,69 @@ class MergeSortParallelTest implements SortProvider {
         "Negative length will throw exception.");
   }
 
+  @ParameterizedTest
+  @CsvSource(INIT_DUPLICATE_DATA)
+  @DisplayName("MergeSortParallelTest.testSortDuplicatesBuffered")
+  void testSortDuplicatesBuffered(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+    long[] a = {00, 00, 00, 00, 11, 11, 11, 22, 22, 33, 33, 44, 55, 66, 77, 77, 77, 88, 88, 99, 99};
+    ISort sorter = new MergeSortParallel(ExecutionContext.common(), Mode.BUFFERED);
+    IArray sorted = sorter.sort(arr);
+    assertArrayEquals(a, sorted.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+  }
+
+  @Test
+  @DisplayName("MergeSortParallelTest.testSortRandomBuffered")
+  void testSortRandomBuffered() {
+    Random random = new Random();
+    HighArray high = new HighArray(MYRIAD);
+    try (LongStream stream = random.longs(MYRIAD)) {
+      stream.forEach(i -> high.insert(i));
+    }
+    MergeSortParallel sorter = new MergeSortParallel(ExecutionContext.common(), Mode.BUFFERED);
+    IArray sorted = sorter.sort(high);
+    assertTrue(isSorted(sorted), "Array must be sorted.");
+    assertEquals(Mode.BUFFERED, sorter.getMode(), "Buffered mode expected.");
+    assertTrue(sorter.getComparisonCount() > 0, "Comparison count must be positive.");
+    assertTrue(sorter.getCopyCount() >= MYRIAD, "Copy count must cover the buffer copy.");
+  }
+
+  @Test
+  @DisplayName("MergeSortParallelTest.testSortLargeBufferedParallel")
+  void testSortLargeBufferedParallel() {
+    int size = MYRIAD * TEN * 3;
+    Random random = new Random();
+    HighArray high = new HighArray(size);
+    for (int i = 0; i < size; i++) high.insert(random.nextInt(size >> 4));
+    long[] expected = high.getExtentArray();
+    Arrays.sort(expected);
+    try (ExecutionContext context = ExecutionContext.withParallelism(4)) {
+      ISort sorter = new MergeSortParallel(context, Mode.BUFFERED);
+      IArray sorted = sorter.sort(high);
+      assertArrayEquals(expected, sorted.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+    }
+  }
+
+  @Test
+  @DisplayName("MergeSortParallelTest.testSortSortedBuffered")
+  void testSortSortedBuffered() {
+    HighArray high = new HighArray(MYRIAD);
+    for (int i = 0; i < MYRIAD; i++) high.insert(i);
+    ISort sorter = new MergeSortParallel(ExecutionContext.common(), Mode.BUFFERED);
+    IArray sorted = sorter.sort(high);
+    assertTrue(isSorted(sorted), "Array must be sorted.");
+    assertTrue(
+        sorter.getComparisonCount() < MYRIAD << 1, "Sorted runs must be detected without merging.");
+  }
+
+  @Test
+  @DisplayName("MergeSortParallelTest.testNullMode")
+  void testNullMode() {
+    assertThrows(
+        NullPointerException.class,
+        () -> new MergeSortParallel(ExecutionContext.common(), null),
+        "NullPointerException expected.");
+  }
+
   static class MergeSortSimple extends MergeSortParallel {
     public void sortArray(long[] a, int length) {
       sort(a, length);
@@ -13,6 +13,7 @@ import java.util.Optional;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -191,6 +192,36 @@ class OrdArrayLockTest {
     }
   }
 
+  @Nested
+  @DisplayName("OrdArrayLockTest.InsertAllTests")
+  class InsertAllTests {
+    @ParameterizedTest
+    @CsvSource(INIT_DATA)
+    @DisplayName("OrdArrayLockTest.InsertAllTests.testSyncInsertAll")
+    void testSyncInsertAll(@AggregateWith(OrdArrayLockArgumentsAggregator.class) IArray arr) {
+      OrdArrayLock array = (OrdArrayLock) arr;
+      assertEquals(3, array.syncInsertAll(66L, 5L, 100L), "Count must match.");
+      assertEquals(13, array.syncInsertAll(arr.copy()), "Count must match.");
+      assertEquals(26, arr.count(), "Count must match.");
+      assertTrue(isSorted(arr), SORTED_MUST_BE_SET);
+    }
+  }
+
+  @Nested
+  @DisplayName("OrdArrayLockTest.RemoveTests")
+  class RemoveTests {
+    @ParameterizedTest
+    @CsvSource(INIT_DATA)
+    @DisplayName("OrdArrayLockTest.RemoveTests.testSyncRemove")
+    void testSyncRemove(@AggregateWith(OrdArrayLockArgumentsAggregator.class) IArray arr) {
+      OrdArrayLock array = (OrdArrayLock) arr;
+      assertEquals(2, array.syncRemoveAll(11, 99), "Two removals expected.");
+      assertEquals(3, array.syncRemoveIf(value -> value < 40), "Three removals expected.");
+      assertArrayEquals(
+          new long[] {44, 55, 66, 77, 88}, arr.getExtentArray(), "Rest must be kept.");
+    }
+  }
+
   @Nested
   @DisplayName("OrdArrayLockTest.DeleteTests")
   class DeleteTests {
@@ -339,7 +370,8 @@ class OrdArrayLockTest {
     @DisplayName("OrdArrayLockTest.EqualsVerifierTests.equalsContract")
     void equalsContract() {
       EqualsVerifier.forClass(OrdArrayLock.class)
-          .withIgnoredFields(MOD_COUNT, LOCK, STRICT, WRITE)
+          .withIgnoredFields(MOD_COUNT, LOCK, STRICT, POLICY, WRITE)
+          .suppress(Warning.NONFINAL_FIELDS)
           .withRedefinedSuperclass()
           .withRedefinedSubclass(OrdArrayLockExt.class)
           .withPrefabValues(
@@ -355,7 +387,8 @@ class OrdArrayLockTest {
     @DisplayName("OrdArrayLockTest.EqualsVerifierTests.leafNodeEquals")
     void leafNodeEquals() {
       EqualsVerifier.forClass(OrdArrayLock.class)
-          .withIgnoredFields(MOD_COUNT, LOCK, STRICT, WRITE)
+          .withIgnoredFields(MOD_COUNT, LOCK, STRICT, POLICY, WRITE)
+          .suppress(Warning.NONFINAL_FIELDS)
           .withRedefinedSuperclass()
           .withRedefinedSubclass(OrdArrayLockExt.class)
           .withPrefabValues(
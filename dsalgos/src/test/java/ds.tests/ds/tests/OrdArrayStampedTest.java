@@ -0,0 +1,100 @@
+package ds.tests;
+
+import static ds.ArrayUtils.*;
+import static ds.tests.TestConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.OrdArrayStamped;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("OrdArrayStampedTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class OrdArrayStampedTest {
+
+  private OrdArrayStamped create(long... values) {
+    OrdArrayStamped array = new OrdArrayStamped(THOUSAND);
+    for (long value : values) array.syncInsert(value);
+    return array;
+  }
+
+  @Test
+  @DisplayName("OrdArrayStampedTest.testFind")
+  void testFind() {
+    OrdArrayStamped array = create(77, 99, 44, 55, 22, 88, 11, 00, 66, 33);
+    assertTrue(array.syncFind(55), "Element must be found.");
+    assertEquals(5, array.syncFindIndex(55), "Index must match.");
+    assertEquals(-3, array.syncFindIndex(15), "Insertion point must match.");
+    assertTrue(array.syncDelete(55), "Delete must succeed.");
+    assertFalse(array.syncFind(55), "Deleted element must not be found.");
+    assertTrue(isSorted(array), SORTED_MUST_BE_SET);
+  }
+
+  @Test
+  @DisplayName("OrdArrayStampedTest.testRangeScan")
+  void testRangeScan() {
+    OrdArrayStamped array = create(77, 99, 44, 55, 22, 88, 11, 00, 66, 33, 44);
+    assertArrayEquals(new long[] {33, 44, 44, 55}, array.rangeScan(30, 66), "Range expected.");
+    assertArrayEquals(new long[] {0, 11}, array.rangeScan(Long.MIN_VALUE, 12), "Head expected.");
+    assertArrayEquals(new long[] {99}, array.rangeScan(99, Long.MAX_VALUE), "Tail expected.");
+    assertEquals(0, array.rangeScan(45, 55).length, "Gap must be empty.");
+    assertEquals(0, array.rangeScan(66, 30).length, "Reversed range must be empty.");
+  }
+
+  @Test
+  @DisplayName("OrdArrayStampedTest.testBulk")
+  void testBulk() {
+    OrdArrayStamped array = create(5, 1, 3);
+    assertEquals(3, array.syncInsertAll(4, 2, 6), "Batch expected.");
+    assertEquals(3, array.syncRemoveIf(value -> (value & 1) == 0), "Evens must go.");
+    assertEquals(1, array.syncRemoveAll(3), "One removal expected.");
+    assertArrayEquals(new long[] {1, 5}, array.getExtentArray(), "Rest must be kept.");
+  }
+
+  @Test
+  @DisplayName("OrdArrayStampedTest.testConcurrent")
+  void testConcurrent() throws Exception {
+    OrdArrayStamped array = new OrdArrayStamped(THOUSAND);
+    // odd keys stay while writers churn the even ones between them
+    for (long i = 1; i < HUNDRED * 2; i += 2) array.syncInsert(i);
+    AtomicBoolean done = new AtomicBoolean();
+    AtomicInteger failures = new AtomicInteger();
+    ExecutorService service = Executors.newFixedThreadPool(4);
+    Future<?> writer =
+        service.submit(
+            () -> {
+              for (int round = 0; round < THOUSAND; round++) {
+                for (long i = 0; i < HUNDRED * 2; i += 2) array.syncInsert(i);
+                for (long i = 0; i < HUNDRED * 2; i += 2) array.syncDelete(i);
+              }
+              done.set(true);
+            });
+    for (int r = 0; r < 3; r++)
+      service.execute(
+          () -> {
+            while (!done.get()) {
+              for (long i = 1; i < HUNDRED * 2; i += 2)
+                if (!array.syncFind(i)) failures.incrementAndGet();
+              long[] range = array.rangeScan(TEN, HUNDRED);
+              if (!isSorted(range) || range.length < 45) failures.incrementAndGet();
+            }
+          });
+    writer.get(1, TimeUnit.MINUTES);
+    service.shutdown();
+    assertTrue(service.awaitTermination(1, TimeUnit.MINUTES), "Readers must finish.");
+    assertEquals(0, failures.get(), "Reads must be consistent.");
+    assertEquals(HUNDRED, array.count(), "Odd keys must be left.");
+  }
+}
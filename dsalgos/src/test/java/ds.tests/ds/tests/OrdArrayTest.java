@@ -8,11 +8,16 @@ import static org.joor.Reflect.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import ds.BubbleSort;
+import ds.HighArray;
 import ds.IArray;
 import ds.OrdArray;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.Random;
+import java.util.stream.LongStream;
 import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -146,6 +151,94 @@ class OrdArrayTest {
     }
   }
 
+  @Nested
+  @DisplayName("OrdArrayTest.InsertAllTests")
+  class InsertAllTests {
+    @ParameterizedTest
+    @CsvSource(INIT_DUPLICATE_DATA)
+    @DisplayName("OrdArrayTest.InsertAllTests.testInsertAll")
+    void testInsertAll(@AggregateWith(OrdArrayArgumentsAggregator.class) IArray arr) {
+      long[] batch = {50, 0, 99, 100, -1, 33, 50};
+      long[] expected = Arrays.copyOf(arr.getExtentArray(), arr.count() + batch.length);
+      System.arraycopy(batch, 0, expected, arr.count(), batch.length);
+      Arrays.sort(expected);
+      assertEquals(batch.length, ((OrdArray) arr).insertAll(batch), "Count must match.");
+      assertArrayEquals(expected, arr.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+      assertEquals(7, batch.length, "Batch must be left as is.");
+      assertEquals(50, batch[0], "Batch must be left as is.");
+    }
+
+    @ParameterizedTest
+    @CsvSource(INIT_DATA)
+    @DisplayName("OrdArrayTest.InsertAllTests.testInsertAllSorter")
+    void testInsertAllSorter(@AggregateWith(OrdArrayArgumentsAggregator.class) IArray arr) {
+      OrdArray ordArray = (OrdArray) arr;
+      ordArray.insertAll(new BubbleSort(), 5, 95, 45);
+      ordArray.insertAll(new HighArray(1));
+      ordArray.insertAll(arr.copy());
+      assertEquals(26, arr.count(), "Count must match.");
+      assertTrue(isSorted(arr), SORTED_MUST_BE_SET);
+    }
+
+    @ParameterizedTest
+    @CsvSource(INIT_EXCEPTION_DATA)
+    @DisplayName("OrdArrayTest.InsertAllTests.testInsertAllOverflow")
+    void testInsertAllOverflow(@AggregateWith(OrdArrayArgumentsAggregator.class) IArray arr) {
+      long[] before = arr.getExtentArray();
+      assertThrows(
+          ArrayIndexOutOfBoundsException.class, () -> ((OrdArray) arr).syncInsertAll(1L, 2L));
+      assertArrayEquals(before, arr.getExtentArray(), "Array must be left as is.");
+    }
+
+    @Test
+    @DisplayName("OrdArrayTest.InsertAllTests.testInsertAllLarge")
+    void testInsertAllLarge() {
+      OrdArray ordArray = new OrdArray(MYRIAD * TEN);
+      Random random = new Random(MYRIAD);
+      for (int batch = 0; batch < TEN; batch++) ordArray.insertAll(random.longs(MYRIAD).toArray());
+      assertEquals(MYRIAD * TEN, ordArray.count(), "Count must match.");
+      assertTrue(isSorted(ordArray), SORTED_MUST_BE_SET);
+    }
+  }
+
+  @Nested
+  @DisplayName("OrdArrayTest.RemoveTests")
+  class RemoveTests {
+    @ParameterizedTest
+    @CsvSource(INIT_DUPLICATE_DATA)
+    @DisplayName("OrdArrayTest.RemoveTests.testRemoveAll")
+    void testRemoveAll(@AggregateWith(OrdArrayArgumentsAggregator.class) IArray arr) {
+      OrdArray array = (OrdArray) arr;
+      assertEquals(9, array.syncRemoveAll(0, 77, 33, 100, 77), "Every occurrence must go.");
+      assertArrayEquals(
+          new long[] {11, 11, 11, 22, 22, 44, 55, 66, 88, 88, 99, 99},
+          array.getExtentArray(),
+          ELEMENTS_SORTED_EQUAL);
+    }
+
+    @ParameterizedTest
+    @CsvSource(INIT_DATA)
+    @DisplayName("OrdArrayTest.RemoveTests.testRemoveIf")
+    void testRemoveIf(@AggregateWith(OrdArrayArgumentsAggregator.class) IArray arr) {
+      OrdArray array = (OrdArray) arr;
+      assertEquals(5, array.removeIf(value -> (value & 1) == 1), "Odd values must go.");
+      assertArrayEquals(new long[] {0, 22, 44, 66, 88}, array.getExtentArray(), "Evens kept.");
+      assertEquals(0, array.insert(-2), "Insert must still work.");
+    }
+
+    @Test
+    @DisplayName("OrdArrayTest.RemoveTests.testRemoveAllLarge")
+    void testRemoveAllLarge() {
+      OrdArray array = new OrdArray(MYRIAD * TEN);
+      array.insertAll(LongStream.range(0, MYRIAD * TEN).toArray());
+      long[] odd = LongStream.range(0, MYRIAD * TEN / 2).map(i -> 2 * i + 1).toArray();
+      assertEquals(MYRIAD * TEN / 2, array.removeAll(odd), "Half must be removed.");
+      assertEquals(MYRIAD * TEN / 2, array.count(), "Count must match.");
+      assertFalse(array.find(1), "Odd values must be gone.");
+      assertTrue(array.find(2), "Even values must be kept.");
+    }
+  }
+
   @Nested
   @DisplayName("OrdArrayTest.DeleteTests")
   class DeleteTests {
@@ -644,7 +737,8 @@ class OrdArrayTest {
     @DisplayName("OrdArrayTest.EqualsVerifierTests.equalsContract")
     void equalsContract() {
       EqualsVerifier.forClass(OrdArray.class)
-          .withIgnoredFields(MOD_COUNT, LOCK, STRICT)
+          .withIgnoredFields(MOD_COUNT, LOCK, STRICT, POLICY)
+          .suppress(Warning.NONFINAL_FIELDS)
           .withRedefinedSuperclass()
           .withRedefinedSubclass(OrdArrayExt.class)
           .withIgnoredAnnotations(NonNull.class)
@@ -656,7 +750,8 @@ class OrdArrayTest {
     @DisplayName("OrdArrayTest.EqualsVerifierTests.leafNodeEquals")
     void leafNodeEquals() {
       EqualsVerifier.forClass(OrdArray.class)
-          .withIgnoredFields(MOD_COUNT, LOCK, STRICT)
+          .withIgnoredFields(MOD_COUNT, LOCK, STRICT, POLICY)
+          .suppress(Warning.NONFINAL_FIELDS)
           .withRedefinedSuperclass()
           .withRedefinedSubclass(OrdArrayExt.class)
           .withIgnoredAnnotations(NonNull.class)
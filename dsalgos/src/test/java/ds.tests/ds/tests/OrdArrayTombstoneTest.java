@@ -0,0 +1,123 @@
+package ds.tests;
+
+import static ds.ArrayUtils.*;
+import static ds.tests.TestConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.IntroSort;
+import ds.OrdArrayTombstone;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("OrdArrayTombstoneTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class OrdArrayTombstoneTest {
+
+  private OrdArrayTombstone create(double ratio, long... values) {
+    OrdArrayTombstone array = new OrdArrayTombstone(HUNDRED, false, ratio);
+    for (long value : values) array.insert(value);
+    return array;
+  }
+
+  @Test
+  @DisplayName("OrdArrayTombstoneTest.testDelete")
+  void testDelete() {
+    OrdArrayTombstone array = create(0.5, 10, 20, 20, 30, 40);
+    assertTrue(array.delete(20), "Delete must succeed.");
+    assertEquals(1, array.getDeadCount(), "Slot must be marked.");
+    assertEquals(4, array.count(), "Count must skip the tombstone.");
+    assertTrue(array.find(20), "Other duplicate must be found.");
+    assertTrue(array.delete(20), "Second duplicate must be deleted.");
+    assertFalse(array.find(20), "Deleted value must not be found.");
+    assertFalse(array.delete(20), "Deleted value must not be deleted again.");
+    assertTrue(array.findIndex(20) < 0, "Deleted value must have no index.");
+    assertArrayEquals(new long[] {10, 30, 40}, array.getExtentArray(), "Live elements expected.");
+  }
+
+  @Test
+  @DisplayName("OrdArrayTombstoneTest.testCompaction")
+  void testCompaction() {
+    OrdArrayTombstone array = create(0.25, 1, 2, 3, 4, 5, 6, 7, 8);
+    array.delete(1);
+    array.delete(2);
+    assertEquals(2, array.getDeadCount(), "Two tombstones expected.");
+    array.delete(3);
+    assertEquals(0, array.getDeadCount(), "Compaction past the threshold expected.");
+    assertArrayEquals(new long[] {4, 5, 6, 7, 8}, array.getExtentArray(), "Live elements.");
+    array.delete(8);
+    assertEquals(4, array.count(), "Count must match.");
+    array.get();
+    assertEquals(0, array.getDeadCount(), "Get must compact.");
+    assertArrayEquals(new long[] {4, 5, 6, 7}, Arrays.copyOf(array.get(), 4), "Get compacts.");
+  }
+
+  @Test
+  @DisplayName("OrdArrayTombstoneTest.testInsert")
+  void testInsert() {
+    OrdArrayTombstone array = new OrdArrayTombstone(5, false, 0.9);
+    for (long value : new long[] {40, 10, 30, 20}) array.insert(value);
+    array.delete(30);
+    array.insert(25);
+    assertEquals(1, array.getDeadCount(), "Tombstone must stay while there is room.");
+    array.insert(35);
+    assertEquals(0, array.getDeadCount(), "A full array must compact.");
+    assertFalse(array.find(30), "Tombstone must not come back.");
+    assertArrayEquals(new long[] {10, 20, 25, 35, 40}, array.getExtentArray(), "Live elements.");
+    array.delete(40);
+    assertEquals(1, array.insertAll(5), "Batch expected.");
+    assertArrayEquals(new long[] {5, 10, 20, 25, 35}, array.getExtentArray(), "Merged.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {0, 0.1, 0.5, 0.9})
+  @DisplayName("OrdArrayTombstoneTest.testRandom")
+  void testRandom(double ratio) {
+    OrdArrayTombstone array = new OrdArrayTombstone(THOUSAND, false, ratio);
+    TreeMap<Long, Integer> expected = new TreeMap<>();
+    Random random = new Random(THOUSAND);
+    for (int i = 0; i < MYRIAD * TEN; i++) {
+      long value = random.nextInt(HUNDRED);
+      if (random.nextBoolean() && array.count() < THOUSAND) {
+        array.insert(value);
+        expected.merge(value, 1, Integer::sum);
+      } else {
+        boolean present = expected.containsKey(value);
+        assertEquals(present, array.delete(value), "Delete must match.");
+        if (present) expected.computeIfPresent(value, (k, n) -> n == 1 ? null : n - 1);
+      }
+    }
+    long[] values =
+        expected.entrySet().stream()
+            .flatMapToLong(e -> LongStream.generate(e::getKey).limit(e.getValue()))
+            .toArray();
+    assertArrayEquals(values, array.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+    assertEquals(values.length, array.count(), "Count must match.");
+    assertTrue(isSorted(array.sort(new IntroSort())), SORTED_MUST_BE_SET);
+  }
+
+  @Test
+  @DisplayName("OrdArrayTombstoneTest.testBulk")
+  void testBulk() {
+    OrdArrayTombstone array = create(0.9, 1, 2, 3, 4, 5, 6);
+    array.delete(2);
+    assertEquals(2, array.removeAll(1, 2, 3), "Tombstone must not count.");
+    assertEquals(1, array.removeIf(value -> value == 6), "One removal expected.");
+    assertArrayEquals(new long[] {4, 5}, array.copy().getExtentArray(), "Copy must match.");
+    array.delete(4);
+    array.clear();
+    assertEquals(0, array.count(), "Array must be empty.");
+    assertThrows(IllegalArgumentException.class, () -> new OrdArrayTombstone(TEN, false, 1));
+  }
+}
@@ -0,0 +1,153 @@
+package ds.tests;
+
+import static ds.tests.TestConstants.*;
+import static ds.tests.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.QuantileSketch;
+import ds.QuantileSketchConcurrent;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("QuantileSketchTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class QuantileSketchTest {
+
+  private static final double[] QUANTILES = {0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999};
+
+  /** Asserts the rank of every quantile is within the error bound, allowing for ties. */
+  private void assertAccurate(long[] sorted, QuantileSketch sketch) {
+    double error = sketch.getNormalizedRankError() * sorted.length;
+    for (double q : QUANTILES) {
+      long value = sketch.quantile(q);
+      int low = lowerBound(sorted, value);
+      int high = lowerBound(sorted, value + 1);
+      double target = q * sorted.length;
+      assertTrue(
+          target >= low - error && target <= high + error,
+          () -> "Quantile " + q + " off: " + value + " in [" + low + ", " + high + ")");
+    }
+  }
+
+  private static int lowerBound(long[] a, long value) {
+    int i = Arrays.binarySearch(a, value);
+    if (i < 0) return -i - 1;
+    while (i > 0 && a[i - 1] == value) --i;
+    return i;
+  }
+
+  @Test
+  @DisplayName("QuantileSketchTest.testExactMedianLarge")
+  void testExactMedianLarge() {
+    QuantileSketch sketch = new QuantileSketch();
+    sketch.update(1_000_000_125);
+    sketch.update(1_000_000_123);
+    assertEquals(1_000_000_124.0, sketch.median(), "Median must be exact.");
+  }
+
+  @Test
+  @DisplayName("QuantileSketchTest.testExact")
+  void testExact() {
+    QuantileSketch sketch = new QuantileSketch();
+    for (long value : new long[] {5, 1, 4, 2, 3, 6}) sketch.update(value);
+    assertTrue(sketch.isExact(), "Small sketch must be exact.");
+    assertEquals(3.5, sketch.median(), "Median must match.");
+    assertArrayEquals(
+        new long[] {1, 3, 6, 6}, sketch.quantiles(0, 0.5, 0.99, 1), "Quantiles must match.");
+    assertEquals(0.5, sketch.rank(3), "Rank must match.");
+    assertEquals(1, sketch.min(), "Min must match.");
+    assertEquals(6, sketch.max(), "Max must match.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, THOUSAND, Integer.MAX_VALUE})
+  @DisplayName("QuantileSketchTest.testAccuracy")
+  void testAccuracy(int bound) {
+    long[] a = random(MYRIAD * HUNDRED, bound);
+    QuantileSketch sketch = new QuantileSketch();
+    for (long value : a) sketch.update(value);
+    Arrays.sort(a);
+    assertFalse(sketch.isExact(), "Large sketch must not be exact.");
+    assertEquals(a.length, sketch.count(), "Count must match.");
+    assertTrue(sketch.getRetained() < 4 * sketch.getK(), "Memory must stay bounded.");
+    assertEquals(a[0], sketch.quantile(0), "Min must match.");
+    assertEquals(a[a.length - 1], sketch.quantile(1), "Max must match.");
+    assertAccurate(a, sketch);
+  }
+
+  @Test
+  @DisplayName("QuantileSketchTest.testSorted")
+  void testSorted() {
+    QuantileSketch sketch = new QuantileSketch(HUNDRED);
+    long[] a = new long[MYRIAD * HUNDRED];
+    for (int i = 0; i < a.length; i++) {
+      a[i] = i;
+      sketch.update(i);
+    }
+    assertAccurate(a, sketch);
+    assertEquals(0.5, sketch.rank(a.length / 2), sketch.getNormalizedRankError(), "Rank match.");
+  }
+
+  @Test
+  @DisplayName("QuantileSketchTest.testMerge")
+  void testMerge() {
+    long[] a = random(MYRIAD * TEN * 3, Integer.MAX_VALUE);
+    QuantileSketch merged = new QuantileSketch();
+    for (int part = 0; part < 3; part++) {
+      QuantileSketch sketch = new QuantileSketch();
+      for (int i = part * MYRIAD * TEN; i < (part + 1) * MYRIAD * TEN; i++) sketch.update(a[i]);
+      merged.merge(sketch);
+    }
+    QuantileSketch copy = new QuantileSketch(merged);
+    copy.merge(copy);
+    Arrays.sort(a);
+    assertEquals(a.length, merged.count(), "Count must match.");
+    assertEquals(2L * a.length, copy.count(), "Self merge must double the count.");
+    assertAccurate(a, merged);
+  }
+
+  @Test
+  @DisplayName("QuantileSketchTest.testConcurrent")
+  void testConcurrent() throws InterruptedException {
+    long[] a = random(MYRIAD * HUNDRED, Integer.MAX_VALUE);
+    QuantileSketchConcurrent sketch = new QuantileSketchConcurrent();
+    ExecutorService service = Executors.newFixedThreadPool(4);
+    int chunk = a.length / TEN;
+    for (int c = 0; c < TEN; c++) {
+      int from = c * chunk;
+      service.execute(
+          () -> {
+            for (int i = from; i < from + chunk; i++) sketch.update(a[i]);
+          });
+    }
+    service.shutdown();
+    assertTrue(service.awaitTermination(1, TimeUnit.MINUTES), "Updates must finish.");
+    Arrays.sort(a);
+    assertEquals(a.length, sketch.count(), "Count must match.");
+    assertAccurate(a, sketch.snapshot());
+  }
+
+  @Test
+  @DisplayName("QuantileSketchTest.testIllegal")
+  void testIllegal() {
+    QuantileSketch sketch = new QuantileSketch();
+    assertThrows(IllegalStateException.class, () -> sketch.quantile(0.5));
+    assertThrows(IllegalStateException.class, sketch::median);
+    sketch.update(1);
+    assertThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5));
+    assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(1));
+    assertThrows(IllegalArgumentException.class, () -> new QuantileSketchConcurrent(0));
+  }
+}
@@ -57,10 +57,18 @@ class QuickSelectMedianTest {
     long[] arr = {23, 21, 20, 18, 17, 16, 0, 10, 9, 10};
     QuickSelectMedian median = new QuickSelectMedian(arr.clone());
     Arrays.sort(arr);
-    double expected = 0.5f * (arr[4] + arr[5]);
+    double expected = 0.5 * (arr[4] + arr[5]);
     assertEquals(expected, median.find(), () -> expected + EXPECTED);
   }
 
+  @Test
+  @DisplayName("QuickSelectMedianTest.testMedianLarge")
+  void testMedianLarge() {
+    // beyond the 24 bit float mantissa
+    QuickSelectMedian median = new QuickSelectMedian(1_000_000_125, 1_000_000_123);
+    assertEquals(1_000_000_124.0, median.find(), () -> 1_000_000_124 + EXPECTED);
+  }
+
   @Test
   @DisplayName("QuickSelectMedianTest.testMedianOdd")
   void testMedianOdd() {
@@ -78,7 +86,7 @@ class QuickSelectMedianTest {
     for (int i = 0; i < 10_000; i++) arr[i] = random.nextInt();
     QuickSelectMedian median = new QuickSelectMedian(arr.clone());
     Arrays.sort(arr);
-    double medianVal = 0.5f * (arr[4999] + arr[5000]);
+    double medianVal = 0.5 * (arr[4999] + arr[5000]);
     assertEquals(medianVal, median.find(), () -> medianVal + EXPECTED);
   }
 
@@ -0,0 +1,140 @@
+package ds.tests;
+
+import static ds.ArrayUtils.*;
+import static ds.tests.TestConstants.*;
+import static ds.tests.TestData.*;
+import static ds.tests.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.ExecutionContext;
+import ds.HighArray;
+import ds.IArray;
+import ds.ISort;
+import ds.QuickSortDualPivotParallel;
+import ds.SortMetrics;
+import java.util.Random;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.aggregator.AggregateWith;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("QuickSortDualPivotParallelTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class QuickSortDualPivotParallelTest {
+
+  private static final int LARGE = 1 << 18;
+
+  @ParameterizedTest
+  @CsvSource(INIT_DATA)
+  @DisplayName("QuickSortDualPivotParallelTest.testSort")
+  void testSort(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+    long[] a = {00, 11, 22, 33, 44, 55, 66, 77, 88, 99};
+    ISort sorter = new QuickSortDualPivotParallel();
+    IArray sorted = sorter.sort(arr);
+    assertArrayEquals(a, sorted.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+  }
+
+  @ParameterizedTest
+  @CsvSource(INIT_DUPLICATE_DATA)
+  @DisplayName("QuickSortDualPivotParallelTest.testSortDuplicates")
+  void testSortDuplicates(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+    long[] a = {00, 00, 00, 00, 11, 11, 11, 22, 22, 33, 33, 44, 55, 66, 77, 77, 77, 88, 88, 99, 99};
+    ISort sorter = new QuickSortDualPivotParallel();
+    IArray sorted = sorter.sort(arr);
+    assertArrayEquals(a, sorted.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+  }
+
+  @Test
+  @DisplayName("QuickSortDualPivotParallelTest.testSortRandom")
+  void testSortRandom() {
+    HighArray high = new HighArray(MYRIAD);
+    Random random = new Random();
+    try (LongStream stream = random.longs().limit(MYRIAD)) {
+      stream.forEach(i -> high.insert(i));
+    }
+    ISort sorter = new QuickSortDualPivotParallel();
+    IArray sorted = sorter.sort(high);
+    assertSortedLike(high, sorted);
+    assertTrue(sorter.getComparisonCount() > 0, "Comparison count must be positive.");
+    assertTrue(sorter.getSwapCount() > 0, "Swap count must be positive.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 16, 1024})
+  @DisplayName("QuickSortDualPivotParallelTest.testSortFewUnique")
+  void testSortFewUnique(int unique) {
+    HighArray high = new HighArray(MYRIAD);
+    Random random = new Random();
+    for (int i = 0; i < MYRIAD; i++) high.insert(random.nextInt(unique));
+    IArray sorted = new QuickSortDualPivotParallel().sort(high);
+    assertSortedLike(high, sorted);
+  }
+
+  @Test
+  @DisplayName("QuickSortDualPivotParallelTest.testSortPatterns")
+  void testSortPatterns() {
+    HighArray ascending = new HighArray(MYRIAD);
+    HighArray descending = new HighArray(MYRIAD);
+    HighArray organPipe = new HighArray(MYRIAD);
+    for (int i = 0; i < MYRIAD; i++) {
+      ascending.insert(i);
+      descending.insert(MYRIAD - i);
+      organPipe.insert(i < MYRIAD >> 1 ? i : MYRIAD - i);
+    }
+    ISort sorter = new QuickSortDualPivotParallel();
+    assertSortedLike(ascending, sorter.sort(ascending));
+    assertSortedLike(descending, sorter.sort(descending));
+    assertSortedLike(organPipe, sorter.sort(organPipe));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 100, Integer.MAX_VALUE})
+  @DisplayName("QuickSortDualPivotParallelTest.testSortParallel")
+  void testSortParallel(int bound) {
+    HighArray high = new HighArray(LARGE);
+    Random random = new Random();
+    for (int i = 0; i < LARGE; i++) high.insert(random.nextInt(bound) - (bound >> 1));
+    try (ExecutionContext context = ExecutionContext.withParallelism(4)) {
+      QuickSortDualPivotParallel sorter = new QuickSortDualPivotParallel(context);
+      sorter.setMetrics(SortMetrics.full());
+      IArray sorted = sorter.sort(high);
+      assertSortedLike(high, sorted);
+      assertTrue(
+          sorter.getMetrics().getPhaseTimes().containsKey("partition"),
+          "Partition phase expected.");
+    }
+  }
+
+  @Test
+  @DisplayName("QuickSortDualPivotParallelTest.testRepeatedSortsReset")
+  void testRepeatedSortsReset() {
+    HighArray high = new HighArray(MYRIAD);
+    Random random = new Random();
+    for (int i = 0; i < MYRIAD; i++) high.insert(random.nextLong());
+    ISort sorter = new QuickSortDualPivotParallel();
+    sorter.sort(high);
+    int comparisons = sorter.getComparisonCount();
+    sorter.sort(high);
+    assertEquals(comparisons, sorter.getComparisonCount(), "Counts must be reset per sort.");
+  }
+
+  @Test
+  @DisplayName("QuickSortDualPivotParallelTest.testSortEmptyAndSingle")
+  void testSortEmptyAndSingle() {
+    ISort sorter = new QuickSortDualPivotParallel();
+    assertTrue(isSorted(sorter.sort(new HighArray(TEN))), "Empty array is sorted.");
+    HighArray one = new HighArray(TEN);
+    one.insert(TEN);
+    assertTrue(isSorted(sorter.sort(one)), "Single element array is sorted.");
+    assertEquals(0, sorter.getComparisonCount(), INITIAL_VALUE_ZERO);
+  }
+}
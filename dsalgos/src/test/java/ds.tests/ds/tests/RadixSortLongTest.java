@@ -0,0 +1,159 @@
+package ds.tests;
+
+import static ds.ArrayUtils.*;
+import static ds.tests.TestConstants.*;
+import static ds.tests.TestData.*;
+import static ds.tests.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.ExecutionContext;
+import ds.HighArray;
+import ds.IArray;
+import ds.ISort;
+import ds.RadixSortLong;
+import ds.SortMetrics;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.aggregator.AggregateWith;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("RadixSortLongTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class RadixSortLongTest {
+
+  private static final int LARGE = 1 << 18;
+
+  @ParameterizedTest
+  @CsvSource(INIT_DATA)
+  @DisplayName("RadixSortLongTest.testSort")
+  void testSort(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+    long[] a = {00, 11, 22, 33, 44, 55, 66, 77, 88, 99};
+    ISort sorter = new RadixSortLong();
+    IArray sorted = sorter.sort(arr);
+    assertArrayEquals(a, sorted.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+  }
+
+  @ParameterizedTest
+  @CsvSource(INIT_DUPLICATE_DATA)
+  @DisplayName("RadixSortLongTest.testSortDuplicates")
+  void testSortDuplicates(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+    long[] a = {00, 00, 00, 00, 11, 11, 11, 22, 22, 33, 33, 44, 55, 66, 77, 77, 77, 88, 88, 99, 99};
+    ISort sorter = new RadixSortLong();
+    IArray sorted = sorter.sort(arr);
+    assertArrayEquals(a, sorted.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 8, 11, 16})
+  @DisplayName("RadixSortLongTest.testSortRandomDigits")
+  void testSortRandomDigits(int digitBits) {
+    HighArray high = randomArray(MYRIAD);
+    IArray sorted = new RadixSortLong(digitBits).sort(high);
+    assertSortedLike(high, sorted);
+  }
+
+  @Test
+  @DisplayName("RadixSortLongTest.testSortNegativesAndExtremes")
+  void testSortNegativesAndExtremes() {
+    long[] values = {
+      5, -1, Long.MIN_VALUE, 0, Long.MAX_VALUE, -5, 1, Long.MIN_VALUE + 1, Long.MAX_VALUE - 1, -1
+    };
+    HighArray high = new HighArray(values.length);
+    for (long value : values) high.insert(value);
+    IArray sorted = new RadixSortLong().sort(high);
+    assertSortedLike(high, sorted);
+  }
+
+  @Test
+  @DisplayName("RadixSortLongTest.testSkipsSharedDigits")
+  void testSkipsSharedDigits() {
+    HighArray high = new HighArray(MYRIAD);
+    for (int i = MYRIAD - 1; i >= 0; i--) high.insert(i & 0xFF);
+    RadixSortLong sorter = new RadixSortLong();
+    IArray sorted = sorter.sort(high);
+    assertSortedLike(high, sorted);
+    assertEquals(1, sorter.getMetrics().getOuterLoopCount(), "Only one digit pass expected.");
+  }
+
+  @Test
+  @DisplayName("RadixSortLongTest.testAllEqual")
+  void testAllEqual() {
+    HighArray high = new HighArray(HUNDRED);
+    for (int i = 0; i < HUNDRED; i++) high.insert(-SCORE);
+    RadixSortLong sorter = new RadixSortLong();
+    IArray sorted = sorter.sort(high);
+    assertSortedLike(high, sorted);
+    assertEquals(0, sorter.getCopyCount(), "No pass expected.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {8, 11})
+  @DisplayName("RadixSortLongTest.testSortParallel")
+  void testSortParallel(int digitBits) {
+    HighArray high = randomArray(LARGE);
+    try (ExecutionContext context = ExecutionContext.withParallelism(4)) {
+      RadixSortLong sorter = new RadixSortLong(digitBits, context);
+      sorter.setMetrics(SortMetrics.full());
+      IArray sorted = sorter.sort(high);
+      assertSortedLike(high, sorted);
+      assertTrue(
+          sorter.getMetrics().getPhaseTimes().containsKey("scatter"), "Scatter phase expected.");
+    }
+  }
+
+  @Test
+  @DisplayName("RadixSortLongTest.testSortParallelFewUnique")
+  void testSortParallelFewUnique() {
+    HighArray high = new HighArray(LARGE);
+    Random random = new Random();
+    for (int i = 0; i < LARGE; i++) high.insert(random.nextInt(TEN) - 5L);
+    try (ExecutionContext context = ExecutionContext.withParallelism(3)) {
+      IArray sorted = new RadixSortLong(RadixSortLong.DEFAULT_DIGIT_BITS, context).sort(high);
+      assertSortedLike(high, sorted);
+    }
+  }
+
+  @Test
+  @DisplayName("RadixSortLongTest.testCounts")
+  void testCounts() {
+    HighArray high = randomArray(MYRIAD);
+    RadixSortLong sorter = new RadixSortLong();
+    IArray sorted = sorter.sort(high);
+    assertTrue(isSorted(sorted), "Elements are sorted.");
+    assertEquals(0, sorter.getComparisonCount(), "Radix sort does not compare.");
+    assertEquals(6 * MYRIAD, sorter.getCopyCount(), "Copy count.");
+    assertEquals(7 * MYRIAD, sorter.getTimeComplexity(), "Time complexity.");
+  }
+
+  @Test
+  @DisplayName("RadixSortLongTest.testInvalidDigitBits")
+  void testInvalidDigitBits() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new RadixSortLong(0),
+        "IllegalArgumentException expected.");
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new RadixSortLong(17),
+        "IllegalArgumentException expected.");
+  }
+
+  @Test
+  @DisplayName("RadixSortLongTest.testEmptyAndSingle")
+  void testEmptyAndSingle() {
+    ISort sorter = new RadixSortLong();
+    assertEquals(0, sorter.sort(new HighArray(TEN)).count(), "Empty array expected.");
+    HighArray one = new HighArray(TEN);
+    one.insert(-TEN);
+    assertArrayEquals(new long[] {-TEN}, sorter.sort(one).getExtentArray(), ELEMENTS_SORTED_EQUAL);
+  }
+}
@@ -0,0 +1,74 @@
+package ds.tests;
+
+import static ds.tests.TestConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.RunningMedian;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("RunningMedianTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class RunningMedianTest {
+
+  private double median(long[] a, int from, int to) {
+    long[] window = Arrays.copyOfRange(a, from, to);
+    Arrays.sort(window);
+    int middle = window.length >> 1;
+    return (window.length & 1) == 1
+        ? window[middle]
+        : ((double) window[middle - 1] + window[middle]) / 2;
+  }
+
+  @ParameterizedTest
+  @CsvSource({"1, 100", "2, 100", "3, 2", "20, 10", "100, 2147483647", "1000, 1000"})
+  @DisplayName("RunningMedianTest.testSliding")
+  void testSliding(int window, int bound) {
+    Random random = new Random(window + bound);
+    long[] a = new long[MYRIAD];
+    RunningMedian median = new RunningMedian(window);
+    for (int i = 0; i < MYRIAD; i++) {
+      a[i] = random.nextInt(bound) - (bound >> 1);
+      median.add(a[i]);
+      int from = Math.max(0, i + 1 - window);
+      assertEquals(median(a, from, i + 1), median.median(), "Median must match.");
+      assertEquals(Math.min(i + 1, window), median.size(), "Size must match.");
+    }
+  }
+
+  @Test
+  @DisplayName("RunningMedianTest.testLowerMedian")
+  void testLowerMedian() {
+    RunningMedian median = new RunningMedian(4);
+    for (long value : new long[] {9, 1, 5, 3}) median.add(value);
+    assertEquals(4.0, median.median(), "Median must match.");
+    assertEquals(3, median.lowerMedian(), "Lower median must match.");
+    RunningMedian extremes = new RunningMedian(2);
+    extremes.add(Long.MAX_VALUE);
+    extremes.add(Long.MAX_VALUE);
+    assertEquals((double) Long.MAX_VALUE, extremes.median(), "Median must not overflow.");
+    median.clear();
+    assertTrue(median.isEmpty(), "Window must be empty.");
+    median.add(7);
+    assertEquals(7.0, median.median(), "Median must match after clear.");
+  }
+
+  @Test
+  @DisplayName("RunningMedianTest.testIllegal")
+  void testIllegal() {
+    assertThrows(IllegalArgumentException.class, () -> new RunningMedian(0));
+    RunningMedian median = new RunningMedian(TEN);
+    assertThrows(IllegalStateException.class, median::median);
+    assertThrows(IllegalStateException.class, median::lowerMedian);
+  }
+}
@@ -0,0 +1,141 @@
+package ds.tests;
+
+import static ds.tests.TestConstants.*;
+import static ds.tests.TestData.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.ExecutionContext;
+import ds.HighArray;
+import ds.IArray;
+import ds.ISort;
+import ds.SampleSort;
+import ds.SortMetrics;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntToLongFunction;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.aggregator.AggregateWith;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("SampleSortTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class SampleSortTest {
+
+  private static final int LARGE = 1 << 18;
+
+  private final ExecutionContext context = ExecutionContext.withParallelism(4);
+
+  @AfterAll
+  void tearDown() {
+    context.close();
+  }
+
+  private void assertSorts(int length, IntToLongFunction value, ISort sorter) {
+    HighArray high = new HighArray(length);
+    for (int i = 0; i < length; i++) high.insert(value.applyAsLong(i));
+    long[] expected = high.getExtentArray();
+    Arrays.sort(expected);
+    IArray sorted = sorter.sort(high);
+    assertArrayEquals(expected, sorted.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+  }
+
+  @ParameterizedTest
+  @CsvSource(INIT_DATA)
+  @DisplayName("SampleSortTest.testSort")
+  void testSort(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+    long[] a = {00, 11, 22, 33, 44, 55, 66, 77, 88, 99};
+    IArray sorted = new SampleSort().sort(arr);
+    assertArrayEquals(a, sorted.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+  }
+
+  @ParameterizedTest
+  @CsvSource(INIT_DUPLICATE_DATA)
+  @DisplayName("SampleSortTest.testSortDuplicates")
+  void testSortDuplicates(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+    long[] a = {00, 00, 00, 00, 11, 11, 11, 22, 22, 33, 33, 44, 55, 66, 77, 77, 77, 88, 88, 99, 99};
+    IArray sorted = new SampleSort().sort(arr);
+    assertArrayEquals(a, sorted.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, TEN, 1000, Integer.MAX_VALUE})
+  @DisplayName("SampleSortTest.testSortParallel")
+  void testSortParallel(int bound) {
+    Random random = new Random(bound);
+    SampleSort sorter = new SampleSort(context);
+    sorter.setMetrics(SortMetrics.full());
+    assertSorts(LARGE, i -> random.nextInt(bound), sorter);
+    assertTrue(sorter.getComparisonCount() > 0, "Comparison count must be positive.");
+    assertTrue(
+        sorter
+            .getMetrics()
+            .getPhaseTimes()
+            .keySet()
+            .containsAll(List.of("classify", "scatter", "buckets")),
+        "Sample sort phases expected.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 2, 3})
+  @DisplayName("SampleSortTest.testSortPatterns")
+  void testSortPatterns(int pattern) {
+    assertSorts(
+        LARGE,
+        i ->
+            pattern == 0
+                ? LARGE - i
+                : pattern == 1 ? i % TWO_SCORE : pattern == 2 ? i ^ 0x5555 : (long) i << 40,
+        new SampleSort(context));
+  }
+
+  @Test
+  @DisplayName("SampleSortTest.testSortExtremes")
+  void testSortExtremes() {
+    long[] values = {Long.MIN_VALUE, Long.MAX_VALUE, 0, -1};
+    assertSorts(LARGE, i -> values[i & 3], new SampleSort(context));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 16})
+  @DisplayName("SampleSortTest.testSortParallelism")
+  void testSortParallelism(int parallelism) {
+    Random random = new Random(parallelism);
+    try (ExecutionContext workers = ExecutionContext.withParallelism(parallelism)) {
+      assertSorts(LARGE + 1, i -> random.nextLong(), new SampleSort(workers));
+    }
+  }
+
+  @Test
+  @DisplayName("SampleSortTest.testSortSmall")
+  void testSortSmall() {
+    Random random = new Random(SCORE);
+    SampleSort sorter = new SampleSort(context);
+    assertSorts(MYRIAD, i -> random.nextInt(HUNDRED), sorter);
+    assertTrue(sorter.getComparisonCount() > 0, "Comparison count must be positive.");
+  }
+
+  @Test
+  @DisplayName("SampleSortTest.testSortEmpty")
+  void testSortEmpty() {
+    IArray sorted = new SampleSort(context).sort(new HighArray(1));
+    assertEquals(0, sorted.count(), "Sorted must be empty.");
+    assertSorts(1, i -> i, new SampleSort(context));
+  }
+
+  @Test
+  @DisplayName("SampleSortTest.testNullContext")
+  void testNullContext() {
+    assertThrows(NullPointerException.class, () -> new SampleSort(null));
+  }
+}
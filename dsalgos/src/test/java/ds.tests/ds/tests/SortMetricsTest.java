@@ -0,0 +1,156 @@
+package ds.tests;
+
+import static ds.ArrayUtils.isSorted;
+import static ds.tests.TestConstants.*;
+import static ds.tests.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.AbstractSort;
+import ds.HeapSort;
+import ds.HighArray;
+import ds.IArray;
+import ds.MergeSortParallel;
+import ds.QuickSort;
+import ds.QuickSortParallel;
+import ds.SortMetrics;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("SortMetricsTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class SortMetricsTest {
+
+  private static final String COUNTS_EQUAL = "Counts must be equal.";
+  private static final String ARRAY_SORTED = "Array must be sorted.";
+
+  @Test
+  @DisplayName("SortMetricsTest.testDefaultIsLocal")
+  void testDefaultIsLocal() {
+    AbstractSort sorter = new HeapSort();
+    SortMetrics metrics = sorter.getMetrics();
+    assertTrue(metrics.isEnabled(), "Metrics must be enabled.");
+    assertFalse(metrics.isTimed(), "Metrics must not be timed.");
+  }
+
+  @Test
+  @DisplayName("SortMetricsTest.testLocalMatchesGetters")
+  void testLocalMatchesGetters() {
+    AbstractSort sorter = new QuickSort();
+    IArray sorted = sorter.sort(randomArray(MYRIAD));
+    SortMetrics metrics = sorter.getMetrics();
+    assertTrue(isSorted(sorted), ARRAY_SORTED);
+    assertNotEquals(0, metrics.getComparisonCount(), "Comparison count must not be zero.");
+    assertEquals(sorter.getComparisonCount(), metrics.getComparisonCount(), COUNTS_EQUAL);
+    assertEquals(sorter.getSwapCount(), metrics.getSwapCount(), COUNTS_EQUAL);
+    assertEquals(sorter.getTimeComplexity(), metrics.getInnerLoopCount(), COUNTS_EQUAL);
+  }
+
+  @Test
+  @DisplayName("SortMetricsTest.testLocalParallelMatchesGetters")
+  void testLocalParallelMatchesGetters() {
+    AbstractSort sorter = new QuickSortParallel();
+    IArray sorted = sorter.sort(randomArray(MYRIAD));
+    SortMetrics metrics = sorter.getMetrics();
+    assertTrue(isSorted(sorted), ARRAY_SORTED);
+    assertNotEquals(0, metrics.getComparisonCount(), "Comparison count must not be zero.");
+    assertEquals(sorter.getComparisonCount(), metrics.getComparisonCount(), COUNTS_EQUAL);
+    assertEquals(sorter.getSwapCount(), metrics.getSwapCount(), COUNTS_EQUAL);
+  }
+
+  @Test
+  @DisplayName("SortMetricsTest.testLocalCountsAfterRepeatedSorts")
+  void testLocalCountsAfterRepeatedSorts() {
+    AbstractSort sorter = new MergeSortParallel();
+    IArray high = new HighArray(MYRIAD);
+    LongStream.rangeClosed(1, MYRIAD).forEach(i -> high.insert(i));
+    sorter.sort(high);
+    sorter.sort(high);
+    assertEquals(MYRIAD - 1, sorter.getMetrics().getComparisonCount(), "Counts must be reset.");
+  }
+
+  @Test
+  @DisplayName("SortMetricsTest.testDisabled")
+  void testDisabled() {
+    AbstractSort sorter = new QuickSortParallel();
+    sorter.setMetrics(SortMetrics.disabled());
+    IArray sorted = sorter.sort(randomArray(MYRIAD));
+    assertTrue(isSorted(sorted), ARRAY_SORTED);
+    assertEquals(0, sorter.getComparisonCount(), INITIAL_VALUE_ZERO);
+    assertEquals(0, sorter.getSwapCount(), INITIAL_VALUE_ZERO);
+    assertEquals(0, sorter.getTimeComplexity(), INITIAL_VALUE_ZERO);
+    assertTrue(sorter.getMetrics().getPhaseTimes().isEmpty(), "No phases expected.");
+  }
+
+  @Test
+  @DisplayName("SortMetricsTest.testDisabledSequential")
+  void testDisabledSequential() {
+    AbstractSort sorter = new HeapSort();
+    sorter.setMetrics(SortMetrics.disabled());
+    IArray sorted = sorter.sort(randomArray(HUNDRED));
+    assertTrue(isSorted(sorted), ARRAY_SORTED);
+    assertEquals(0, sorter.getComparisonCount(), INITIAL_VALUE_ZERO);
+    assertEquals(0, sorter.getSwapCount(), INITIAL_VALUE_ZERO);
+    assertEquals(0, sorter.getMetrics().getComparisonCount(), INITIAL_VALUE_ZERO);
+  }
+
+  @Test
+  @DisplayName("SortMetricsTest.testFullPhases")
+  void testFullPhases() {
+    AbstractSort sorter = new QuickSortParallel();
+    sorter.setMetrics(SortMetrics.full());
+    sorter.sort(randomArray(MYRIAD));
+    SortMetrics metrics = sorter.getMetrics();
+    assertTrue(metrics.isTimed(), "Metrics must be timed.");
+    assertTrue(metrics.getPhaseTimes().containsKey("sort"), "Sort phase expected.");
+    assertTrue(metrics.getPhaseTimes().containsKey("partition"), "Partition phase expected.");
+    assertEquals(sorter.getComparisonCount(), metrics.getComparisonCount(), COUNTS_EQUAL);
+  }
+
+  @Test
+  @DisplayName("SortMetricsTest.testSixtyFourBitCounts")
+  void testSixtyFourBitCounts() {
+    SortMetrics metrics = SortMetrics.local();
+    long big = (long) Integer.MAX_VALUE + 1;
+    metrics.add(big, big, big, big, big);
+    metrics.add(big, 0, 0, 0, 0);
+    assertEquals(big << 1, metrics.getComparisonCount(), "Count must not overflow.");
+    assertEquals(big, metrics.getSwapCount(), "Count must not overflow.");
+    metrics.reset();
+    assertEquals(0, metrics.getComparisonCount(), INITIAL_VALUE_ZERO);
+  }
+
+  @Test
+  @DisplayName("SortMetricsTest.testSaturatedGetters")
+  void testSaturatedGetters() {
+    OverflowSort sorter = new OverflowSort();
+    sorter.overflow();
+    assertEquals(Integer.MAX_VALUE, sorter.getComparisonCount(), "Count must saturate.");
+    assertEquals(Integer.MAX_VALUE, sorter.getTimeComplexity(), "Count must saturate.");
+  }
+
+  @Test
+  @DisplayName("SortMetricsTest.testNullMetrics")
+  void testNullMetrics() {
+    AbstractSort sorter = new HeapSort();
+    assertThrows(
+        NullPointerException.class, () -> sorter.setMetrics(null), "Null metrics rejected.");
+  }
+
+  static final class OverflowSort extends AbstractSort {
+    @Override
+    protected void sort(long[] a, int length) {
+      // nothing to sort
+    }
+
+    void overflow() {
+      comparisonCount = innerLoopCount = Long.MAX_VALUE;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package ds.tests;
+
+import static ds.tests.TestConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.SortingNetwork;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("SortingNetworkTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class SortingNetworkTest {
+
+  private static final int EXHAUSTIVE_LENGTH = 16;
+
+  private static boolean isSorted(long[] a, int from, int to) {
+    for (int i = from + 1; i < to; i++) if (a[i - 1] > a[i]) return false;
+    return true;
+  }
+
+  @Test
+  @DisplayName("SortingNetworkTest.testZeroOnePrinciple")
+  void testZeroOnePrinciple() {
+    // a network sorting every sequence of zeros and ones sorts every sequence
+    for (int n = 0; n <= EXHAUSTIVE_LENGTH; n++) {
+      long[] a = new long[n];
+      for (int bits = 0; bits < 1 << n; bits++) {
+        for (int i = 0; i < n; i++) a[i] = bits >>> i & 1;
+        SortingNetwork.sort(a, 0, n);
+        assertTrue(isSorted(a, 0, n), "Zero-one input must be sorted, length " + n);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("SortingNetworkTest.testSortRandom")
+  void testSortRandom() {
+    Random random = new Random(SortingNetwork.MAX_LENGTH);
+    for (int n = 0; n <= SortingNetwork.MAX_LENGTH; n++) {
+      for (int round = 0; round < THOUSAND; round++) {
+        long[] a = random.longs(n + 2).toArray();
+        long[] expected = a.clone();
+        Arrays.sort(expected, 1, n + 1);
+        SortingNetwork.sort(a, 1, n + 1);
+        assertArrayEquals(expected, a, "Only the range must be sorted, length " + n);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("SortingNetworkTest.testSortDuplicates")
+  void testSortDuplicates() {
+    Random random = new Random(TEN);
+    for (int round = 0; round < THOUSAND; round++) {
+      long[] a = random.longs(SortingNetwork.MAX_LENGTH, -2, 2).toArray();
+      long[] expected = a.clone();
+      Arrays.sort(expected);
+      SortingNetwork.sort(a, 0, a.length);
+      assertArrayEquals(expected, a, ELEMENTS_SORTED_EQUAL);
+    }
+  }
+
+  @Test
+  @DisplayName("SortingNetworkTest.testSizeAndDepth")
+  void testSizeAndDepth() {
+    // odd-even merge sort is optimal in size up to eight elements
+    int[] optimal = {0, 0, 1, 3, 5, 9, 12, 16, 19};
+    for (int n = 0; n < optimal.length; n++)
+      assertEquals(optimal[n], SortingNetwork.size(n), "Optimal size expected, length " + n);
+    assertEquals(63, SortingNetwork.size(16), "Batcher size expected.");
+    assertEquals(10, SortingNetwork.depth(16), "Batcher depth expected.");
+    assertEquals(191, SortingNetwork.size(32), "Batcher size expected.");
+    assertEquals(15, SortingNetwork.depth(32), "Batcher depth expected.");
+    long[] a = new long[SortingNetwork.MAX_LENGTH];
+    assertEquals(191, SortingNetwork.sort(a, 0, a.length), "Every comparator is applied.");
+  }
+
+  @Test
+  @DisplayName("SortingNetworkTest.testComparatorsCopy")
+  void testComparatorsCopy() {
+    int[] comparators = SortingNetwork.comparators(4);
+    assertEquals(SortingNetwork.size(4) << 1, comparators.length, "Two indices per comparator.");
+    comparators[0] = -1;
+    assertNotEquals(-1, SortingNetwork.comparators(4)[0], "Network must not be modifiable.");
+    for (int i = 0; i < comparators.length; i += 2)
+      assertTrue(i == 0 || comparators[i] < comparators[i + 1], "Lower index must come first.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {-1, SortingNetwork.MAX_LENGTH + 1, Integer.MAX_VALUE})
+  @DisplayName("SortingNetworkTest.testIllegalLength")
+  void testIllegalLength(int length) {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> SortingNetwork.size(length),
+        "IllegalArgumentException expected.");
+  }
+}
@@ -0,0 +1,166 @@
+package ds.tests;
+
+import static ds.tests.TestConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.ColumnTable;
+import ds.ExecutionContext;
+import ds.TableSort;
+import ds.TableSort.Key;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("TableSortTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class TableSortTest {
+
+  private static final int LARGE = 1 << 17;
+
+  private final ExecutionContext context = ExecutionContext.withParallelism(4);
+
+  private long[] longs;
+  private int[] ints;
+  private double[] doubles;
+  private long[] rowIds;
+
+  @AfterAll
+  void tearDown() {
+    context.close();
+  }
+
+  /** Columns: 0 long in [-bound, bound), 1 int in [-bound, bound), 2 double, 3 the row id. */
+  private ColumnTable table(int rows, int bound) {
+    Random random = new Random(rows + bound);
+    longs = new long[rows];
+    ints = new int[rows];
+    doubles = new double[rows];
+    rowIds = new long[rows];
+    for (int i = 0; i < rows; i++) {
+      longs[i] = random.nextInt(bound << 1) - bound + (random.nextBoolean() ? 0 : Long.MIN_VALUE);
+      ints[i] = random.nextInt(bound << 1) - bound;
+      doubles[i] = (random.nextInt(bound << 1) - bound) / 4.0;
+      rowIds[i] = i;
+    }
+    ColumnTable table = new ColumnTable(rows);
+    table.addColumn(longs);
+    table.addColumn(ints);
+    table.addColumn(doubles);
+    table.addColumn(rowIds);
+    return table;
+  }
+
+  /** The stable permutation by boxing, for columns long, int and double. */
+  private int[] expected(Comparator<Integer> order) {
+    return IntStream.range(0, longs.length)
+        .boxed()
+        .sorted(order)
+        .mapToInt(Integer::intValue)
+        .toArray();
+  }
+
+  private Comparator<Integer> byLong() {
+    return Comparator.comparingLong(i -> longs[i]);
+  }
+
+  private Comparator<Integer> byInt() {
+    return Comparator.comparingInt(i -> ints[i]);
+  }
+
+  private Comparator<Integer> byDouble() {
+    return Comparator.comparingDouble(i -> doubles[i]);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, TEN, MYRIAD, LARGE})
+  @DisplayName("TableSortTest.testPermutation")
+  void testPermutation(int rows) {
+    ColumnTable table = table(rows, TEN);
+    TableSort sort = new TableSort(context);
+    assertArrayEquals(
+        expected(byInt().thenComparing(byLong().reversed())),
+        sort.permutation(table, Key.ascending(1), Key.descending(0)),
+        "Permutation must match.");
+    assertArrayEquals(
+        expected(byDouble().reversed().thenComparing(byInt())),
+        sort.permutation(table, Key.descending(2), Key.ascending(1)),
+        "Permutation must match.");
+    assertArrayEquals(
+        expected(byLong()), sort.permutation(table, Key.ascending(0)), "Permutation must match.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {TEN, MYRIAD, LARGE})
+  @DisplayName("TableSortTest.testSortStable")
+  void testSortStable(int rows) {
+    ColumnTable table = table(rows, 3);
+    int[] expected = expected(byInt().reversed());
+    long[] expectedLongs = new long[rows];
+    for (int i = 0; i < rows; i++) expectedLongs[i] = longs[expected[i]];
+    new TableSort(context).sort(table, Key.descending(1));
+    for (int i = 0; i < rows; i++) {
+      assertEquals(expected[i], rowIds[i], "Equal keys must keep their order.");
+      assertEquals(expectedLongs[i], longs[i], "Columns must follow the keys.");
+    }
+    assertSame(ints, table.getIntColumn(1), "Columns must be sorted in place.");
+  }
+
+  @Test
+  @DisplayName("TableSortTest.testSortWide")
+  void testSortWide() {
+    ColumnTable table = table(LARGE, Integer.MAX_VALUE >> 1);
+    int[] expected = expected(byLong().thenComparing(byInt()));
+    new TableSort(context).sort(table, Key.ascending(0), Key.ascending(1));
+    for (int i = 0; i < LARGE; i++) assertEquals(expected[i], rowIds[i], "Rows must match.");
+  }
+
+  @Test
+  @DisplayName("TableSortTest.testSortDoubles")
+  void testSortDoubles() {
+    double[] values = {
+      Double.NaN, 1.5, -0.0, Double.NEGATIVE_INFINITY, 0.0, -1.5, Double.POSITIVE_INFINITY
+    };
+    ColumnTable table = new ColumnTable(values.length);
+    table.addColumn(values);
+    new TableSort().sort(table, Key.ascending(0));
+    double[] expected = {
+      Double.NEGATIVE_INFINITY, -1.5, -0.0, 0.0, 1.5, Double.POSITIVE_INFINITY, Double.NaN
+    };
+    assertArrayEquals(expected, values, "Doubles must sort like Double.compare.");
+  }
+
+  @Test
+  @DisplayName("TableSortTest.testColumns")
+  void testColumns() {
+    ColumnTable table = new ColumnTable(2);
+    assertEquals(0, table.addColumn(new long[3]), "Index must match.");
+    assertEquals(1, table.addColumn(new int[2]), "Index must match.");
+    assertEquals(2, table.columnCount(), "Column count must match.");
+    assertThrows(IllegalArgumentException.class, () -> table.addColumn(new double[1]));
+    assertThrows(IllegalArgumentException.class, () -> table.getIntColumn(0));
+    assertThrows(IndexOutOfBoundsException.class, () -> table.getLongColumn(2));
+    assertThrows(IllegalArgumentException.class, () -> new ColumnTable(-1));
+    TableSort sort = new TableSort();
+    assertThrows(IllegalArgumentException.class, () -> sort.sort(table));
+    assertThrows(IndexOutOfBoundsException.class, () -> sort.sort(table, Key.ascending(TEN)));
+  }
+
+  @Test
+  @DisplayName("TableSortTest.testSortEmpty")
+  void testSortEmpty() {
+    ColumnTable table = new ColumnTable(0);
+    table.addColumn(new long[0]);
+    assertEquals(0, new TableSort().permutation(table, Key.descending(0)).length, "Empty.");
+  }
+}
@@ -1,8 +1,15 @@
 package ds.tests;
 
+import static ds.tests.TestConstants.ELEMENTS_SORTED_EQUAL;
 import static org.joor.Reflect.*;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 
+import ds.HighArray;
+import ds.IArray;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
 
 @SuppressWarnings("PMD.LawOfDemeter")
 public final class TestUtils {
@@ -14,4 +21,43 @@ public final class TestUtils {
   static int getModCount(Object arr) {
     return ((AtomicInteger) on(arr).get("modCount")).intValue();
   }
+
+  /** {@code length} values in {@code [0, bound)}, the same for the same arguments. */
+  static long[] random(int length, long bound) {
+    return random(length, 0, bound);
+  }
+
+  /** {@code length} values in {@code [origin, bound)}, the same for the same arguments. */
+  static long[] random(int length, long origin, long bound) {
+    return new Random(length + bound).longs(length, origin, bound).toArray();
+  }
+
+  /** A {@link HighArray} of {@code size} random longs, different on every call. */
+  static HighArray randomArray(int size) {
+    HighArray high = new HighArray(size);
+    try (LongStream stream = new Random().longs(size)) {
+      stream.forEach(high::insert);
+    }
+    return high;
+  }
+
+  /** A {@link HighArray} of {@code size} values in {@code [0, size]} drawn from {@code random}. */
+  static HighArray randomArray(int size, Random random) {
+    HighArray high = new HighArray(Math.max(1, size));
+    for (int i = 0; i < size; i++) high.insert(random.nextInt(size + 1));
+    return high;
+  }
+
+  /** Asserts that {@code sorted} holds the elements of {@code original} in ascending order. */
+  static void assertSortedLike(IArray original, IArray sorted) {
+    assertArrayEquals(
+        sorted(original.getExtentArray()), sorted.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+  }
+
+  /** A sorted copy of {@code a}. */
+  static long[] sorted(long[] a) {
+    long[] sorted = a.clone();
+    Arrays.sort(sorted);
+    return sorted;
+  }
 }
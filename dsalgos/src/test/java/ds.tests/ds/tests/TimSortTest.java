@@ -0,0 +1,160 @@
+package ds.tests;
+
+import static ds.ArrayUtils.*;
+import static ds.tests.TestConstants.*;
+import static ds.tests.TestData.*;
+import static ds.tests.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.HighArray;
+import ds.IArray;
+import ds.ISort;
+import ds.SortMetrics;
+import ds.TimSort;
+import java.util.Random;
+import java.util.function.IntToLongFunction;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.aggregator.AggregateWith;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("TimSortTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class TimSortTest {
+
+  private static final int SIZE = MYRIAD * TEN;
+
+  private IArray fill(int size, IntToLongFunction value) {
+    HighArray high = new HighArray(size);
+    for (int i = 0; i < size; i++) high.insert(value.applyAsLong(i));
+    return high;
+  }
+
+  @ParameterizedTest
+  @CsvSource(INIT_DATA)
+  @DisplayName("TimSortTest.testSort")
+  void testSort(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+    long[] a = {00, 11, 22, 33, 44, 55, 66, 77, 88, 99};
+    IArray sorted = arr.sort(new TimSort());
+    assertArrayEquals(a, sorted.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+  }
+
+  @ParameterizedTest
+  @CsvSource(INIT_DUPLICATE_DATA)
+  @DisplayName("TimSortTest.testSortDuplicates")
+  void testSortDuplicates(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+    long[] a = {00, 00, 00, 00, 11, 11, 11, 22, 22, 33, 33, 44, 55, 66, 77, 77, 77, 88, 88, 99, 99};
+    ISort sorter = new TimSort();
+    IArray sorted = sorter.sort(arr);
+    assertArrayEquals(a, sorted.getExtentArray(), ELEMENTS_SORTED_EQUAL);
+  }
+
+  @Test
+  @DisplayName("TimSortTest.testSortRandom")
+  void testSortRandom() {
+    HighArray high = new HighArray(SIZE);
+    Random random = new Random();
+    try (LongStream stream = random.longs().limit(SIZE)) {
+      stream.forEach(i -> high.insert(i));
+    }
+    ISort sorter = new TimSort();
+    assertSortedLike(high, sorter.sort(high));
+    assertTrue(sorter.getComparisonCount() > 0, "Comparison count must be positive.");
+    assertTrue(sorter.getCopyCount() > 0, "Copy count must be positive.");
+  }
+
+  @Test
+  @DisplayName("TimSortTest.testSortPatterns")
+  void testSortPatterns() {
+    ISort sorter = new TimSort();
+    IArray[] arrays = {
+      fill(SIZE, i -> SIZE - i),
+      fill(SIZE, i -> i < SIZE >> 1 ? i : SIZE - i),
+      fill(SIZE, i -> i % HUNDRED),
+      fill(SIZE, i -> i & 1),
+      fill(SIZE, i -> i % THOUSAND < SCORE ? SIZE - i : i),
+      fill(SIZE, i -> Long.rotateLeft(i, 40) ^ (SIZE - i))
+    };
+    for (IArray array : arrays) assertSortedLike(array, sorter.sort(array));
+  }
+
+  @Test
+  @DisplayName("TimSortTest.testSortedIsLinear")
+  void testSortedIsLinear() {
+    ISort sorter = new TimSort();
+    IArray sorted = sorter.sort(fill(SIZE, i -> i));
+    assertTrue(isSorted(sorted), "Elements are sorted.");
+    assertEquals(SIZE - 1, sorter.getComparisonCount(), "Sorted input is a single run.");
+    assertEquals(0, sorter.getCopyCount(), "Sorted input must not be copied.");
+    sorter.sort(fill(SIZE, i -> SIZE - i));
+    assertEquals(SIZE - 1, sorter.getComparisonCount(), "Descending input is a single run.");
+    assertEquals(SIZE >> 1, sorter.getSwapCount(), "Descending run is reversed.");
+  }
+
+  @Test
+  @DisplayName("TimSortTest.testAppendedNearlyLinear")
+  void testAppendedNearlyLinear() {
+    // sorted data with a few late arrivals appended, like log records by timestamp
+    Random random = new Random(SIZE);
+    IArray array = fill(SIZE, i -> i < SIZE - HUNDRED ? i : random.nextInt(SIZE));
+    TimSort sorter = new TimSort();
+    sorter.setMetrics(SortMetrics.full());
+    assertSortedLike(array, sorter.sort(array));
+    assertTrue(sorter.getComparisonCount() < SIZE << 1, "Few appended keys must sort linearly.");
+    assertTrue(sorter.getMetrics().getPhaseTimes().containsKey("merge"), "Merge phase expected.");
+  }
+
+  @Test
+  @DisplayName("TimSortTest.testSortSmall")
+  void testSortSmall() {
+    ISort sorter = new TimSort();
+    for (int size = 1; size < HUNDRED; size++) {
+      Random random = new Random(size);
+      IArray array = fill(size, i -> random.nextInt(TEN));
+      assertSortedLike(array, sorter.sort(array));
+    }
+  }
+
+  @Test
+  @DisplayName("TimSortTest.testSortRuns")
+  void testSortRuns() {
+    ISort sorter = new TimSort();
+    Random random = new Random(MYRIAD);
+    for (int runs = 2; runs < THOUSAND; runs <<= 1) {
+      int runLength = MYRIAD / runs;
+      int fewUnique = runs;
+      IArray array = fill(MYRIAD, i -> random.nextInt(fewUnique) + (i % runLength) * TEN);
+      assertSortedLike(array, sorter.sort(array));
+    }
+  }
+
+  @Test
+  @DisplayName("TimSortTest.testResetCounts")
+  void testResetCounts() {
+    ISort sorter = new TimSort();
+    IArray array = fill(MYRIAD, i -> i % SCORE);
+    sorter.sort(array);
+    int comparisons = sorter.getComparisonCount();
+    sorter.sort(array);
+    assertEquals(comparisons, sorter.getComparisonCount(), "Counts must be reset per sort.");
+  }
+
+  @Test
+  @DisplayName("TimSortTest.testSortEmptyAndSingle")
+  void testSortEmptyAndSingle() {
+    ISort sorter = new TimSort();
+    assertTrue(isSorted(sorter.sort(new HighArray(TEN))), "Empty array is sorted.");
+    HighArray one = new HighArray(TEN);
+    one.insert(TEN);
+    assertTrue(isSorted(sorter.sort(one)), "Single element array is sorted.");
+    assertEquals(0, sorter.getComparisonCount(), INITIAL_VALUE_ZERO);
+  }
+}
@@ -0,0 +1,140 @@
+package ds.tests;
+
+import static ds.tests.TestConstants.*;
+import static ds.tests.TestData.*;
+import static ds.tests.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ds.ExecutionContext;
+import ds.IArray;
+import ds.MaxHeap;
+import ds.TopK;
+import java.util.Arrays;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.aggregator.AggregateWith;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("TopKTest")
+@SuppressWarnings("PMD.LawOfDemeter")
+class TopKTest {
+
+  private static final int LARGE = 1 << 18;
+
+  private final ExecutionContext context = ExecutionContext.withParallelism(4);
+
+  @AfterAll
+  void tearDown() {
+    context.close();
+  }
+
+  private long[] head(long[] a, int k) {
+    return Arrays.copyOf(sorted(a), k);
+  }
+
+  private long[] tail(long[] a, int k) {
+    long[] sorted = sorted(a);
+    long[] largest = new long[k];
+    for (int i = 0; i < k; i++) largest[i] = sorted[sorted.length - 1 - i];
+    return largest;
+  }
+
+  @ParameterizedTest
+  @CsvSource(INIT_DUPLICATE_DATA)
+  @DisplayName("TopKTest.testSmallestLargest")
+  void testSmallestLargest(@AggregateWith(HighArrayArgumentsAggregator.class) IArray arr) {
+    long[] before = arr.getExtentArray();
+    TopK topK = new TopK();
+    assertArrayEquals(new long[] {00, 00, 00, 00, 11}, topK.smallest(arr, 5), "Smallest.");
+    assertArrayEquals(new long[] {99, 99, 88}, topK.largest(arr, 3), "Largest.");
+    assertArrayEquals(before, arr.getExtentArray(), "Array must be left as is.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, TEN, 1000, MYRIAD, MYRIAD * TEN})
+  @DisplayName("TopKTest.testSequential")
+  void testSequential(int k) {
+    long[] a = random(MYRIAD * TEN, 1000);
+    long[] before = a.clone();
+    TopK topK = new TopK(context);
+    assertArrayEquals(head(a, k), topK.smallest(a, a.length, k), "Smallest must match.");
+    assertArrayEquals(tail(a, k), topK.largest(a, a.length, k), "Largest must match.");
+    assertArrayEquals(before, a, "Array must be left as is.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, TEN, HUNDRED, MYRIAD, LARGE >> 3})
+  @DisplayName("TopKTest.testParallel")
+  void testParallel(int k) {
+    long[] a = random(LARGE, Integer.MAX_VALUE);
+    TopK topK = new TopK(context);
+    assertArrayEquals(head(a, k), topK.smallest(a, a.length, k), "Smallest must match.");
+    assertArrayEquals(tail(a, k), topK.largest(a, a.length, k), "Largest must match.");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 2})
+  @DisplayName("TopKTest.testPatterns")
+  void testPatterns(int pattern) {
+    long[] a = new long[LARGE];
+    for (int i = 0; i < LARGE; i++) a[i] = pattern == 0 ? i : pattern == 1 ? LARGE - i : i % 3;
+    TopK topK = new TopK(context);
+    for (int k : new int[] {TEN, MYRIAD, LARGE >> 1}) {
+      assertArrayEquals(head(a, k), topK.smallest(a, a.length, k), "Smallest must match.");
+      assertArrayEquals(tail(a, k), topK.largest(a, a.length, k), "Largest must match.");
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, TEN, MYRIAD - 1, MYRIAD})
+  @DisplayName("TopKTest.testPartialSort")
+  void testPartialSort(int k) {
+    long[] a = random(MYRIAD, HUNDRED);
+    long[] sorted = head(a, MYRIAD);
+    new TopK().partialSort(a, a.length, k);
+    assertArrayEquals(Arrays.copyOf(sorted, k), Arrays.copyOf(a, k), "Prefix must be sorted.");
+    long[] rest = Arrays.copyOfRange(a, k, a.length);
+    Arrays.sort(rest);
+    assertArrayEquals(Arrays.copyOfRange(sorted, k, MYRIAD), rest, "The rest must follow.");
+  }
+
+  @Test
+  @DisplayName("TopKTest.testPrefixOnly")
+  void testPrefixOnly() {
+    long[] a = {5, 4, 3, 2, 1, -1, -2};
+    assertArrayEquals(new long[] {3, 4}, new TopK().smallest(a, 3, 2), "Only the prefix counts.");
+  }
+
+  @Test
+  @DisplayName("TopKTest.testIllegalK")
+  void testIllegalK() {
+    TopK topK = new TopK();
+    long[] a = {1, 2, 3};
+    assertThrows(IllegalArgumentException.class, () -> topK.smallest(a, 3, 4));
+    assertThrows(IllegalArgumentException.class, () -> topK.largest(a, 3, -1));
+    assertThrows(IllegalArgumentException.class, () -> topK.partialSort(a, 2, 3));
+    assertThrows(NullPointerException.class, () -> new TopK(null));
+  }
+
+  @Test
+  @DisplayName("TopKTest.testReplaceTop")
+  void testReplaceTop() {
+    MaxHeap heap = new MaxHeap(3);
+    heap.insert(1);
+    heap.insert(5);
+    heap.insert(3);
+    assertEquals(5, heap.replaceTop(2), "Root must be returned.");
+    assertEquals(3, heap.poll(), "Heap order must hold.");
+    assertEquals(2, heap.poll(), "Heap order must hold.");
+    assertThrows(IllegalStateException.class, () -> new MaxHeap(1).replaceTop(1));
+  }
+}